@@ -1,19 +1,20 @@
 package com.employeemgt.auth.config;
 
 import com.employeemgt.auth.model.EmployeeEvent;
+import com.employeemgt.auth.model.EmployeeEventDeserializer;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -32,6 +33,9 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id:auth-service-group}")
     private String groupId;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public ConsumerFactory<String, EmployeeEvent> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -44,12 +48,9 @@ public class KafkaConsumerConfig {
         // Key deserializer
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         
-        // Value deserializer with error handling
+        // Value deserializer with error handling - accepts JSON and binary events (content-type header)
         props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
-        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
-        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, EmployeeEvent.class.getName());
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false); // Ignore type headers from producer
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, EmployeeEventDeserializer.class.getName());
         
         // Additional consumer settings
         props.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, "30000");
@@ -75,6 +76,14 @@ public class KafkaConsumerConfig {
         // Configure manual acknowledgment mode
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
         
+        // Run the consumer on a virtual thread when the service is in virtual-thread mode
+        // (Boot does this only for the listener factory it creates itself)
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("auth-kafka-");
+            listenerExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+        }
+        
         return factory;
     }
 
@@ -0,0 +1,45 @@
+package com.employeemgt.auth.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Virtual-thread mode, switched on with spring.threads.virtual.enabled=true
+ * Boot then runs Tomcat requests, the application task executor (MVC async, @Async) and
+ * scheduled tasks on virtual threads; KafkaConsumerConfig does the same for its listener.
+ * Database concurrency is bounded by a semaphore in front of each pool instead of by a
+ * request thread cap; unless app.datasource.max-concurrency is set, each one allows as
+ * many callers as its pool has connections
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Hikari's own default, for pools that do not report a size
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimiter(
+            @Value("${app.datasource.max-concurrency:0}") int maxConcurrency,
+            @Value("${app.datasource.acquire-timeout:PT30S}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                int limit = maxConcurrency > 0 ? maxConcurrency
+                        : bean instanceof HikariDataSource pool ? pool.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+                return new ConcurrencyLimitedDataSource(dataSource, limit, acquireTimeout);
+            }
+        };
+    }
+}
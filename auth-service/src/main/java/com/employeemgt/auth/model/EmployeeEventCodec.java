@@ -0,0 +1,200 @@
+package com.employeemgt.auth.model;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hand-written binary encoding of EmployeeEvent
+ * A copy of this class lives in employee-service - keep the two in sync
+ *
+ * Layout, version 1:
+ *   byte    schema version
+ *   byte    presence bits, one per field in the order below; null fields take no space
+ *   varint  employeeId
+ *   string  eventId, employeeCode, firstName, lastName, email, department, action
+ * Strings are an unsigned varint byte length followed by UTF-8
+ *
+ * Version 2 (delta updates) widens the presence bits to a varint and appends:
+ *   varint  changedFields count, then that many strings
+ *   string  previousEmployeeCode
+ * Events without the delta fields are still written as version 1
+ *
+ * Any layout change gets a new version; decode keeps reading the older ones
+ */
+public final class EmployeeEventCodec {
+
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+    public static final String BINARY_CONTENT_TYPE = "application/vnd.employeemgt.employee-event+binary";
+    public static final String JSON_CONTENT_TYPE = "application/json";
+
+    static final byte VERSION = 1;
+    static final byte DELTA_VERSION = 2;
+
+    private static final int EMPLOYEE_ID = 1;
+    private static final int EVENT_ID = 1 << 1;
+    private static final int EMPLOYEE_CODE = 1 << 2;
+    private static final int FIRST_NAME = 1 << 3;
+    private static final int LAST_NAME = 1 << 4;
+    private static final int EMAIL = 1 << 5;
+    private static final int DEPARTMENT = 1 << 6;
+    private static final int ACTION = 1 << 7;
+    private static final int CHANGED_FIELDS = 1 << 8;
+    private static final int PREVIOUS_EMPLOYEE_CODE = 1 << 9;
+
+    private EmployeeEventCodec() {
+    }
+
+    public static byte[] encode(EmployeeEvent event) {
+        Writer writer = new Writer();
+        boolean delta = event.getChangedFields() != null || event.getPreviousEmployeeCode() != null;
+        writer.writeByte(delta ? DELTA_VERSION : VERSION);
+
+        int presence = (event.getEmployeeId() != null ? EMPLOYEE_ID : 0)
+                | (event.getEventId() != null ? EVENT_ID : 0)
+                | (event.getEmployeeCode() != null ? EMPLOYEE_CODE : 0)
+                | (event.getFirstName() != null ? FIRST_NAME : 0)
+                | (event.getLastName() != null ? LAST_NAME : 0)
+                | (event.getEmail() != null ? EMAIL : 0)
+                | (event.getDepartment() != null ? DEPARTMENT : 0)
+                | (event.getAction() != null ? ACTION : 0)
+                | (event.getChangedFields() != null ? CHANGED_FIELDS : 0)
+                | (event.getPreviousEmployeeCode() != null ? PREVIOUS_EMPLOYEE_CODE : 0);
+        if (delta) {
+            writer.writeVarLong(presence);
+        } else {
+            writer.writeByte(presence);
+        }
+
+        if (event.getEmployeeId() != null) {
+            writer.writeVarLong(event.getEmployeeId());
+        }
+        writer.writeString(event.getEventId());
+        writer.writeString(event.getEmployeeCode());
+        writer.writeString(event.getFirstName());
+        writer.writeString(event.getLastName());
+        writer.writeString(event.getEmail());
+        writer.writeString(event.getDepartment());
+        writer.writeString(event.getAction());
+        if (event.getChangedFields() != null) {
+            writer.writeVarLong(event.getChangedFields().size());
+            for (String field : event.getChangedFields()) {
+                writer.writeString(field);
+            }
+        }
+        writer.writeString(event.getPreviousEmployeeCode());
+        return writer.toByteArray();
+    }
+
+    public static EmployeeEvent decode(byte[] data) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            byte version = buffer.get();
+            if (version != VERSION && version != DELTA_VERSION) {
+                throw new IllegalArgumentException("Unsupported employee event schema version " + version);
+            }
+
+            int presence = version == VERSION ? buffer.get() & 0xFF : (int) readVarLong(buffer);
+            EmployeeEvent event = new EmployeeEvent();
+            if ((presence & EMPLOYEE_ID) != 0) {
+                event.setEmployeeId(readVarLong(buffer));
+            }
+            event.setEventId(readString(buffer, presence, EVENT_ID));
+            event.setEmployeeCode(readString(buffer, presence, EMPLOYEE_CODE));
+            event.setFirstName(readString(buffer, presence, FIRST_NAME));
+            event.setLastName(readString(buffer, presence, LAST_NAME));
+            event.setEmail(readString(buffer, presence, EMAIL));
+            event.setDepartment(readString(buffer, presence, DEPARTMENT));
+            event.setAction(readString(buffer, presence, ACTION));
+            if ((presence & CHANGED_FIELDS) != 0) {
+                int count = (int) readVarLong(buffer);
+                if (count < 0 || count > buffer.remaining()) {
+                    throw new IllegalArgumentException("Invalid changed field count " + count + " in employee event");
+                }
+                List<String> changedFields = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    changedFields.add(readString(buffer, CHANGED_FIELDS, CHANGED_FIELDS));
+                }
+                event.setChangedFields(changedFields);
+            }
+            event.setPreviousEmployeeCode(readString(buffer, presence, PREVIOUS_EMPLOYEE_CODE));
+            return event;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated employee event", e);
+        }
+    }
+
+    // Helper
+    private static String readString(ByteBuffer buffer, int presence, int field) {
+        if ((presence & field) == 0) {
+            return null;
+        }
+        int length = (int) readVarLong(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length " + length + " in employee event");
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    // Helper - unsigned LEB128
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in employee event");
+    }
+
+    /**
+     * Growable output buffer, sized for a typical event so it rarely grows
+     */
+    private static final class Writer {
+        private byte[] bytes = new byte[128];
+        private int size;
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length);
+            ensureCapacity(utf8.length);
+            System.arraycopy(utf8, 0, bytes, size, utf8.length);
+            size += utf8.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+    }
+}
@@ -94,21 +94,45 @@ public class EmployeeEventConsumer {
         }
     }
 
+    /**
+     * Apply an update event - a delta sets only the fields it lists as changed,
+     * an event without changedFields replaces all of them
+     */
     private void handleEmployeeUpdated(EmployeeEvent event) {
+        // HR-only updates are published for other employee-service nodes; nothing here changed
+        if (event.getChangedFields() != null && event.getChangedFields().isEmpty()
+                && event.getPreviousEmployeeCode() == null) {
+            logger.debug("Skipping employee updated event {} with no auth-relevant changes", event.getEventId());
+            return;
+        }
+
         logger.info("Processing employee updated event: {}", event.getEventId());
 
-        Optional<User> userOpt = userRepository.findByEmployeeCode(event.getEmployeeCode());
+        // A changed employee code is still stored under the previous one
+        String employeeCode = event.getPreviousEmployeeCode() != null
+                ? event.getPreviousEmployeeCode() : event.getEmployeeCode();
+        Optional<User> userOpt = userRepository.findByEmployeeCode(employeeCode);
         
         if (userOpt.isPresent()) {
             User user = userOpt.get();
-            user.setFirstName(event.getFirstName());
-            user.setLastName(event.getLastName());
-            user.setEmail(event.getEmail());
+            if (event.getPreviousEmployeeCode() != null) {
+                user.setEmployeeCode(event.getEmployeeCode());
+            }
+            if (event.hasChanged(EmployeeEvent.FIRST_NAME)) {
+                user.setFirstName(event.getFirstName());
+            }
+            if (event.hasChanged(EmployeeEvent.LAST_NAME)) {
+                user.setLastName(event.getLastName());
+            }
+            if (event.hasChanged(EmployeeEvent.EMAIL)) {
+                user.setEmail(event.getEmail());
+            }
             userRepository.save(user);
             
-            logger.info("Updated user details for employee code: {}", event.getEmployeeCode());
+            logger.info("Updated user details {} for employee code: {}",
+                       event.getChangedFields() != null ? event.getChangedFields() : "(all)", event.getEmployeeCode());
         } else {
-            logger.warn("User not found for employee code: {}", event.getEmployeeCode());
+            logger.warn("User not found for employee code: {}", employeeCode);
         }
     }
 
@@ -0,0 +1,70 @@
+package com.employeemgt.auth.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Size and decode time of one employee event as binary vs JSON, through the
+ * EmployeeEventDeserializer the consumer uses
+ *
+ * Not picked up by the default surefire includes; run it explicitly with
+ * mvn test -Dtest=EmployeeEventCodecBenchmark
+ */
+class EmployeeEventCodecBenchmark {
+
+    private static final String TOPIC = "employee-events";
+    private static final int WARM_UP = 200_000;
+    private static final int MEASURE = 1_000_000;
+
+    @Test
+    void compareSizeAndDecodeTime() throws Exception {
+        // Arrange
+        EmployeeEvent full = new EmployeeEvent("3f1c9a52-7d4e-4b8a-9c21-6e0f5b7a8d13", 1024L, "EMP001024",
+                "John", "Doe", "john.doe@company.com", "Engineering", "UPDATE");
+        EmployeeEvent delta = new EmployeeEvent("7b2e4c10-1a9f-4d3e-8c55-2f6a0e9b4d21", 1024L, "EMP001024",
+                null, null, "j.doe@company.com", null, "UPDATE");
+        delta.setChangedFields(List.of(EmployeeEvent.EMAIL));
+        ObjectMapper objectMapper = new ObjectMapper();
+        EmployeeEventDeserializer deserializer = new EmployeeEventDeserializer();
+
+        // Act & Assert - only correctness; the numbers depend on the machine
+        System.out.printf("%n%-6s %-7s %8s %12s%n", "event", "format", "bytes", "ns/decode");
+        for (EmployeeEvent event : List.of(full, delta)) {
+            String name = event == full ? "full" : "delta";
+            measure(name, "binary", EmployeeEventCodec.encode(event), binaryHeaders(), deserializer, event);
+            measure(name, "json", objectMapper.writeValueAsBytes(event), new RecordHeaders(), deserializer, event);
+        }
+    }
+
+    // Helper
+    private static void measure(String name, String format, byte[] data, RecordHeaders headers,
+                                EmployeeEventDeserializer deserializer, EmployeeEvent expected) {
+        long checksum = 0;
+        for (int i = 0; i < WARM_UP; i++) {
+            checksum += deserializer.deserialize(TOPIC, headers, data).getEmployeeId();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURE; i++) {
+            checksum += deserializer.deserialize(TOPIC, headers, data).getEmployeeId();
+        }
+        long elapsed = System.nanoTime() - started;
+
+        assertEquals(expected.getEmployeeId() * (WARM_UP + MEASURE), checksum);
+        assertEquals(expected.getEmail(), deserializer.deserialize(TOPIC, headers, data).getEmail());
+        System.out.printf("%-6s %-7s %8d %12.1f%n", name, format, data.length, (double) elapsed / MEASURE);
+    }
+
+    // Helper
+    private static RecordHeaders binaryHeaders() {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(EmployeeEventCodec.CONTENT_TYPE_HEADER,
+                EmployeeEventCodec.BINARY_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+}
@@ -0,0 +1,171 @@
+package com.employeemgt.auth.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Consumer side of the employee-events format
+ * The fixtures are bytes written by the employee-service encoder, so a change there that
+ * this copy cannot read fails here
+ */
+class EmployeeEventCodecTest {
+
+    private static final String TOPIC = "employee-events";
+
+    // Version 1: new EmployeeEvent("e-1", 1024L, "EMP001024", "Zoë", "Doe", "zoe.doe@company.com", "Engineering", "UPDATE")
+    private static final byte[] PRODUCED_V1 = HexFormat.of().parseHex(
+            "01ff800803652d3109454d50303031303234045a6fc3ab03446f65137a6f652e646f6540636f6d70616e792e636f6d"
+                    + "0b456e67696e656572696e6706555044415445");
+
+    // Version 2: code change of employee 300 from EMP000300 to EMP000301, no profile fields
+    private static final byte[] PRODUCED_V2 = HexFormat.of().parseHex(
+            "028707ac0203652d3209454d5030303033303106555044415445010c656d706c6f796565436f646509454d50303030333030");
+
+    @Test
+    void decode_VersionOneFromTheProducer_ShouldReadEveryField() {
+        // Act
+        EmployeeEvent decoded = EmployeeEventCodec.decode(PRODUCED_V1);
+
+        // Assert
+        assertEventEquals(new EmployeeEvent("e-1", 1024L, "EMP001024", "Zoë", "Doe", "zoe.doe@company.com",
+                "Engineering", "UPDATE"), decoded);
+        assertNull(decoded.getChangedFields());
+        assertNull(decoded.getPreviousEmployeeCode());
+    }
+
+    @Test
+    void decode_VersionTwoFromTheProducer_ShouldReadTheDelta() {
+        // Act
+        EmployeeEvent decoded = EmployeeEventCodec.decode(PRODUCED_V2);
+
+        // Assert
+        assertEventEquals(new EmployeeEvent("e-2", 300L, "EMP000301", null, null, null, null, "UPDATE"), decoded);
+        assertEquals(List.of(EmployeeEvent.EMPLOYEE_CODE), decoded.getChangedFields());
+        assertEquals("EMP000300", decoded.getPreviousEmployeeCode());
+        assertTrue(decoded.hasChanged(EmployeeEvent.EMPLOYEE_CODE));
+        assertFalse(decoded.hasChanged(EmployeeEvent.EMAIL));
+    }
+
+    @Test
+    void encode_ShouldMatchTheProducerByteForByte() {
+        // Arrange
+        EmployeeEvent delta = new EmployeeEvent("e-2", 300L, "EMP000301", null, null, null, null, "UPDATE");
+        delta.setChangedFields(List.of(EmployeeEvent.EMPLOYEE_CODE));
+        delta.setPreviousEmployeeCode("EMP000300");
+
+        // Act & Assert - the two copies must not drift apart
+        assertArrayEquals(PRODUCED_V1, EmployeeEventCodec.encode(EmployeeEventCodec.decode(PRODUCED_V1)));
+        assertArrayEquals(PRODUCED_V2, EmployeeEventCodec.encode(delta));
+    }
+
+    @Test
+    void encode_ThenDecode_ShouldKeepNullFieldsNull() {
+        // Arrange
+        EmployeeEvent event = new EmployeeEvent("event-1", 42L, null, "Zoë", null, null, null, "DELETE");
+
+        // Act
+        EmployeeEvent decoded = EmployeeEventCodec.decode(EmployeeEventCodec.encode(event));
+
+        // Assert
+        assertEventEquals(event, decoded);
+    }
+
+    @Test
+    void decode_WithUnknownVersion_ShouldThrowException() {
+        // Arrange
+        byte[] data = PRODUCED_V2.clone();
+        data[0] = 3;
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> EmployeeEventCodec.decode(data));
+    }
+
+    @Test
+    void decode_WithTruncatedData_ShouldThrowException() {
+        // Arrange
+        byte[] truncated = Arrays.copyOf(PRODUCED_V1, PRODUCED_V1.length - 5);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> EmployeeEventCodec.decode(truncated));
+    }
+
+    @Test
+    void deserializer_WithBinaryContentType_ShouldDecodeBinary() {
+        // Arrange
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(EmployeeEventCodec.CONTENT_TYPE_HEADER,
+                EmployeeEventCodec.BINARY_CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        EmployeeEvent decoded = new EmployeeEventDeserializer().deserialize(TOPIC, headers, PRODUCED_V2);
+
+        // Assert
+        assertEquals("EMP000300", decoded.getPreviousEmployeeCode());
+    }
+
+    @Test
+    void deserializer_WithoutHeader_ShouldReadLegacyJsonAndIgnoreUnknownFields() {
+        // Arrange - produced before the header existed, by a producer that knows a field this consumer does not
+        byte[] json = ("{\"eventId\":\"e-1\",\"employeeId\":1024,\"employeeCode\":\"EMP001024\","
+                + "\"action\":\"CREATE\",\"hiredOn\":\"2024-01-01\"}").getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        EmployeeEvent decoded = new EmployeeEventDeserializer().deserialize(TOPIC, new RecordHeaders(), json);
+
+        // Assert
+        assertEventEquals(new EmployeeEvent("e-1", 1024L, "EMP001024", null, null, null, null, "CREATE"), decoded);
+    }
+
+    @Test
+    void deserializer_WithoutHeader_ShouldReadBinary() {
+        // Act
+        EmployeeEvent decoded = new EmployeeEventDeserializer().deserialize(TOPIC, PRODUCED_V1);
+
+        // Assert
+        assertEquals("EMP001024", decoded.getEmployeeCode());
+    }
+
+    @Test
+    void deserializer_WithCorruptBinary_ShouldThrowSerializationException() {
+        // Arrange
+        byte[] corrupt = Arrays.copyOf(PRODUCED_V1, 4);
+
+        // Act & Assert
+        assertThrows(SerializationException.class,
+                () -> new EmployeeEventDeserializer().deserialize(TOPIC, corrupt));
+    }
+
+    @Test
+    void binaryFormat_ShouldBeSmallerThanJson() throws Exception {
+        // Arrange
+        EmployeeEvent event = EmployeeEventCodec.decode(PRODUCED_V1);
+
+        // Act
+        byte[] json = new ObjectMapper().writeValueAsBytes(event);
+
+        // Assert
+        assertTrue(PRODUCED_V1.length < json.length,
+                "binary " + PRODUCED_V1.length + " bytes vs json " + json.length + " bytes");
+    }
+
+    // Helper
+    private void assertEventEquals(EmployeeEvent expected, EmployeeEvent actual) {
+        assertEquals(expected.getEventId(), actual.getEventId());
+        assertEquals(expected.getEmployeeId(), actual.getEmployeeId());
+        assertEquals(expected.getEmployeeCode(), actual.getEmployeeCode());
+        assertEquals(expected.getFirstName(), actual.getFirstName());
+        assertEquals(expected.getLastName(), actual.getLastName());
+        assertEquals(expected.getEmail(), actual.getEmail());
+        assertEquals(expected.getDepartment(), actual.getDepartment());
+        assertEquals(expected.getAction(), actual.getAction());
+    }
+}
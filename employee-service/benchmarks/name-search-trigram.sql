@@ -0,0 +1,40 @@
+-- Name search benchmark: sequential scan vs pg_trgm GIN indexes at 1M employees
+-- Run against a scratch database migrated up to V6:
+--   psql -d employee_bench -f benchmarks/name-search-trigram.sql
+-- Compare the two EXPLAIN ANALYZE outputs (plan shape, buffers, execution time).
+
+\timing on
+
+-- 1M synthetic employees spread over the seeded departments
+INSERT INTO employees (employee_code, first_name, last_name, email, hire_date, job_title, salary, status, department_id)
+SELECT 'BEN' || g,
+       (ARRAY['John','Jane','Bob','Alice','Charlie','Maria','Ahmed','Chen','Olga','Priya'])[1 + g % 10] || (g % 997),
+       (ARRAY['Doe','Smith','Johnson','Williams','Brown','Garcia','Khan','Wang','Ivanova','Patel'])[1 + (g / 10) % 10] || (g % 991),
+       'bench' || g || '@company.com',
+       DATE '2015-01-01' + (g % 3650),
+       'Engineer',
+       50000 + (g % 50000),
+       'ACTIVE',
+       1 + g % 5
+FROM generate_series(1, 1000000) AS g;
+
+ANALYZE employees;
+
+-- Old plan: trigram indexes disabled, equivalent to the pre-V6 schema
+BEGIN;
+DROP INDEX idx_employees_first_name_trgm;
+DROP INDEX idx_employees_last_name_trgm;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees
+WHERE lower(first_name) LIKE '%olga12%' ESCAPE '\' OR lower(last_name) LIKE '%olga12%' ESCAPE '\'
+LIMIT 10;
+ROLLBACK;
+
+-- New plan: BitmapOr over the two GIN trigram indexes
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees
+WHERE lower(first_name) LIKE '%olga12%' ESCAPE '\' OR lower(last_name) LIKE '%olga12%' ESCAPE '\'
+LIMIT 10;
+
+-- Clean up the synthetic rows
+DELETE FROM employees WHERE employee_code LIKE 'BEN%';
@@ -0,0 +1,56 @@
+package com.employeemgt.employee.config;
+
+import com.employeemgt.employee.model.EmployeeEvent;
+import com.employeemgt.employee.model.EmployeeEventDeserializer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kafka Consumer Configuration for Employee Service
+ * The service consumes its own employee-events topic to invalidate per-instance caches
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean
+    public ConsumerFactory<String, EmployeeEvent> employeeEventConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
+
+        // Reads both the JSON and the binary format, whichever KafkaProducerConfig is set to
+        return new DefaultKafkaConsumerFactory<>(configProps,
+                new StringDeserializer(), new ErrorHandlingDeserializer<>(new EmployeeEventDeserializer()));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, EmployeeEvent> employeeEventListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, EmployeeEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(employeeEventConsumerFactory());
+        // Boot only switches its own listener factory to virtual threads, so do the same here
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("employee-events-");
+            listenerExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+        }
+        return factory;
+    }
+}
@@ -1,6 +1,7 @@
 package com.employeemgt.employee.config;
 
 import com.employeemgt.employee.model.EmployeeEvent;
+import com.employeemgt.employee.model.EmployeeEventSerializer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,7 +10,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -24,6 +24,10 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    // json or binary - switch to binary once every consumer reads both (see EmployeeEventDeserializer)
+    @Value("${app.kafka.employee-events.format:json}")
+    private String employeeEventFormat;
+
     @Bean
     public ProducerFactory<String, EmployeeEvent> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -31,8 +35,8 @@ public class KafkaProducerConfig {
         // Basic Kafka producer configuration
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false); // Don't add type headers
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, EmployeeEventSerializer.class);
+        configProps.put(EmployeeEventSerializer.FORMAT_CONFIG, employeeEventFormat);
         
         // Additional producer settings for reliability
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
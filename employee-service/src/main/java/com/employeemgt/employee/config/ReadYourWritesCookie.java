@@ -0,0 +1,42 @@
+package com.employeemgt.employee.config;
+
+import org.springframework.http.ResponseCookie;
+
+import java.time.Duration;
+
+/**
+ * Cookie a write response carries so its caller's next reads go to the primary, whichever
+ * instance serves them
+ * The value is the epoch millisecond the window ends. ReadYourWritesInterceptor issues and
+ * honours it, the reactive read application honours it too
+ */
+public final class ReadYourWritesCookie {
+
+    public static final String NAME = "EMS_PRIMARY_UNTIL";
+
+    private ReadYourWritesCookie() {
+    }
+
+    public static ResponseCookie issue(Duration stickiness) {
+        return ResponseCookie.from(NAME, Long.toString(System.currentTimeMillis() + stickiness.toMillis()))
+                .maxAge(stickiness)
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+    }
+
+    /**
+     * Whether a cookie value still asks for the primary; a missing or malformed one does not
+     */
+    public static boolean isFresh(String value) {
+        if (value == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(value) > System.currentTimeMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
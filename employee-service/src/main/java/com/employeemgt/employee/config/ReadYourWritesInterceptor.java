@@ -0,0 +1,126 @@
+package com.employeemgt.employee.config;
+
+import com.employeemgt.employee.event.EmployeeChangedEvent;
+import com.employeemgt.employee.model.EmployeeEvent;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a caller's reads on the primary for a while after they, or their own employee
+ * record, were written, so the replica's lag cannot hide the change from them
+ *
+ * The window follows the caller to every instance:
+ * - a write request's response sets ReadYourWritesCookie, which any instance (and the
+ *   reactive read application) honours
+ * - a changed employee record is remembered by employee code, here after commit and on the
+ *   other instances from the employee-events topic, usually within a second
+ * Callers are identified by the X-Employee-Code header. A client that drops cookies only
+ * keeps its own writes visible if the gateway routes it to the same instance every time
+ */
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String EMPLOYEE_CODE_HEADER = "X-Employee-Code";
+
+    private final Duration stickiness;
+    private final long stickinessNanos;
+
+    // Employee code -> System.nanoTime() of its latest write
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesInterceptor(Duration stickiness) {
+        this.stickiness = stickiness;
+        this.stickinessNanos = stickiness.toNanos();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isWrite(request)) {
+            // Set before the handler runs, the response is committed by afterCompletion.
+            // A write that fails only costs its caller a few reads on the primary
+            response.addHeader(HttpHeaders.SET_COOKIE, ReadYourWritesCookie.issue(stickiness).toString());
+        }
+        String employeeCode = request.getHeader(EMPLOYEE_CODE_HEADER);
+        Cookie cookie = WebUtils.getCookie(request, ReadYourWritesCookie.NAME);
+        if ((employeeCode != null && isSticky(employeeCode))
+                || (cookie != null && ReadYourWritesCookie.isFresh(cookie.getValue()))) {
+            ReplicaRoutingDataSource.pinToPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ReplicaRoutingDataSource.unpin();
+        String employeeCode = request.getHeader(EMPLOYEE_CODE_HEADER);
+        if (isWrite(request) && response.getStatus() < 400) {
+            recordWrite(employeeCode);
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // afterCompletion runs on another thread for async requests
+        ReplicaRoutingDataSource.unpin();
+    }
+
+    /**
+     * The employee whose record changed reads it from the primary for the next window
+     */
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        recordWrite(event.getPrevious() != null ? event.getPrevious().getEmployeeCode() : null);
+        recordWrite(event.getCurrent() != null ? event.getCurrent().getEmployeeCode() : null);
+    }
+
+    /**
+     * Records changed through other instances, so their employees read them from the primary here too
+     */
+    @KafkaListener(
+            topics = "${app.kafka.topic.employee-events:employee-events}",
+            groupId = "read-your-writes-#{T(java.util.UUID).randomUUID().toString()}",
+            containerFactory = "employeeEventListenerFactory",
+            autoStartup = "${app.datasource.replica.shared-stickiness:true}",
+            properties = "auto.offset.reset=latest")
+    public void onEmployeeEvent(EmployeeEvent event) {
+        if (event != null) {
+            recordWrite(event.getEmployeeCode());
+            recordWrite(event.getPreviousEmployeeCode());
+        }
+    }
+
+    void recordWrite(String employeeCode) {
+        if (employeeCode != null) {
+            lastWrites.put(employeeCode, System.nanoTime());
+        }
+    }
+
+    boolean isSticky(String employeeCode) {
+        Long writtenAt = lastWrites.get(employeeCode);
+        return writtenAt != null && System.nanoTime() - writtenAt < stickinessNanos;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.stickiness-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(writtenAt -> now - writtenAt >= stickinessNanos);
+    }
+
+    // Helper
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method);
+    }
+}
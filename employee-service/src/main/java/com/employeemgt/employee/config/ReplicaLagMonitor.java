@@ -0,0 +1,55 @@
+package com.employeemgt.employee.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Polls the replica's replay lag and takes it out of read routing while it is too far behind
+ * The replica counts as unavailable until the first check passes and whenever a check fails
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean replicaAvailable;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        boolean available;
+        try {
+            Double lagSeconds = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+            available = lagSeconds != null && lagSeconds * 1000 <= maxLag.toMillis();
+            if (!available && replicaAvailable) {
+                logger.warn("Replica lag of {} s exceeds {}, routing reads to the primary", lagSeconds, maxLag);
+            }
+        } catch (RuntimeException e) {
+            available = false;
+            if (replicaAvailable) {
+                logger.warn("Replica lag check failed, routing reads to the primary", e);
+            }
+        }
+        if (available && !replicaAvailable) {
+            logger.info("Replica caught up, routing read-only transactions to it");
+        }
+        replicaAvailable = available;
+    }
+}
@@ -0,0 +1,91 @@
+package com.employeemgt.employee.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read-replica routing, switched on by setting app.datasource.replica.url
+ * The primary pool keeps the spring.datasource settings, the replica pool takes
+ * app.datasource.replica.* (credentials default to the primary's) and the DataSource
+ * everyone else sees routes between the two - see ReplicaRoutingDataSource
+ * Requires spring.jpa.open-in-view=false and refuses to start without it
+ */
+@Configuration
+@ConditionalOnProperty("app.datasource.replica.url")
+public class ReplicaRoutingConfig {
+
+    // Zero on a primary or a standby that has replayed everything it received
+    private static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() " +
+            "THEN 0 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${app.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${app.datasource.replica.max-lag:PT5S}") Duration maxLag) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery.isEmpty() ? POSTGRES_LAG_QUERY : lagQuery, maxLag);
+    }
+
+    @Bean
+    public ReadYourWritesInterceptor readYourWritesInterceptor(
+            @Value("${app.datasource.replica.stickiness:PT10S}") Duration stickiness) {
+        return new ReadYourWritesInterceptor(stickiness);
+    }
+
+    // Lazy, so the target is picked once the transaction's read-only flag is set
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        // The request-scoped EntityManager would pin every transaction to the first one's target,
+        // sending writes after a read-only transaction to the replica
+        if (openInView) {
+            throw new IllegalStateException(
+                    "Read-replica routing requires spring.jpa.open-in-view=false");
+        }
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor::isReplicaAvailable));
+    }
+}
@@ -0,0 +1,60 @@
+package com.employeemgt.employee.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary
+ * The target is picked when a connection is first needed, so this must sit behind a
+ * LazyConnectionDataSourceProxy: by the first statement the transaction's read-only
+ * flag is known. Reads stay on the primary while the replica lags too far behind, and
+ * while the current thread is pinned there to see its caller's recent writes.
+ *
+ * Open-in-view must be off: the request's EntityManager would keep its first connection,
+ * so the first transaction of a request would decide for the rest of it
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final BooleanSupplier replicaAvailable;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Route every read on the current thread to the primary until unpin
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    static boolean isPinned() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // Also set for read-only SUPPORTS methods running without a transaction
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly || isPinned() || !replicaAvailable.getAsBoolean()) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+}
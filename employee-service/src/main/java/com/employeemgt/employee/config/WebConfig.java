@@ -1,6 +1,7 @@
 package com.employeemgt.employee.config;
 
 import com.employeemgt.employee.security.RoleGuard;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -12,6 +13,9 @@ public class WebConfig implements WebMvcConfigurer {
     @Autowired
     private RoleGuard roleGuard;
 
+    @Autowired
+    private ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(roleGuard)
@@ -22,5 +26,7 @@ public class WebConfig implements WebMvcConfigurer {
                     "/api/departments/health",
                     "/api/employees/public/**"
                 );
+        // Only present when a read replica is configured
+        readYourWritesInterceptor.ifAvailable(registry::addInterceptor);
     }
 }
\ No newline at end of file
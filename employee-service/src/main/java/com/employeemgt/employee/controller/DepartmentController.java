@@ -4,17 +4,22 @@ import com.employeemgt.employee.dto.ApiResponse;
 import com.employeemgt.employee.dto.DepartmentFilterRequest;
 import com.employeemgt.employee.dto.DepartmentRequest;
 import com.employeemgt.employee.dto.DepartmentResponse;
+import com.employeemgt.employee.dto.DepartmentStats;
 import com.employeemgt.employee.dto.PaginatedApiResponse;
 import com.employeemgt.employee.security.RoleRequired;
+import com.employeemgt.employee.service.DepartmentHeadcountRepairJob;
 import com.employeemgt.employee.service.DepartmentService;
+import com.employeemgt.employee.service.DepartmentStatsAggregator;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -25,21 +30,40 @@ public class DepartmentController {
     @Autowired
     private DepartmentService departmentService;
 
+    @Autowired
+    private DepartmentHeadcountRepairJob headcountRepairJob;
+
+    @Autowired
+    private DepartmentStatsAggregator departmentStatsAggregator;
+
     @GetMapping("/all")
     @RoleRequired({ "ADMIN" })
     public ResponseEntity<PaginatedApiResponse<DepartmentResponse>> getDepartments(
             @Valid DepartmentFilterRequest filter) {
         
-        Page<DepartmentResponse> departments = departmentService.getDepartmentsWithFilters(filter);
+        Slice<DepartmentResponse> departments = departmentService.getDepartmentsWithCountMode(filter);
         
         return ResponseEntity.ok(PaginatedApiResponse.of(departments, "Departments retrieved successfully"));
     }
 
+    @GetMapping("/stats")
+    @RoleRequired({"ADMIN"})
+    public ResponseEntity<ApiResponse<List<DepartmentStats>>> getDepartmentStats() {
+        List<DepartmentStats> stats = departmentStatsAggregator.getStats();
+        return ResponseEntity.ok(ApiResponse.success("Department stats retrieved successfully", stats));
+    }
+
     @GetMapping("/{id}")
     @RoleRequired({"ADMIN"})
-    public ResponseEntity<ApiResponse<DepartmentResponse>> getDepartmentById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<DepartmentResponse>> getDepartmentById(@PathVariable Long id,
+                                                                            WebRequest webRequest) {
+        String eTag = departmentService.getDepartmentETag(id);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         DepartmentResponse department = departmentService.getDepartmentById(id);
-        return ResponseEntity.ok(ApiResponse.success("Department details retrieved successfully", department));
+        return ResponseEntity.ok().eTag(eTag)
+                .body(ApiResponse.success("Department details retrieved successfully", department));
     }
 
     @PostMapping
@@ -65,6 +89,14 @@ public class DepartmentController {
         return ResponseEntity.noContent().build();
     }
 
+    // Admin endpoint - recompute stored headcounts and report the departments that drifted
+    @PostMapping("/headcount/repair")
+    @RoleRequired({ "ADMIN" })
+    public ResponseEntity<ApiResponse<List<DepartmentHeadcountRepairJob.HeadcountDrift>>> repairHeadcounts() {
+        List<DepartmentHeadcountRepairJob.HeadcountDrift> drifts = headcountRepairJob.repair();
+        return ResponseEntity.ok(ApiResponse.success("Department headcounts repaired", drifts));
+    }
+
     @GetMapping("/health")
     public ResponseEntity<ApiResponse<Map<String, String>>> health() {
         Map<String, String> status = new HashMap<>();
@@ -1,21 +1,34 @@
 package com.employeemgt.employee.controller;
 
 import com.employeemgt.employee.dto.ApiResponse;
+import com.employeemgt.employee.dto.BulkEmployeeResult;
+import com.employeemgt.employee.dto.EmployeeField;
 import com.employeemgt.employee.dto.EmployeeFilterRequest;
 import com.employeemgt.employee.dto.EmployeeRequest;
 import com.employeemgt.employee.dto.EmployeeResponse;
+import com.employeemgt.employee.dto.EmployeeSuggestion;
+import com.employeemgt.employee.dto.ExportFormat;
+import com.employeemgt.employee.dto.HierarchyMember;
 import com.employeemgt.employee.dto.PaginatedApiResponse;
+import com.employeemgt.employee.dto.SpanOfControl;
 import com.employeemgt.employee.security.RoleRequired;
+import com.employeemgt.employee.service.ETags;
 import com.employeemgt.employee.service.EmployeeService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/employees")
@@ -32,6 +45,19 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("Employee created successfully", employee));
     }
 
+    @PostMapping("/bulk")
+    @RoleRequired({ "ADMIN" })
+    public ResponseEntity<ApiResponse<List<BulkEmployeeResult>>> createEmployees(
+            @RequestBody List<EmployeeRequest> requests) {
+        List<BulkEmployeeResult> results = employeeService.createEmployees(requests);
+        long created = results.stream().filter(BulkEmployeeResult::isCreated).count();
+        // 207 when only some rows were created, 400 when none were; the rows say which and why
+        HttpStatus status = created == results.size() ? HttpStatus.OK
+                : created > 0 ? HttpStatus.MULTI_STATUS : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(new ApiResponse<>(created > 0,
+                created + " of " + results.size() + " employees created", results));
+    }
+
     @PutMapping("/{id}")
     @RoleRequired({ "ADMIN" })
     public ResponseEntity<ApiResponse<EmployeeResponse>> updateEmployee(
@@ -51,27 +77,87 @@ public class EmployeeController {
 
     @GetMapping
     @RoleRequired({ "ADMIN" })
-    public ResponseEntity<PaginatedApiResponse<EmployeeResponse>> getEmployees(
+    public ResponseEntity<PaginatedApiResponse<?>> getEmployees(
             EmployeeFilterRequest filter) {
-        Page<EmployeeResponse> employees = employeeService.getEmployeesWithFilters(filter);
-        return ResponseEntity.ok(PaginatedApiResponse.of(employees, "Employees retrieved successfully"));
+        return ResponseEntity.ok(listEmployees(filter, "Employees retrieved successfully"));
     }
 
-    // Admin endpoint - full filtering capabilities
+    // Admin endpoint - full filtering capabilities, fields= narrows each row to the listed properties
     @GetMapping("/all")
     @RoleRequired({ "ADMIN" })
-    public ResponseEntity<PaginatedApiResponse<EmployeeResponse>> getAllEmployeesForAdmin(
+    public ResponseEntity<PaginatedApiResponse<?>> getAllEmployeesForAdmin(
             EmployeeFilterRequest filter) {
-        Page<EmployeeResponse> employees = employeeService.getEmployeesWithFilters(filter);
-        return ResponseEntity.ok(PaginatedApiResponse.of(employees, "All employees retrieved successfully"));
+        return ResponseEntity.ok(listEmployees(filter, "All employees retrieved successfully"));
+    }
+
+    // Admin endpoint - stream the whole filtered directory without pagination
+    @GetMapping("/export")
+    @RoleRequired({ "ADMIN" })
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            EmployeeFilterRequest filter,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        // Reject unknown fields now, while an error can still become a 400
+        filter.getFieldSet();
+        StreamingResponseBody body = outputStream -> employeeService.exportEmployees(filter, exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"employees." + exportFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
+    // Admin endpoint - prefix search over names, emails and employee codes
+    @GetMapping("/typeahead")
+    @RoleRequired({ "ADMIN" })
+    public ResponseEntity<ApiResponse<List<EmployeeSuggestion>>> typeahead(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<EmployeeSuggestion> suggestions = employeeService.suggestEmployees(query, limit);
+        return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved successfully", suggestions));
     }
 
     // Admin endpoint - view any employee by ID
     @GetMapping("/{id}")
     @RoleRequired({ "ADMIN" })
-    public ResponseEntity<ApiResponse<EmployeeResponse>> getEmployeeByIdForAdmin(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<EmployeeResponse>> getEmployeeByIdForAdmin(@PathVariable Long id,
+                                                                               WebRequest webRequest) {
+        // Tag first: if the employee changes in between, the client just refetches on its next poll
+        String eTag = employeeService.getEmployeeETag(id);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         EmployeeResponse employee = employeeService.getEmployeeById(id);
-        return ResponseEntity.ok(ApiResponse.success("Employee details retrieved successfully", employee));
+        return ResponseEntity.ok().eTag(eTag)
+                .body(ApiResponse.success("Employee details retrieved successfully", employee));
+    }
+
+    // Admin endpoint - everyone below an employee in the reporting chain, optionally limited to maxDepth levels
+    @GetMapping("/{id}/reports")
+    @RoleRequired({ "ADMIN" })
+    public ResponseEntity<PaginatedApiResponse<HierarchyMember>> getReports(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer maxDepth,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int perPage) {
+        Slice<HierarchyMember> reports = employeeService.getReports(id, maxDepth, page, perPage);
+        return ResponseEntity.ok(PaginatedApiResponse.of(reports, "Reports retrieved successfully"));
+    }
+
+    // Admin endpoint - management chain from the direct manager upwards
+    @GetMapping("/{id}/managers")
+    @RoleRequired({ "ADMIN" })
+    public ResponseEntity<ApiResponse<List<HierarchyMember>>> getManagementChain(@PathVariable Long id) {
+        List<HierarchyMember> managers = employeeService.getManagementChain(id);
+        return ResponseEntity.ok(ApiResponse.success("Management chain retrieved successfully", managers));
+    }
+
+    // Admin endpoint - direct and total report counts
+    @GetMapping("/{id}/span")
+    @RoleRequired({ "ADMIN" })
+    public ResponseEntity<ApiResponse<SpanOfControl>> getSpanOfControl(@PathVariable Long id) {
+        SpanOfControl span = employeeService.getSpanOfControl(id);
+        return ResponseEntity.ok(ApiResponse.success("Span of control retrieved successfully", span));
     }
 
     // Manager endpoint - view employees in their department
@@ -93,14 +179,21 @@ public class EmployeeController {
     @GetMapping("/view")
     @RoleRequired({ "USER" })
     public ResponseEntity<ApiResponse<EmployeeResponse>> getMyDetails(
-            @RequestHeader(value = "X-Employee-Code") String employeeCode) {
+            @RequestHeader(value = "X-Employee-Code") String employeeCode,
+            WebRequest webRequest) {
 
         if (employeeCode == null || employeeCode.trim().isEmpty()) {
             throw new IllegalArgumentException("Employee record has not been created yet");
         }
 
-        EmployeeResponse employee = employeeService.getEmployeeByEmployeeCode(employeeCode);
-        return ResponseEntity.ok(ApiResponse.success("Employee profile retrieved successfully", employee));
+        EmployeeResponse employee = employeeService.getEmployeeProfile(employeeCode);
+        // Hashed from the response itself, outside the service's transactional proxy
+        String eTag = ETags.ofProfile(employee);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag)
+                .body(ApiResponse.success("Employee profile retrieved successfully", employee));
     }
 
     @GetMapping("/health")
@@ -131,4 +224,19 @@ public class EmployeeController {
         response.put("timestamp", java.time.LocalDateTime.now().toString());
         return ResponseEntity.ok(ApiResponse.success("Admin endpoint test successful", response));
     }
+
+    // Helper - offset or cursor page, of full responses or of the requested fields only
+    private PaginatedApiResponse<?> listEmployees(EmployeeFilterRequest filter, String message) {
+        Set<EmployeeField> fields = filter.getFieldSet();
+        if (fields != null) {
+            if (filter.isCursorMode()) {
+                return PaginatedApiResponse.of(employeeService.getEmployeeFieldsAfterCursor(filter, fields), message);
+            }
+            return PaginatedApiResponse.of(employeeService.getEmployeeFieldsWithCountMode(filter, fields), message);
+        }
+        if (filter.isCursorMode()) {
+            return PaginatedApiResponse.of(employeeService.getEmployeesAfterCursor(filter), message);
+        }
+        return PaginatedApiResponse.of(employeeService.getEmployeesWithCountMode(filter), message);
+    }
 }
\ No newline at end of file
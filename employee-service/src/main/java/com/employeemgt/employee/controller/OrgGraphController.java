@@ -0,0 +1,75 @@
+package com.employeemgt.employee.controller;
+
+import com.employeemgt.employee.dto.ApiResponse;
+import com.employeemgt.employee.dto.OrgGraphSummary;
+import com.employeemgt.employee.dto.OrgNodeStats;
+import com.employeemgt.employee.exception.ResourceNotFoundException;
+import com.employeemgt.employee.security.RoleRequired;
+import com.employeemgt.employee.service.OrgGraphIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Whole-organisation reporting statistics served from the in-process OrgGraph
+ * Reflects committed writes within the refresh interval
+ */
+@RestController
+@RequestMapping("/api/org-graph")
+@CrossOrigin(origins = "*")
+public class OrgGraphController {
+
+    private static final int MAX_LIMIT = 100;
+
+    @Autowired
+    private OrgGraphIndex orgGraphIndex;
+
+    @GetMapping
+    @RoleRequired({"ADMIN"})
+    public ResponseEntity<ApiResponse<OrgGraphSummary>> getSummary() {
+        OrgGraphSummary summary = orgGraphIndex.getGraph().getSummary();
+        return ResponseEntity.ok(ApiResponse.success("Org graph summary retrieved successfully", summary));
+    }
+
+    @GetMapping("/employees/{id}")
+    @RoleRequired({"ADMIN"})
+    public ResponseEntity<ApiResponse<OrgNodeStats>> getEmployeeStats(@PathVariable Long id) {
+        OrgNodeStats stats = orgGraphIndex.getGraph().getNode(id);
+        if (stats == null) {
+            throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+        return ResponseEntity.ok(ApiResponse.success("Reporting statistics retrieved successfully", stats));
+    }
+
+    @GetMapping("/cycles")
+    @RoleRequired({"ADMIN"})
+    public ResponseEntity<ApiResponse<List<List<Long>>>> getCycles(
+            @RequestParam(defaultValue = "20") int limit) {
+        List<List<Long>> cycles = orgGraphIndex.getGraph().getCycles(clamp(limit));
+        return ResponseEntity.ok(ApiResponse.success("Reporting cycles retrieved successfully", cycles));
+    }
+
+    @GetMapping("/largest-spans")
+    @RoleRequired({"ADMIN"})
+    public ResponseEntity<ApiResponse<List<OrgNodeStats>>> getLargestSpans(
+            @RequestParam(defaultValue = "20") int limit) {
+        List<OrgNodeStats> spans = orgGraphIndex.getGraph().getLargestSpans(clamp(limit));
+        return ResponseEntity.ok(ApiResponse.success("Largest spans of control retrieved successfully", spans));
+    }
+
+    @GetMapping("/orphans")
+    @RoleRequired({"ADMIN"})
+    public ResponseEntity<ApiResponse<List<Long>>> getOrphans(
+            @RequestParam(defaultValue = "20") int limit) {
+        List<Long> orphans = orgGraphIndex.getGraph().getOrphans(clamp(limit));
+        return ResponseEntity.ok(ApiResponse.success("Employees without an active manager retrieved successfully",
+                orphans));
+    }
+
+    // Helper
+    private int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
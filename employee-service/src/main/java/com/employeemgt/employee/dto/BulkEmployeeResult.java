@@ -0,0 +1,66 @@
+package com.employeemgt.employee.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of one row of a bulk employee creation request
+ * index is the position of the row in the request body
+ */
+public class BulkEmployeeResult {
+
+    private int index;
+    private boolean created;
+    private EmployeeResponse employee;
+    private List<String> errors;
+
+    public BulkEmployeeResult() {}
+
+    public static BulkEmployeeResult created(int index, EmployeeResponse employee) {
+        BulkEmployeeResult result = new BulkEmployeeResult();
+        result.setIndex(index);
+        result.setCreated(true);
+        result.setEmployee(employee);
+        result.setErrors(List.of());
+        return result;
+    }
+
+    public static BulkEmployeeResult failed(int index, List<String> errors) {
+        BulkEmployeeResult result = new BulkEmployeeResult();
+        result.setIndex(index);
+        result.setCreated(false);
+        result.setErrors(errors);
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public boolean isCreated() {
+        return created;
+    }
+
+    public void setCreated(boolean created) {
+        this.created = created;
+    }
+
+    public EmployeeResponse getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(EmployeeResponse employee) {
+        this.employee = employee;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
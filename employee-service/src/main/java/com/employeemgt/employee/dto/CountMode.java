@@ -0,0 +1,20 @@
+package com.employeemgt.employee.dto;
+
+/**
+ * How list endpoints compute the total in pagination meta
+ * EXACT runs a COUNT query, ESTIMATE uses planner statistics, NONE skips the total
+ */
+public enum CountMode {
+    EXACT, ESTIMATE, NONE;
+
+    public static CountMode from(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return EXACT;
+        }
+        try {
+            return CountMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported count mode: " + value, e);
+        }
+    }
+}
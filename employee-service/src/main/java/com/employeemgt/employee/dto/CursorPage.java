@@ -0,0 +1,38 @@
+package com.employeemgt.employee.dto;
+
+import java.util.List;
+
+/**
+ * A single page of a keyset (cursor) paginated listing
+ * No total count is computed in this mode
+ */
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final int perPage;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public CursorPage(List<T> content, int perPage, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.perPage = perPage;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getPerPage() {
+        return perPage;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
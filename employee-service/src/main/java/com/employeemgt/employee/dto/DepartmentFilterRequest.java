@@ -11,6 +11,9 @@ public class DepartmentFilterRequest {
     private int page = 0;
     private int perPage = 10;
 
+    // Total count strategy: exact (default), estimate or none
+    private String count;
+
     // Filters
     private Long id;
     
@@ -47,6 +50,18 @@ public class DepartmentFilterRequest {
         this.perPage = perPage;
     }
     
+    public String getCount() {
+        return count;
+    }
+
+    public void setCount(String count) {
+        this.count = count;
+    }
+
+    public CountMode getCountMode() {
+        return CountMode.from(count);
+    }
+    
     // Filter getters and setters
     public Long getId() {
         return id;
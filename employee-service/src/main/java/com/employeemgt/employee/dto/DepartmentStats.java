@@ -0,0 +1,129 @@
+package com.employeemgt.employee.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Headcount and salary aggregates of one department
+ * salaryCount excludes employees without a recorded salary; the salary figures cover only those
+ */
+public class DepartmentStats {
+
+    private Long departmentId;
+    private String departmentName;
+    private String departmentCode;
+    private long headcount;
+    private Map<String, Long> headcountByStatus;
+    private long salaryCount;
+    private BigDecimal salarySum;
+    private BigDecimal salaryMean;
+    private BigDecimal salaryMin;
+    private BigDecimal salaryMax;
+    private BigDecimal salaryStdDev;
+
+    public DepartmentStats() {}
+
+    public DepartmentStats(Long departmentId, String departmentName, String departmentCode, long headcount,
+                           Map<String, Long> headcountByStatus, long salaryCount, BigDecimal salarySum,
+                           BigDecimal salaryMean, BigDecimal salaryMin, BigDecimal salaryMax, BigDecimal salaryStdDev) {
+        this.departmentId = departmentId;
+        this.departmentName = departmentName;
+        this.departmentCode = departmentCode;
+        this.headcount = headcount;
+        this.headcountByStatus = headcountByStatus;
+        this.salaryCount = salaryCount;
+        this.salarySum = salarySum;
+        this.salaryMean = salaryMean;
+        this.salaryMin = salaryMin;
+        this.salaryMax = salaryMax;
+        this.salaryStdDev = salaryStdDev;
+    }
+
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+
+    public String getDepartmentName() {
+        return departmentName;
+    }
+
+    public void setDepartmentName(String departmentName) {
+        this.departmentName = departmentName;
+    }
+
+    public String getDepartmentCode() {
+        return departmentCode;
+    }
+
+    public void setDepartmentCode(String departmentCode) {
+        this.departmentCode = departmentCode;
+    }
+
+    public long getHeadcount() {
+        return headcount;
+    }
+
+    public void setHeadcount(long headcount) {
+        this.headcount = headcount;
+    }
+
+    public Map<String, Long> getHeadcountByStatus() {
+        return headcountByStatus;
+    }
+
+    public void setHeadcountByStatus(Map<String, Long> headcountByStatus) {
+        this.headcountByStatus = headcountByStatus;
+    }
+
+    public long getSalaryCount() {
+        return salaryCount;
+    }
+
+    public void setSalaryCount(long salaryCount) {
+        this.salaryCount = salaryCount;
+    }
+
+    public BigDecimal getSalarySum() {
+        return salarySum;
+    }
+
+    public void setSalarySum(BigDecimal salarySum) {
+        this.salarySum = salarySum;
+    }
+
+    public BigDecimal getSalaryMean() {
+        return salaryMean;
+    }
+
+    public void setSalaryMean(BigDecimal salaryMean) {
+        this.salaryMean = salaryMean;
+    }
+
+    public BigDecimal getSalaryMin() {
+        return salaryMin;
+    }
+
+    public void setSalaryMin(BigDecimal salaryMin) {
+        this.salaryMin = salaryMin;
+    }
+
+    public BigDecimal getSalaryMax() {
+        return salaryMax;
+    }
+
+    public void setSalaryMax(BigDecimal salaryMax) {
+        this.salaryMax = salaryMax;
+    }
+
+    public BigDecimal getSalaryStdDev() {
+        return salaryStdDev;
+    }
+
+    public void setSalaryStdDev(BigDecimal salaryStdDev) {
+        this.salaryStdDev = salaryStdDev;
+    }
+}
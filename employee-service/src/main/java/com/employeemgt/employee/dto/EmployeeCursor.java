@@ -0,0 +1,113 @@
+package com.employeemgt.employee.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Opaque keyset cursor for employee listings
+ * Encodes the sort key, the sort value of the last row and its id
+ * Example (before encoding): hireDate|2020-01-15|42
+ */
+public class EmployeeCursor {
+
+    public static final String DEFAULT_SORT = "id";
+    private static final Set<String> SORT_KEYS = Set.of("id", "hireDate", "lastName");
+    private static final String SEPARATOR = "|";
+
+    private final String sortBy;
+    private final String value;
+    private final Long id;
+
+    public EmployeeCursor(String sortBy, String value, Long id) {
+        this.sortBy = sortBy;
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * Resolve the requested sort key, falling back to id
+     */
+    public static String resolveSortKey(String sortBy) {
+        if (sortBy == null || sortBy.trim().isEmpty()) {
+            return DEFAULT_SORT;
+        }
+        if (!SORT_KEYS.contains(sortBy)) {
+            throw new IllegalArgumentException("Unsupported sort key for cursor pagination: " + sortBy);
+        }
+        return sortBy;
+    }
+
+    /**
+     * Build the cursor pointing after the given row
+     */
+    public static EmployeeCursor after(String sortBy, EmployeeResponse last) {
+        String value;
+        switch (sortBy) {
+            case "hireDate":
+                value = last.getHireDate().toString();
+                break;
+            case "lastName":
+                value = last.getLastName();
+                break;
+            default:
+                value = last.getId().toString();
+        }
+        return new EmployeeCursor(sortBy, value, last.getId());
+    }
+
+    /**
+     * Build the cursor pointing after a sparse-fieldset row, which must hold id and the sort key
+     */
+    public static EmployeeCursor after(String sortBy, Map<String, Object> last) {
+        Long id = ((Number) last.get("id")).longValue();
+        return new EmployeeCursor(sortBy, "id".equals(sortBy) ? id.toString() : String.valueOf(last.get(sortBy)), id);
+    }
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EmployeeCursor decode(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed pagination cursor", e);
+        }
+
+        // The value may itself contain the separator (e.g. last names), so split on the outer ones
+        int first = raw.indexOf(SEPARATOR);
+        int last = raw.lastIndexOf(SEPARATOR);
+        if (first < 0 || first == last) {
+            throw new IllegalArgumentException("Malformed pagination cursor");
+        }
+
+        try {
+            String sortBy = resolveSortKey(raw.substring(0, first));
+            String value = raw.substring(first + 1, last);
+            if ("hireDate".equals(sortBy)) {
+                LocalDate.parse(value);
+            }
+            return new EmployeeCursor(sortBy, value, Long.valueOf(raw.substring(last + 1)));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed pagination cursor", e);
+        }
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
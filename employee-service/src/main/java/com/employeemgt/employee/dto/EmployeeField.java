@@ -0,0 +1,71 @@
+package com.employeemgt.employee.dto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Properties of EmployeeResponse that can be requested with fields=
+ * One constant per property, in the order EmployeeResponse declares them; the names
+ * are the JSON property names, so this is also the whitelist for the parameter
+ */
+public enum EmployeeField {
+    ID("id"),
+    EMPLOYEE_CODE("employeeCode"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    FULL_NAME("fullName"),
+    EMAIL("email"),
+    PHONE_NUMBER("phoneNumber"),
+    HIRE_DATE("hireDate"),
+    JOB_TITLE("jobTitle"),
+    SALARY("salary"),
+    STATUS("status"),
+    DEPARTMENT("department"),
+    MANAGER_ID("managerId"),
+    NOTES("notes"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private static final Map<String, EmployeeField> BY_PROPERTY = Arrays.stream(values())
+            .collect(Collectors.toMap(EmployeeField::getProperty, Function.identity()));
+
+    private final String property;
+
+    EmployeeField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Parse a comma separated list of property names, e.g. "id,fullName,department"
+     *
+     * @return The requested fields, or null when none were given (the full response)
+     */
+    public static EnumSet<EmployeeField> parse(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        EnumSet<EmployeeField> fields = EnumSet.noneOf(EmployeeField.class);
+        for (String name : value.split(",")) {
+            if (name.trim().isEmpty()) {
+                continue;
+            }
+            EmployeeField field = BY_PROPERTY.get(name.trim());
+            if (field == null) {
+                throw new IllegalArgumentException("Unsupported employee field: " + name.trim()
+                        + ". Supported fields: " + String.join(", ", BY_PROPERTY.keySet().stream().sorted().toList()));
+            }
+            fields.add(field);
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one employee field must be requested");
+        }
+        return fields;
+    }
+}
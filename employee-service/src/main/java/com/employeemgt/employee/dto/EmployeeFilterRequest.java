@@ -3,12 +3,23 @@ package com.employeemgt.employee.dto;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
 
 public class EmployeeFilterRequest {
     
     // Pagination
     private int page = 0;
     private int perPage = 10;
+
+    // Keyset pagination - an empty 'after' starts a cursor listing from the first row
+    private String after;
+    private String sortBy;
+
+    // Total count strategy: exact (default), estimate or none
+    private String count;
+
+    // Sparse fieldset - comma separated EmployeeResponse property names, all of them when empty
+    private String fields;
     
     // Filters
     private String employeeNumber;
@@ -43,6 +54,54 @@ public class EmployeeFilterRequest {
         this.perPage = perPage;
     }
     
+    public String getAfter() {
+        return after;
+    }
+
+    public void setAfter(String after) {
+        this.after = after;
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public void setSortBy(String sortBy) {
+        this.sortBy = sortBy;
+    }
+
+    public String getCount() {
+        return count;
+    }
+
+    public void setCount(String count) {
+        this.count = count;
+    }
+
+    public CountMode getCountMode() {
+        return CountMode.from(count);
+    }
+
+    public String getFields() {
+        return fields;
+    }
+
+    public void setFields(String fields) {
+        this.fields = fields;
+    }
+
+    public EnumSet<EmployeeField> getFieldSet() {
+        return EmployeeField.parse(fields);
+    }
+
+    public boolean isCursorMode() {
+        return after != null;
+    }
+
+    public boolean hasCursor() {
+        return after != null && !after.trim().isEmpty();
+    }
+    
     public String getEmployeeNumber() {
         return employeeNumber;
     }
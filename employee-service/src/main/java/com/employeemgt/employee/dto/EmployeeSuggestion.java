@@ -0,0 +1,53 @@
+package com.employeemgt.employee.dto;
+
+/**
+ * Lightweight typeahead result for employee name lookups
+ */
+public class EmployeeSuggestion {
+
+    private Long id;
+    private String employeeCode;
+    private String fullName;
+    private String email;
+
+    public EmployeeSuggestion() {}
+
+    public EmployeeSuggestion(Long id, String employeeCode, String fullName, String email) {
+        this.id = id;
+        this.employeeCode = employeeCode;
+        this.fullName = fullName;
+        this.email = email;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEmployeeCode() {
+        return employeeCode;
+    }
+
+    public void setEmployeeCode(String employeeCode) {
+        this.employeeCode = employeeCode;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
@@ -0,0 +1,24 @@
+package com.employeemgt.employee.dto;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * Slice carrying an approximate total taken from database statistics
+ * hasNext is still exact since it comes from the over-fetched row
+ */
+public class EstimatedSlice<T> extends SliceImpl<T> {
+
+    private final long estimatedTotal;
+
+    public EstimatedSlice(List<T> content, Pageable pageable, boolean hasNext, long estimatedTotal) {
+        super(content, pageable, hasNext);
+        this.estimatedTotal = estimatedTotal;
+    }
+
+    public long getEstimatedTotal() {
+        return estimatedTotal;
+    }
+}
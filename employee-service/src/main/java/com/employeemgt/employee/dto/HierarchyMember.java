@@ -0,0 +1,84 @@
+package com.employeemgt.employee.dto;
+
+/**
+ * Employee in a reporting chain, with its distance from the employee the chain was queried for
+ */
+public class HierarchyMember {
+
+    private Long id;
+    private String employeeCode;
+    private String fullName;
+    private String email;
+    private String jobTitle;
+    private Long managerId;
+    private int depth;
+
+    public HierarchyMember() {}
+
+    public HierarchyMember(Long id, String employeeCode, String fullName, String email, String jobTitle,
+                           Long managerId, int depth) {
+        this.id = id;
+        this.employeeCode = employeeCode;
+        this.fullName = fullName;
+        this.email = email;
+        this.jobTitle = jobTitle;
+        this.managerId = managerId;
+        this.depth = depth;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEmployeeCode() {
+        return employeeCode;
+    }
+
+    public void setEmployeeCode(String employeeCode) {
+        this.employeeCode = employeeCode;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+}
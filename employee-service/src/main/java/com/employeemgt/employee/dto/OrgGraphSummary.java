@@ -0,0 +1,96 @@
+package com.employeemgt.employee.dto;
+
+/**
+ * Whole-organisation shape of the reporting graph
+ * depthHistogram[d] is the number of employees d levels below the top of their tree;
+ * employees below a reporting cycle have no depth and are counted as unrooted
+ */
+public class OrgGraphSummary {
+
+    private int employees;
+    private int roots;
+    private int maxDepth;
+    private int[] depthHistogram;
+    private int unrooted;
+    private int missingManagers;
+    private int inactiveManagers;
+    private int cycles;
+
+    public OrgGraphSummary() {}
+
+    public OrgGraphSummary(int employees, int roots, int maxDepth, int[] depthHistogram, int unrooted,
+                           int missingManagers, int inactiveManagers, int cycles) {
+        this.employees = employees;
+        this.roots = roots;
+        this.maxDepth = maxDepth;
+        this.depthHistogram = depthHistogram;
+        this.unrooted = unrooted;
+        this.missingManagers = missingManagers;
+        this.inactiveManagers = inactiveManagers;
+        this.cycles = cycles;
+    }
+
+    public int getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(int employees) {
+        this.employees = employees;
+    }
+
+    public int getRoots() {
+        return roots;
+    }
+
+    public void setRoots(int roots) {
+        this.roots = roots;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    public int[] getDepthHistogram() {
+        return depthHistogram;
+    }
+
+    public void setDepthHistogram(int[] depthHistogram) {
+        this.depthHistogram = depthHistogram;
+    }
+
+    public int getUnrooted() {
+        return unrooted;
+    }
+
+    public void setUnrooted(int unrooted) {
+        this.unrooted = unrooted;
+    }
+
+    public int getMissingManagers() {
+        return missingManagers;
+    }
+
+    public void setMissingManagers(int missingManagers) {
+        this.missingManagers = missingManagers;
+    }
+
+    public int getInactiveManagers() {
+        return inactiveManagers;
+    }
+
+    public void setInactiveManagers(int inactiveManagers) {
+        this.inactiveManagers = inactiveManagers;
+    }
+
+    public int getCycles() {
+        return cycles;
+    }
+
+    public void setCycles(int cycles) {
+        this.cycles = cycles;
+    }
+}
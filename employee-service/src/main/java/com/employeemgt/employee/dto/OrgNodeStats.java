@@ -0,0 +1,85 @@
+package com.employeemgt.employee.dto;
+
+/**
+ * Position and reach of one employee in the reporting graph
+ * depth is null when the employee's chain runs into a cycle, subtreeSize when the employee is on one
+ */
+public class OrgNodeStats {
+
+    private Long employeeId;
+    private Long managerId;
+    private Long departmentId;
+    private Integer depth;
+    private int directReports;
+    private Integer subtreeSize;
+    private boolean inCycle;
+
+    public OrgNodeStats() {}
+
+    public OrgNodeStats(Long employeeId, Long managerId, Long departmentId, Integer depth, int directReports,
+                        Integer subtreeSize, boolean inCycle) {
+        this.employeeId = employeeId;
+        this.managerId = managerId;
+        this.departmentId = departmentId;
+        this.depth = depth;
+        this.directReports = directReports;
+        this.subtreeSize = subtreeSize;
+        this.inCycle = inCycle;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+
+    public Integer getDepth() {
+        return depth;
+    }
+
+    public void setDepth(Integer depth) {
+        this.depth = depth;
+    }
+
+    public int getDirectReports() {
+        return directReports;
+    }
+
+    public void setDirectReports(int directReports) {
+        this.directReports = directReports;
+    }
+
+    public Integer getSubtreeSize() {
+        return subtreeSize;
+    }
+
+    public void setSubtreeSize(Integer subtreeSize) {
+        this.subtreeSize = subtreeSize;
+    }
+
+    public boolean isInCycle() {
+        return inCycle;
+    }
+
+    public void setInCycle(boolean inCycle) {
+        this.inCycle = inCycle;
+    }
+}
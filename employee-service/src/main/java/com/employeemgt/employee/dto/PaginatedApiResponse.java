@@ -2,6 +2,7 @@ package com.employeemgt.employee.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.HashMap;
 import java.util.List;
@@ -18,33 +19,86 @@ public class PaginatedApiResponse<T> extends ApiResponse<List<T>> {
         super();
     }
     
-    public PaginatedApiResponse(Page<T> page) {
+    public PaginatedApiResponse(Slice<T> page) {
         super(true, "Data retrieved successfully", page.getContent());
         
         // Set pagination information directly in meta field
         this.setMeta(createPaginationInfo(page));
     }
     
-    public static <T> PaginatedApiResponse<T> of(Page<T> page) {
+    public PaginatedApiResponse(CursorPage<T> page) {
+        super(true, "Data retrieved successfully", page.getContent());
+        
+        this.setMeta(createCursorInfo(page));
+    }
+    
+    public static <T> PaginatedApiResponse<T> of(Slice<T> page) {
         return new PaginatedApiResponse<>(page);
     }
     
-    public static <T> PaginatedApiResponse<T> of(Page<T> page, String message) {
+    public static <T> PaginatedApiResponse<T> of(Slice<T> page, String message) {
+        PaginatedApiResponse<T> response = new PaginatedApiResponse<>(page);
+        response.setMessage(message);
+        return response;
+    }
+    
+    public static <T> PaginatedApiResponse<T> of(CursorPage<T> page, String message) {
         PaginatedApiResponse<T> response = new PaginatedApiResponse<>(page);
         response.setMessage(message);
         return response;
     }
     
-    private Map<String, Object> createPaginationInfo(Page<?> page) {
+    /**
+     * Builds the pagination meta. The shape is the same for every count mode;
+     * totalExact tells whether total came from a COUNT query, and total/totalPages
+     * are null when the count was skipped
+     */
+    private Map<String, Object> createPaginationInfo(Slice<?> page) {
+        if (page instanceof Page) {
+            return offsetMeta(page.getNumber(), page.getSize(), page.hasNext(),
+                    ((Page<?>) page).getTotalElements(), true);
+        } else if (page instanceof EstimatedSlice) {
+            return offsetMeta(page.getNumber(), page.getSize(), page.hasNext(),
+                    ((EstimatedSlice<?>) page).getEstimatedTotal(), false);
+        }
+        return offsetMeta(page.getNumber(), page.getSize(), page.hasNext(), null, false);
+    }
+    
+    private Map<String, Object> createCursorInfo(CursorPage<?> page) {
+        return cursorMeta(page.getPerPage(), page.hasNext(), page.getNextCursor());
+    }
+    
+    /**
+     * Offset pagination meta from its parts, for responses that are streamed rather than
+     * built from a Slice
+     * 
+     * @param page       0-based page number
+     * @param total      Total rows, null when the count was skipped
+     * @param totalExact Whether total came from a COUNT query
+     */
+    public static Map<String, Object> offsetMeta(int page, int perPage, boolean hasNext, Long total,
+                                                 boolean totalExact) {
+        Map<String, Object> pagination = new HashMap<>();
+        pagination.put("page", page + 1); // 1-based for user display
+        pagination.put("perPage", perPage);
+        pagination.put("hasNext", hasNext);
+        pagination.put("hasPrevious", page > 0);
+        pagination.put("isFirst", page == 0);
+        pagination.put("isLast", !hasNext);
+        pagination.put("totalPages", total != null ? (int) Math.ceil((double) total / perPage) : null);
+        pagination.put("total", total);
+        pagination.put("totalExact", totalExact);
+        return pagination;
+    }
+    
+    /**
+     * Keyset pagination meta from its parts
+     */
+    public static Map<String, Object> cursorMeta(int perPage, boolean hasNext, String nextCursor) {
         Map<String, Object> pagination = new HashMap<>();
-        pagination.put("page", page.getNumber() + 1); // 1-based for user display
-        pagination.put("perPage", page.getSize());
-        pagination.put("totalPages", page.getTotalPages());
-        pagination.put("total", page.getTotalElements());
-        pagination.put("hasNext", page.hasNext());
-        pagination.put("hasPrevious", page.hasPrevious());
-        pagination.put("isFirst", page.isFirst());
-        pagination.put("isLast", page.isLast());
+        pagination.put("perPage", perPage);
+        pagination.put("hasNext", hasNext);
+        pagination.put("nextCursor", nextCursor);
         return pagination;
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.employeemgt.employee.dto;
+
+/**
+ * Size of an employee's reporting subtree
+ */
+public class SpanOfControl {
+
+    private Long employeeId;
+    private long directReports;
+    private long totalReports;
+    private int levels;
+
+    public SpanOfControl() {}
+
+    public SpanOfControl(Long employeeId, long directReports, long totalReports, int levels) {
+        this.employeeId = employeeId;
+        this.directReports = directReports;
+        this.totalReports = totalReports;
+        this.levels = levels;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public long getDirectReports() {
+        return directReports;
+    }
+
+    public void setDirectReports(long directReports) {
+        this.directReports = directReports;
+    }
+
+    public long getTotalReports() {
+        return totalReports;
+    }
+
+    public void setTotalReports(long totalReports) {
+        this.totalReports = totalReports;
+    }
+
+    public int getLevels() {
+        return levels;
+    }
+
+    public void setLevels(int levels) {
+        this.levels = levels;
+    }
+}
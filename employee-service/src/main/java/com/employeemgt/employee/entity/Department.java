@@ -3,6 +3,7 @@ package com.employeemgt.employee.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -32,6 +33,11 @@ public class Department {
     @Column(name = "code", nullable = false, unique = true)
     private String code;
 
+    // Maintained with atomic SQL increments by employee writes, never through the entity
+    @ColumnDefault("0")
+    @Column(name = "employee_count", nullable = false, insertable = false, updatable = false)
+    private long employeeCount;
+
     @OneToMany(mappedBy = "department", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Employee> employees = new ArrayList<>();
 
@@ -85,6 +91,14 @@ public class Department {
         this.code = code;
     }
 
+    public long getEmployeeCount() {
+        return employeeCount;
+    }
+
+    public void setEmployeeCount(long employeeCount) {
+        this.employeeCount = employeeCount;
+    }
+
     public List<Employee> getEmployees() {
         return employees;
     }
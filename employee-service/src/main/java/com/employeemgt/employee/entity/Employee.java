@@ -13,8 +13,10 @@ import java.time.LocalDateTime;
 @Table(name = "employees")
 public class Employee {
 
+    // Pooled sequence (see V7 migration) so inserts can be JDBC-batched; IDENTITY disables batching
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_id_seq")
+    @SequenceGenerator(name = "employees_id_seq", sequenceName = "employees_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Employee code is required")
@@ -0,0 +1,127 @@
+package com.employeemgt.employee.event;
+
+import com.employeemgt.employee.entity.Employee;
+import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * In-process notification that an employee was created, updated or deleted
+ * Published by EmployeeService and consumed by in-memory read models after commit
+ * previous is null for creates, current is null for deletes
+ */
+public class EmployeeChangedEvent {
+
+    private final EmployeeSnapshot previous;
+    private final EmployeeSnapshot current;
+
+    private EmployeeChangedEvent(EmployeeSnapshot previous, EmployeeSnapshot current) {
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static EmployeeChangedEvent created(Employee employee) {
+        return new EmployeeChangedEvent(null, EmployeeSnapshot.of(employee));
+    }
+
+    public static EmployeeChangedEvent updated(EmployeeSnapshot previous, Employee employee) {
+        return new EmployeeChangedEvent(previous, EmployeeSnapshot.of(employee));
+    }
+
+    public static EmployeeChangedEvent deleted(Employee employee) {
+        return new EmployeeChangedEvent(EmployeeSnapshot.of(employee), null);
+    }
+
+    public EmployeeSnapshot getPrevious() {
+        return previous;
+    }
+
+    public EmployeeSnapshot getCurrent() {
+        return current;
+    }
+
+    public boolean isDelete() {
+        return current == null;
+    }
+
+    public Long getEmployeeId() {
+        return current != null ? current.getId() : previous.getId();
+    }
+
+    /**
+     * Immutable copy of the employee columns read models care about
+     */
+    public static class EmployeeSnapshot {
+        private final Long id;
+        private final String employeeCode;
+        private final String firstName;
+        private final String lastName;
+        private final String email;
+        private final Long departmentId;
+        private final Long managerId;
+        private final EmployeeStatus status;
+        private final BigDecimal salary;
+
+        public EmployeeSnapshot(Long id, String employeeCode, String firstName, String lastName, String email,
+                                Long departmentId, Long managerId, EmployeeStatus status, BigDecimal salary) {
+            this.id = id;
+            this.employeeCode = employeeCode;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.email = email;
+            this.departmentId = departmentId;
+            this.managerId = managerId;
+            this.status = status;
+            this.salary = salary;
+        }
+
+        public static EmployeeSnapshot of(Employee employee) {
+            return new EmployeeSnapshot(
+                    employee.getId(),
+                    employee.getEmployeeCode(),
+                    employee.getFirstName(),
+                    employee.getLastName(),
+                    employee.getEmail(),
+                    employee.getDepartment() != null ? employee.getDepartment().getId() : null,
+                    employee.getManagerId(),
+                    employee.getStatus(),
+                    employee.getSalary());
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getEmployeeCode() {
+            return employeeCode;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public Long getDepartmentId() {
+            return departmentId;
+        }
+
+        public Long getManagerId() {
+            return managerId;
+        }
+
+        public EmployeeStatus getStatus() {
+            return status;
+        }
+
+        public BigDecimal getSalary() {
+            return salary;
+        }
+    }
+}
@@ -1,12 +1,26 @@
 package com.employeemgt.employee.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.List;
+
 /**
  * Simple Kafka message model for employee events
  * Following GeeksforGeeks Kafka Spring Boot integration guide
+ *
+ * UPDATE events are deltas: changedFields lists the fields that changed and only
+ * those are set (employeeId and employeeCode always are). An empty changedFields means
+ * only HR fields changed. A null changedFields means the event carries the full
+ * employee, as CREATE/DELETE and older UPDATE events do
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class EmployeeEvent {
+
+    public static final String EMPLOYEE_CODE = "employeeCode";
+    public static final String FIRST_NAME = "firstName";
+    public static final String LAST_NAME = "lastName";
+    public static final String EMAIL = "email";
     
     @JsonProperty("eventId")
     private String eventId;
@@ -31,6 +45,13 @@ public class EmployeeEvent {
     
     @JsonProperty("action")
     private String action; // CREATE, UPDATE, DELETE
+
+    @JsonProperty("changedFields")
+    private List<String> changedFields;
+
+    // Set when an update changed the employee code, so consumers can find the old record
+    @JsonProperty("previousEmployeeCode")
+    private String previousEmployeeCode;
     
     // Default constructor for JSON deserialization
     public EmployeeEvent() {}
@@ -113,6 +134,29 @@ public class EmployeeEvent {
     public void setAction(String action) {
         this.action = action;
     }
+
+    public List<String> getChangedFields() {
+        return changedFields;
+    }
+
+    public void setChangedFields(List<String> changedFields) {
+        this.changedFields = changedFields;
+    }
+
+    public String getPreviousEmployeeCode() {
+        return previousEmployeeCode;
+    }
+
+    public void setPreviousEmployeeCode(String previousEmployeeCode) {
+        this.previousEmployeeCode = previousEmployeeCode;
+    }
+
+    /**
+     * Whether the event carries the given field - always true for full events
+     */
+    public boolean hasChanged(String field) {
+        return changedFields == null || changedFields.contains(field);
+    }
     
     @Override
     public String toString() {
@@ -125,6 +169,7 @@ public class EmployeeEvent {
                 ", email='" + email + '\'' +
                 ", department='" + department + '\'' +
                 ", action='" + action + '\'' +
+                ", changedFields=" + changedFields +
                 '}';
     }
 }
\ No newline at end of file
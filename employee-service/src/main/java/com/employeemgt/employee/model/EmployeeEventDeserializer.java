@@ -0,0 +1,59 @@
+package com.employeemgt.employee.model;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Kafka deserializer for EmployeeEvent accepting both JSON and the EmployeeEventCodec binary format
+ * The content-type header decides; records without one (produced before the header
+ * existed) are JSON when they start with '{'
+ */
+public class EmployeeEventDeserializer implements Deserializer<EmployeeEvent> {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Override
+    public EmployeeEvent deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        Header contentType = headers != null ? headers.lastHeader(EmployeeEventCodec.CONTENT_TYPE_HEADER) : null;
+        if (contentType == null) {
+            return deserialize(topic, data);
+        }
+        String type = new String(contentType.value(), StandardCharsets.UTF_8);
+        return EmployeeEventCodec.BINARY_CONTENT_TYPE.equals(type) ? decodeBinary(data) : decodeJson(data);
+    }
+
+    @Override
+    public EmployeeEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return data.length > 0 && data[0] == '{' ? decodeJson(data) : decodeBinary(data);
+    }
+
+    private EmployeeEvent decodeBinary(byte[] data) {
+        try {
+            return EmployeeEventCodec.decode(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Could not decode binary employee event", e);
+        }
+    }
+
+    private EmployeeEvent decodeJson(byte[] data) {
+        try {
+            return objectMapper.readValue(data, EmployeeEvent.class);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read JSON employee event", e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.employeemgt.employee.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Kafka serializer for EmployeeEvent, writing either JSON or the EmployeeEventCodec binary format
+ * The format is chosen with the FORMAT_CONFIG producer property and announced in a
+ * content-type header, so consumers can read both while a rollout is in progress
+ */
+public class EmployeeEventSerializer implements Serializer<EmployeeEvent> {
+
+    public static final String FORMAT_CONFIG = "employee.event.format";
+    public static final String FORMAT_JSON = "json";
+    public static final String FORMAT_BINARY = "binary";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private boolean binary;
+
+    public EmployeeEventSerializer() {
+        this(false);
+    }
+
+    public EmployeeEventSerializer(boolean binary) {
+        this.binary = binary;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object format = configs.get(FORMAT_CONFIG);
+        if (format != null) {
+            binary = FORMAT_BINARY.equalsIgnoreCase(format.toString());
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, EmployeeEvent event) {
+        if (event == null) {
+            return null;
+        }
+        headers.remove(EmployeeEventCodec.CONTENT_TYPE_HEADER);
+        headers.add(EmployeeEventCodec.CONTENT_TYPE_HEADER,
+                (binary ? EmployeeEventCodec.BINARY_CONTENT_TYPE : EmployeeEventCodec.JSON_CONTENT_TYPE)
+                        .getBytes(StandardCharsets.UTF_8));
+        return serialize(topic, event);
+    }
+
+    @Override
+    public byte[] serialize(String topic, EmployeeEvent event) {
+        if (event == null) {
+            return null;
+        }
+        if (binary) {
+            return EmployeeEventCodec.encode(event);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Could not serialize employee event " + event.getEventId(), e);
+        }
+    }
+}
@@ -3,10 +3,14 @@ package com.employeemgt.employee.repository;
 import com.employeemgt.employee.entity.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,6 +22,36 @@ public interface DepartmentRepository extends JpaRepository<Department, Long>, J
 
     boolean existsByName(String name);
 
-    @Query("SELECT COUNT(e) FROM Employee e WHERE e.department.id = :departmentId")
-    Long countEmployeesByDepartmentId(@Param("departmentId") Long departmentId);
+    // Version columns behind the department's ETag; employee_count changes without touching updated_at
+    @Query("SELECT d.updatedAt AS updatedAt, d.employeeCount AS employeeCount FROM Department d WHERE d.id = :id")
+    Optional<DepartmentVersion> findVersionById(@Param("id") Long id);
+
+    // Actual headcount of every department that has employees, used by the headcount repair job
+    @Query("SELECT e.department.id AS departmentId, COUNT(e) AS employeeCount FROM Employee e " +
+           "GROUP BY e.department.id")
+    List<DepartmentEmployeeCount> countEmployeesGroupedByDepartment();
+
+    @Modifying
+    @Query(value = "UPDATE departments SET employee_count = employee_count + :delta WHERE id = :departmentId",
+           nativeQuery = true)
+    int adjustEmployeeCount(@Param("departmentId") Long departmentId, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE departments SET employee_count = " +
+                   "(SELECT COUNT(*) FROM employees e WHERE e.department_id = departments.id) " +
+                   "WHERE id IN (:departmentIds)",
+           nativeQuery = true)
+    int recomputeEmployeeCounts(@Param("departmentIds") Collection<Long> departmentIds);
+
+    interface DepartmentEmployeeCount {
+        Long getDepartmentId();
+
+        Long getEmployeeCount();
+    }
+
+    interface DepartmentVersion {
+        LocalDateTime getUpdatedAt();
+
+        Long getEmployeeCount();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,176 @@
+package com.employeemgt.employee.repository;
+
+import com.employeemgt.employee.dto.HierarchyMember;
+import com.employeemgt.employee.dto.SpanOfControl;
+import com.employeemgt.employee.entity.Employee;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC access to the employee_hierarchy closure table (see V11 migration)
+ * Every employee has a depth-0 row to itself and one row per manager above it,
+ * so subtree and chain lookups are single index range scans and a re-parented
+ * subtree is rewired with two set-based statements whatever its size.
+ * Writers serialize on the employee_hierarchy_lock row (see V12 migration)
+ */
+@Component
+public class EmployeeHierarchyRepository {
+
+    private static final String LOCK_SQL = "SELECT id FROM employee_hierarchy_lock WHERE id = 1 FOR UPDATE";
+
+    private static final String INSERT_SELF_SQL =
+            "INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) VALUES (?, ?, 0)";
+
+    // The new employee inherits its manager's whole chain, one level further down
+    private static final String INSERT_UNDER_MANAGER_SQL =
+            "INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) " +
+            "SELECT ancestor_id, ?, depth + 1 FROM employee_hierarchy WHERE descendant_id = ?";
+
+    // Cut every path from outside the subtree into it; paths inside the subtree are kept
+    private static final String DETACH_SUBTREE_SQL =
+            "DELETE FROM employee_hierarchy " +
+            "WHERE descendant_id IN (SELECT descendant_id FROM employee_hierarchy WHERE ancestor_id = ?) " +
+            "AND ancestor_id NOT IN (SELECT descendant_id FROM employee_hierarchy WHERE ancestor_id = ?)";
+
+    // Connect every ancestor of the new manager (itself included) to every member of the subtree
+    private static final String ATTACH_SUBTREE_SQL =
+            "INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) " +
+            "SELECT above.ancestor_id, below.descendant_id, above.depth + below.depth + 1 " +
+            "FROM employee_hierarchy above CROSS JOIN employee_hierarchy below " +
+            "WHERE above.descendant_id = ? AND below.ancestor_id = ?";
+
+    // Every path running through the employee, its own row included
+    private static final String REMOVE_SQL =
+            "DELETE FROM employee_hierarchy " +
+            "WHERE descendant_id IN (SELECT descendant_id FROM employee_hierarchy WHERE ancestor_id = ?) " +
+            "AND ancestor_id IN (SELECT ancestor_id FROM employee_hierarchy WHERE descendant_id = ?)";
+
+    private static final String MEMBER_COLUMNS =
+            "SELECT e.id, e.employee_code, e.first_name, e.last_name, e.email, e.job_title, e.manager_id, h.depth " +
+            "FROM employee_hierarchy h JOIN employees e ";
+
+    private static final String DESCENDANTS_SQL = MEMBER_COLUMNS +
+            "ON e.id = h.descendant_id " +
+            "WHERE h.ancestor_id = ? AND h.depth BETWEEN 1 AND ? " +
+            "ORDER BY h.depth, e.last_name, e.first_name, e.id " +
+            "LIMIT ? OFFSET ?";
+
+    private static final String ANCESTORS_SQL = MEMBER_COLUMNS +
+            "ON e.id = h.ancestor_id " +
+            "WHERE h.descendant_id = ? " +
+            "ORDER BY h.depth";
+
+    private static final String SPAN_SQL =
+            "SELECT SUM(CASE WHEN depth = 0 THEN 1 ELSE 0 END), SUM(CASE WHEN depth = 1 THEN 1 ELSE 0 END), " +
+            "COUNT(*), MAX(depth) FROM employee_hierarchy WHERE ancestor_id = ?";
+
+    private static final RowMapper<HierarchyMember> MEMBER_MAPPER = (resultSet, rowNum) -> new HierarchyMember(
+            resultSet.getLong("id"),
+            resultSet.getString("employee_code"),
+            resultSet.getString("first_name") + " " + resultSet.getString("last_name"),
+            resultSet.getString("email"),
+            resultSet.getString("job_title"),
+            resultSet.getObject("manager_id", Long.class),
+            resultSet.getInt("depth"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Block other closure-table writers until the current transaction ends
+     * A manager change must take this before its cycle check, so the check still holds when
+     * the subtree is moved; the write methods below take it themselves as well, since copying
+     * or cutting a chain that a concurrent move is rewiring leaves stale rows behind
+     */
+    public void lockHierarchy() {
+        jdbcTemplate.queryForList(LOCK_SQL, Integer.class);
+    }
+
+    /**
+     * Add a newly inserted employee below its manager, if it has one
+     */
+    public void addEmployee(Long employeeId, Long managerId) {
+        jdbcTemplate.update(INSERT_SELF_SQL, employeeId, employeeId);
+        if (managerId != null) {
+            lockHierarchy();
+            jdbcTemplate.update(INSERT_UNDER_MANAGER_SQL, employeeId, managerId);
+        }
+    }
+
+    /**
+     * Add a batch of newly inserted employees with two batched statements
+     * Managers must already be in the table, i.e. not be part of the same batch
+     */
+    public void addEmployees(List<Employee> employees) {
+        jdbcTemplate.batchUpdate(INSERT_SELF_SQL, employees, employees.size(), (statement, employee) -> {
+            statement.setLong(1, employee.getId());
+            statement.setLong(2, employee.getId());
+        });
+        List<Employee> managed = employees.stream().filter(employee -> employee.getManagerId() != null).toList();
+        if (!managed.isEmpty()) {
+            lockHierarchy();
+            jdbcTemplate.batchUpdate(INSERT_UNDER_MANAGER_SQL, managed, managed.size(), (statement, employee) -> {
+                statement.setLong(1, employee.getId());
+                statement.setLong(2, employee.getManagerId());
+            });
+        }
+    }
+
+    /**
+     * Re-parent an employee together with everyone below it
+     * The caller must make sure the new manager is not inside the subtree, checking
+     * after lockHierarchy in the same transaction
+     *
+     * @param employeeId   Root of the subtree to move
+     * @param newManagerId The new manager, or null to make the subtree a top-level one
+     */
+    public void moveSubtree(Long employeeId, Long newManagerId) {
+        lockHierarchy();
+        jdbcTemplate.update(DETACH_SUBTREE_SQL, employeeId, employeeId);
+        if (newManagerId != null) {
+            jdbcTemplate.update(ATTACH_SUBTREE_SQL, newManagerId, employeeId);
+        }
+    }
+
+    /**
+     * Remove an employee; anyone still reporting to it becomes the root of its own subtree
+     */
+    public void removeEmployee(Long employeeId) {
+        lockHierarchy();
+        jdbcTemplate.update(REMOVE_SQL, employeeId, employeeId);
+    }
+
+    /**
+     * Everyone below the employee down to maxDepth levels, nearest levels first
+     */
+    public List<HierarchyMember> findDescendants(Long employeeId, int maxDepth, long offset, int limit) {
+        return jdbcTemplate.query(DESCENDANTS_SQL, MEMBER_MAPPER, employeeId, maxDepth, limit, offset);
+    }
+
+    /**
+     * The employee's management chain, starting with the employee itself at depth 0
+     * Empty when the employee does not exist
+     */
+    public List<HierarchyMember> findAncestors(Long employeeId) {
+        return jdbcTemplate.query(ANCESTORS_SQL, MEMBER_MAPPER, employeeId);
+    }
+
+    /**
+     * Direct and total report counts and the depth of the subtree
+     * Empty when the employee does not exist
+     */
+    public Optional<SpanOfControl> findSpanOfControl(Long employeeId) {
+        return jdbcTemplate.queryForObject(SPAN_SQL, (resultSet, rowNum) -> {
+            if (resultSet.getLong(1) == 0) {
+                return Optional.<SpanOfControl>empty();
+            }
+            return Optional.of(new SpanOfControl(employeeId, resultSet.getLong(2),
+                    resultSet.getLong(3) - 1, resultSet.getInt(4)));
+        }, employeeId);
+    }
+}
@@ -0,0 +1,147 @@
+package com.employeemgt.employee.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC access to the employee_outbox table (see V10 migration)
+ * Rows are appended by the write paths in their own transaction and
+ * published to Kafka afterwards by EmployeeOutboxRelay
+ */
+@Component
+public class EmployeeOutboxRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO employee_outbox (event_id, employee_id, event_type, payload) VALUES (?, ?, ?, ?)";
+
+    // Locks the oldest batch so two relays never publish the same rows concurrently
+    private static final String LOCK_PENDING_SQL =
+            "SELECT id, event_id, employee_id, event_type, payload FROM employee_outbox " +
+            "WHERE sent_at IS NULL ORDER BY id LIMIT ? FOR UPDATE";
+
+    private static final String MARK_SENT_SQL = "UPDATE employee_outbox SET sent_at = LOCALTIMESTAMP WHERE id = ?";
+
+    // Both timestamps come from the database clock, so instance clock skew does not distort the lag
+    private static final String BACKLOG_SQL =
+            "SELECT COUNT(*), MIN(created_at), LOCALTIMESTAMP FROM employee_outbox WHERE sent_at IS NULL";
+
+    private static final String PURGE_SQL = "DELETE FROM employee_outbox WHERE sent_at < ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void append(OutboxEntry entry) {
+        jdbcTemplate.update(INSERT_SQL,
+                entry.getEventId(), entry.getEmployeeId(), entry.getEventType(), entry.getPayload());
+    }
+
+    public void appendAll(List<OutboxEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (statement, entry) -> {
+            statement.setString(1, entry.getEventId());
+            statement.setLong(2, entry.getEmployeeId());
+            statement.setString(3, entry.getEventType());
+            statement.setString(4, entry.getPayload());
+        });
+    }
+
+    /**
+     * Lock and return up to limit unsent rows in insertion order
+     * Must be called inside a transaction; the locks are held until it ends
+     */
+    public List<OutboxEntry> lockPending(int limit) {
+        return jdbcTemplate.query(LOCK_PENDING_SQL,
+                (resultSet, rowNum) -> new OutboxEntry(
+                        resultSet.getLong("id"),
+                        resultSet.getString("event_id"),
+                        resultSet.getLong("employee_id"),
+                        resultSet.getString("event_type"),
+                        resultSet.getString("payload")),
+                limit);
+    }
+
+    public void markSent(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(MARK_SENT_SQL, ids, ids.size(), (statement, id) -> statement.setLong(1, id));
+    }
+
+    public Backlog getBacklog() {
+        return jdbcTemplate.queryForObject(BACKLOG_SQL, (resultSet, rowNum) -> {
+            long pending = resultSet.getLong(1);
+            Timestamp oldest = resultSet.getTimestamp(2);
+            Timestamp now = resultSet.getTimestamp(3);
+            Duration lag = oldest == null || now == null
+                    ? Duration.ZERO
+                    : Duration.between(oldest.toLocalDateTime(), now.toLocalDateTime());
+            return new Backlog(pending, lag.isNegative() ? Duration.ZERO : lag);
+        });
+    }
+
+    public int purgeSentBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(cutoff));
+    }
+
+    public static final class OutboxEntry {
+        private final Long id;
+        private final String eventId;
+        private final Long employeeId;
+        private final String eventType;
+        private final String payload;
+
+        public OutboxEntry(Long id, String eventId, Long employeeId, String eventType, String payload) {
+            this.id = id;
+            this.eventId = eventId;
+            this.employeeId = employeeId;
+            this.eventType = eventType;
+            this.payload = payload;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getEventId() {
+            return eventId;
+        }
+
+        public Long getEmployeeId() {
+            return employeeId;
+        }
+
+        public String getEventType() {
+            return eventType;
+        }
+
+        public String getPayload() {
+            return payload;
+        }
+    }
+
+    /**
+     * Unsent rows and the age of the oldest one
+     */
+    public static final class Backlog {
+        private final long pending;
+        private final Duration lag;
+
+        public Backlog(long pending, Duration lag) {
+            this.pending = pending;
+            this.lag = lag;
+        }
+
+        public long getPending() {
+            return pending;
+        }
+
+        public Duration getLag() {
+            return lag;
+        }
+    }
+}
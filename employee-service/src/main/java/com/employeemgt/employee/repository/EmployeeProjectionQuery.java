@@ -0,0 +1,199 @@
+package com.employeemgt.employee.repository;
+
+import com.employeemgt.employee.dto.EmployeeField;
+import com.employeemgt.employee.dto.EmployeeResponse;
+import com.employeemgt.employee.entity.Department;
+import com.employeemgt.employee.entity.Employee;
+import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Runs employee list queries as tuple projections
+ * Selects only the columns EmployeeResponse needs (department name and code via
+ * a join) so no Employee entities, dirty-checking snapshots or Department proxies
+ * are created for list pages. With a sparse fieldset the select list, and the
+ * department join, shrink to the requested fields
+ */
+@Component
+public class EmployeeProjectionQuery {
+
+    private static final Set<EmployeeField> ALL_FIELDS = EnumSet.allOf(EmployeeField.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Fetch up to limit rows matching the specification, already mapped to responses
+     *
+     * @param spec   Filter specification (evaluated against the Employee root)
+     * @param sort   Sort order, may be unsorted
+     * @param offset Number of rows to skip
+     * @param limit  Maximum number of rows to return
+     */
+    public List<EmployeeResponse> findRows(Specification<Employee> spec, Sort sort, long offset, int limit) {
+        return createQuery(spec, sort, ALL_FIELDS)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * Stream every row matching the specification through a forward-only server-side cursor
+     * Must be called inside a transaction and the stream must be closed by the caller
+     * Rows are mapped one at a time and not retained, so memory stays flat regardless of size
+     *
+     * @param spec      Filter specification (evaluated against the Employee root)
+     * @param sort      Sort order, may be unsorted
+     * @param fetchSize Rows fetched from the database per round trip
+     */
+    public Stream<EmployeeResponse> streamRows(Specification<Employee> spec, Sort sort, int fetchSize) {
+        return createQuery(spec, sort, ALL_FIELDS)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()
+                .map(this::toResponse);
+    }
+
+    /**
+     * Like findRows, but selects and returns only the requested fields
+     * Each row is a map from property name to value in EmployeeResponse order, so it
+     * serializes like an EmployeeResponse holding just those properties
+     *
+     * @param fields The fields to return, at least one
+     */
+    public List<Map<String, Object>> findFields(Specification<Employee> spec, Sort sort, long offset, int limit,
+                                                Set<EmployeeField> fields) {
+        return createQuery(spec, sort, fields)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(row -> toFields(row, fields))
+                .toList();
+    }
+
+    /**
+     * Like streamRows, but selects and returns only the requested fields
+     */
+    public Stream<Map<String, Object>> streamFields(Specification<Employee> spec, Sort sort, int fetchSize,
+                                                    Set<EmployeeField> fields) {
+        return createQuery(spec, sort, fields)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()
+                .map(row -> toFields(row, fields));
+    }
+
+    private TypedQuery<Tuple> createQuery(Specification<Employee> spec, Sort sort, Set<EmployeeField> fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+
+        // Entity attributes share the response property names, except for the two derived properties
+        Set<String> attributes = new LinkedHashSet<>();
+        for (EmployeeField field : fields) {
+            if (field == EmployeeField.FULL_NAME) {
+                attributes.add("firstName");
+                attributes.add("lastName");
+            } else if (field != EmployeeField.DEPARTMENT) {
+                attributes.add(field.getProperty());
+            }
+        }
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String attribute : attributes) {
+            selections.add(root.get(attribute).alias(attribute));
+        }
+        // department_id is NOT NULL, so leaving the join out does not change which rows match
+        if (fields.contains(EmployeeField.DEPARTMENT)) {
+            Join<Employee, Department> department = root.join("department", JoinType.INNER);
+            selections.add(department.get("id").alias("departmentId"));
+            selections.add(department.get("name").alias("departmentName"));
+            selections.add(department.get("code").alias("departmentCode"));
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+
+        // Nothing is loaded into the persistence context, so there is nothing to flush either
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+    }
+
+    // Helper
+    private Map<String, Object> toFields(Tuple row, Set<EmployeeField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (EmployeeField field : fields) {
+            switch (field) {
+                case FULL_NAME -> values.put(field.getProperty(),
+                        row.get("firstName", String.class) + " " + row.get("lastName", String.class));
+                case DEPARTMENT -> values.put(field.getProperty(), toDepartment(row));
+                default -> values.put(field.getProperty(), row.get(field.getProperty()));
+            }
+        }
+        return values;
+    }
+
+    // Helper
+    private EmployeeResponse.DepartmentSummary toDepartment(Tuple row) {
+        return new EmployeeResponse.DepartmentSummary(
+                row.get("departmentId", Long.class),
+                row.get("departmentName", String.class),
+                row.get("departmentCode", String.class));
+    }
+
+    // Helper
+    private EmployeeResponse toResponse(Tuple row) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(row.get("id", Long.class));
+        response.setEmployeeCode(row.get("employeeCode", String.class));
+        response.setFirstName(row.get("firstName", String.class));
+        response.setLastName(row.get("lastName", String.class));
+        response.setFullName(response.getFirstName() + " " + response.getLastName());
+        response.setEmail(row.get("email", String.class));
+        response.setPhoneNumber(row.get("phoneNumber", String.class));
+        response.setHireDate(row.get("hireDate", LocalDate.class));
+        response.setJobTitle(row.get("jobTitle", String.class));
+        response.setSalary(row.get("salary", BigDecimal.class));
+        response.setStatus(row.get("status", EmployeeStatus.class));
+        response.setManagerId(row.get("managerId", Long.class));
+        response.setNotes(row.get("notes", String.class));
+        response.setCreatedAt(row.get("createdAt", LocalDateTime.class));
+        response.setUpdatedAt(row.get("updatedAt", LocalDateTime.class));
+        response.setDepartment(toDepartment(row));
+        return response;
+    }
+}
@@ -7,6 +7,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -23,4 +26,58 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSp
 
     @Query("SELECT e FROM Employee e JOIN FETCH e.department WHERE e.id = :id")
     Optional<Employee> findByIdWithDepartment(@Param("id") Long id);
+
+    // Version columns behind the employee's ETag, read without loading the entity
+    @Query("SELECT e.updatedAt AS updatedAt, d.updatedAt AS departmentUpdatedAt FROM Employee e " +
+           "LEFT JOIN e.department d WHERE e.id = :id")
+    Optional<EmployeeVersion> findVersionById(@Param("id") Long id);
+
+    // Set-wise existence checks for bulk creation - return the values that are already taken
+    @Query("SELECT e.employeeCode FROM Employee e WHERE e.employeeCode IN :employeeCodes")
+    List<String> findExistingEmployeeCodes(@Param("employeeCodes") Collection<String> employeeCodes);
+
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Every pre-write check for a single employee in one round trip
+    // Pass "" for a code that needs no check, 0 for no manager and 0 as excludeId on create
+    @Query(value = "WITH candidate AS (" +
+                   "SELECT CAST(:employeeCode AS VARCHAR(20)) AS employee_code, " +
+                   "CAST(:email AS VARCHAR(100)) AS email, " +
+                   "CAST(:managerId AS BIGINT) AS manager_id, " +
+                   "CAST(:excludeId AS BIGINT) AS exclude_id) " +
+                   "SELECT " +
+                   "EXISTS (SELECT 1 FROM employees e WHERE e.employee_code = c.employee_code " +
+                   "AND e.id <> c.exclude_id) AS codeTaken, " +
+                   "EXISTS (SELECT 1 FROM employees e WHERE e.email = c.email " +
+                   "AND e.id <> c.exclude_id) AS emailTaken, " +
+                   "EXISTS (SELECT 1 FROM employees e WHERE e.id = c.manager_id) AS managerExists, " +
+                   "EXISTS (SELECT 1 FROM employee_hierarchy h WHERE h.ancestor_id = c.exclude_id " +
+                   "AND h.descendant_id = c.manager_id) AS managerInReportingChain " +
+                   "FROM candidate c",
+           nativeQuery = true)
+    WriteConflicts checkWriteConflicts(@Param("employeeCode") String employeeCode,
+                                       @Param("email") String email,
+                                       @Param("managerId") long managerId,
+                                       @Param("excludeId") long excludeId);
+
+    interface WriteConflicts {
+        boolean getCodeTaken();
+
+        boolean getEmailTaken();
+
+        boolean getManagerExists();
+
+        // The proposed manager is the employee itself or reports to it, directly or not
+        boolean getManagerInReportingChain();
+    }
+
+    interface EmployeeVersion {
+        LocalDateTime getUpdatedAt();
+
+        LocalDateTime getDepartmentUpdatedAt();
+    }
 }
\ No newline at end of file
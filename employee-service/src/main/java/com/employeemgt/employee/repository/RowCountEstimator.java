@@ -0,0 +1,57 @@
+package com.employeemgt.employee.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Approximate row counts from PostgreSQL planner statistics
+ * Unfiltered counts read pg_class.reltuples, filtered counts take the
+ * top-level "Plan Rows" of EXPLAIN. Returns empty when statistics are not
+ * available (e.g. never analyzed, or a non-PostgreSQL database in tests)
+ * Runs on the caller's connection; neither statement executes the query, and a
+ * second connection per list request could exhaust the pool under load
+ */
+@Component
+public class RowCountEstimator {
+
+    private static final Logger logger = LoggerFactory.getLogger(RowCountEstimator.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public OptionalLong estimate(String table, List<String> conditions, List<Object> params) {
+        try {
+            if (conditions.isEmpty()) {
+                Double reltuples = jdbcTemplate.queryForObject(
+                        "SELECT reltuples FROM pg_class WHERE oid = to_regclass(?)", Double.class, table);
+                // reltuples is -1 for tables that were never vacuumed or analyzed
+                return reltuples != null && reltuples >= 0 ? OptionalLong.of(reltuples.longValue()) : OptionalLong.empty();
+            }
+
+            String sql = "EXPLAIN (FORMAT JSON) SELECT 1 FROM " + table
+                    + " WHERE " + String.join(" AND ", conditions);
+            String plan = jdbcTemplate.queryForObject(sql, String.class, params.toArray());
+            JsonNode planRows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return planRows.isNumber() ? OptionalLong.of(planRows.asLong()) : OptionalLong.empty();
+        } catch (DataAccessException | JsonProcessingException e) {
+            logger.debug("Row count estimate unavailable for {}: {}", table, e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+}
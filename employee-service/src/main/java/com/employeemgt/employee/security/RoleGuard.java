@@ -1,75 +1,242 @@
 package com.employeemgt.employee.security;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Enforces @RoleRequired against the X-User-Role header set by the API Gateway
+ * The annotations are resolved once per handler method into a route policy holding the
+ * allowed roles as a bitmask, so a request costs one map lookup and one bit test.
+ * Decisions are counted per route; only a sample of them is logged, at DEBUG
+ */
 @Component
 public class RoleGuard implements HandlerInterceptor {
 
     private static final Logger logger = LoggerFactory.getLogger(RoleGuard.class);
 
+    // Roughly one decision in this many is logged when DEBUG is on
+    private static final int LOG_SAMPLE_RATE = 1024;
+
+    private static final byte[] ROLE_MISSING_BODY =
+            "{\"error\":\"Access denied\",\"message\":\"User role not found\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final RoutePolicy UNRESTRICTED = new RoutePolicy(null, 0L, null, null, Map.of());
+
+    private final MeterRegistry meterRegistry;
+
+    // One bit per role name seen in a @RoleRequired, assigned under this
+    private final Map<String, Long> roleBits = new ConcurrentHashMap<>();
+
+    private final Map<Method, RoutePolicy> policies = new ConcurrentHashMap<>();
+
+    public RoleGuard(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Build the policy of every mapped handler method once the handler mappings exist
+     * The mappings are looked up here rather than injected because they are built with this interceptor
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void buildPolicies(ContextRefreshedEvent event) {
+        Map<String, RequestMappingHandlerMapping> mappings =
+                event.getApplicationContext().getBeansOfType(RequestMappingHandlerMapping.class);
+        // Number every role first so each policy can pre-render its denials for all of them
+        for (RequestMappingHandlerMapping mapping : mappings.values()) {
+            for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+                RoleRequired roleRequired = findRoleRequired(handlerMethod);
+                if (roleRequired != null) {
+                    Arrays.stream(roleRequired.value()).forEach(this::roleBit);
+                }
+            }
+        }
+        for (RequestMappingHandlerMapping mapping : mappings.values()) {
+            mapping.getHandlerMethods().values().forEach(this::policyFor);
+        }
+        logger.info("Role guard built {} route policies over roles {}", policies.size(), roleBits.keySet());
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        
-        logger.info("RoleGuard.preHandle called for: {} {}", request.getMethod(), request.getRequestURI());
-        
-        if (!(handler instanceof HandlerMethod)) {
-            logger.info("Handler is not HandlerMethod, allowing");
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
             return true; // Not a controller method, allow
         }
 
-        HandlerMethod handlerMethod = (HandlerMethod) handler;
-        
+        RoutePolicy policy = policyFor(handlerMethod);
+        if (policy == UNRESTRICTED) {
+            return true; // No role requirement, allow
+        }
+
+        // Get user role from header (set by API Gateway)
+        String userRole = request.getHeader("X-User-Role");
+        Long roleBit = userRole != null ? roleBits.get(userRole) : null;
+        boolean allowed = roleBit != null && (policy.allowedRoles & roleBit) != 0;
+
+        if (allowed) {
+            policy.allowed.increment();
+        } else {
+            policy.denied.increment();
+        }
+        if (logger.isDebugEnabled() && ThreadLocalRandom.current().nextInt(LOG_SAMPLE_RATE) == 0) {
+            logger.debug("Role guard - {} {} as {} with role {}: {} (requires {})", request.getMethod(),
+                    request.getRequestURI(), request.getHeader("X-User-Name"), userRole,
+                    allowed ? "allowed" : "denied", policy.requiredRoles);
+        }
+
+        if (!allowed) {
+            writeForbidden(response, userRole == null ? ROLE_MISSING_BODY : policy.denialBody(userRole));
+        }
+        return allowed;
+    }
+
+    // Helper
+    private RoutePolicy policyFor(HandlerMethod handlerMethod) {
+        RoutePolicy policy = policies.get(handlerMethod.getMethod());
+        if (policy == null) {
+            // Only handlers registered after the context refreshed end up here
+            policy = policies.computeIfAbsent(handlerMethod.getMethod(), method -> compile(handlerMethod));
+        }
+        return policy;
+    }
+
+    // Helper
+    private RoleRequired findRoleRequired(HandlerMethod handlerMethod) {
         // Check for @RoleRequired annotation on method or class
         RoleRequired roleRequired = handlerMethod.getMethodAnnotation(RoleRequired.class);
+        return roleRequired != null ? roleRequired : handlerMethod.getBeanType().getAnnotation(RoleRequired.class);
+    }
+
+    // Helper
+    private RoutePolicy compile(HandlerMethod handlerMethod) {
+        RoleRequired roleRequired = findRoleRequired(handlerMethod);
         if (roleRequired == null) {
-            roleRequired = handlerMethod.getBeanType().getAnnotation(RoleRequired.class);
+            return UNRESTRICTED;
         }
-        
-        if (roleRequired == null) {
-            logger.info("No @RoleRequired annotation found, allowing");
-            return true; // No role requirement, allow
+
+        long allowedRoles = 0;
+        for (String role : roleRequired.value()) {
+            allowedRoles |= roleBit(role);
         }
 
-        // Get user role from header (set by API Gateway)
-        String userRole = request.getHeader("X-User-Role");
-        String userName = request.getHeader("X-User-Name");
-        
-        logger.info("Role guard - User: {}, Role: {}, Required: {}", 
-                     userName, userRole, Arrays.toString(roleRequired.value()));
-
-        if (userRole == null) {
-            logger.warn("No user role found in headers for {}", request.getRequestURI());
-            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-            response.setContentType("application/json");
-            response.setCharacterEncoding("UTF-8");
-            response.getWriter().write("{\"error\":\"Access denied\",\"message\":\"User role not found\"}");
-            response.getWriter().flush();
-            return false;
+        String route = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        String requiredRoles = Arrays.toString(roleRequired.value());
+
+        // Pre-render the denial of every known role this route refuses
+        Map<String, byte[]> denialBodies = new HashMap<>();
+        for (Map.Entry<String, Long> role : roleBits.entrySet()) {
+            if ((allowedRoles & role.getValue()) == 0) {
+                denialBodies.put(role.getKey(), renderDenial(requiredRoles, role.getKey()));
+            }
         }
 
-        // Check if user has required role
-        boolean hasRequiredRole = Arrays.asList(roleRequired.value()).contains(userRole);
-        
-        if (!hasRequiredRole) {
-            logger.warn("User {} with role {} attempted to access {} requiring roles {}", 
-                        userName, userRole, request.getRequestURI(), Arrays.toString(roleRequired.value()));
-            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-            response.setContentType("application/json");
-            response.setCharacterEncoding("UTF-8");
-            response.getWriter().write("{\"error\":\"Access denied\",\"message\":\"Insufficient privileges. Required roles: " + Arrays.toString(roleRequired.value()) + ", but user has role: " + userRole + "\"}");
-            response.getWriter().flush();
-            return false;
+        return new RoutePolicy(
+                requiredRoles,
+                allowedRoles,
+                Counter.builder("employee.authz.decisions").tag("route", route).tag("outcome", "allowed")
+                        .register(meterRegistry),
+                Counter.builder("employee.authz.decisions").tag("route", route).tag("outcome", "denied")
+                        .register(meterRegistry),
+                denialBodies);
+    }
+
+    /**
+     * Body of the 403 sent for a user role missing from, or not in, the required roles
+     * Also used by the reactive read application, so both stacks deny the same way
+     *
+     * @param requiredRoles The route's roles as Arrays.toString renders them, e.g. [ADMIN]
+     * @param userRole      The X-User-Role header, null when absent
+     */
+    public static byte[] forbiddenBody(String requiredRoles, String userRole) {
+        return userRole == null ? ROLE_MISSING_BODY.clone() : renderDenial(requiredRoles, userRole);
+    }
+
+    // Helper
+    private synchronized long roleBit(String role) {
+        Long bit = roleBits.get(role);
+        if (bit == null) {
+            if (roleBits.size() == Long.SIZE) {
+                throw new IllegalStateException("More than " + Long.SIZE + " distinct roles in @RoleRequired");
+            }
+            bit = 1L << roleBits.size();
+            roleBits.put(role, bit);
         }
+        return bit;
+    }
+
+    // Helper
+    private static void writeForbidden(HttpServletResponse response, byte[] body) throws IOException {
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+    }
+
+    // Helper
+    private static byte[] renderDenial(String requiredRoles, String userRole) {
+        return ("{\"error\":\"Access denied\",\"message\":\"Insufficient privileges. Required roles: " + requiredRoles
+                + ", but user has role: " + escapeJson(userRole) + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Helper - the role comes straight from a request header
+    private static String escapeJson(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Compiled @RoleRequired of one handler method
+     */
+    private static final class RoutePolicy {
+        private final String requiredRoles;
+        private final long allowedRoles;
+        private final Counter allowed;
+        private final Counter denied;
+        private final Map<String, byte[]> denialBodies;
 
-        logger.info("Access granted for user {} with role {}", userName, userRole);
-        return true;
+        RoutePolicy(String requiredRoles, long allowedRoles, Counter allowed, Counter denied,
+                    Map<String, byte[]> denialBodies) {
+            this.requiredRoles = requiredRoles;
+            this.allowedRoles = allowedRoles;
+            this.allowed = allowed;
+            this.denied = denied;
+            this.denialBodies = denialBodies;
+        }
+
+        byte[] denialBody(String userRole) {
+            byte[] body = denialBodies.get(userRole);
+            // Roles no route mentions are not worth caching - anyone can send them
+            return body != null ? body : renderDenial(requiredRoles, userRole);
+        }
     }
 }
\ No newline at end of file
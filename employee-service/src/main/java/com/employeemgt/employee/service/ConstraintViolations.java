@@ -0,0 +1,94 @@
+package com.employeemgt.employee.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Classifies integrity violations raised when a write is flushed
+ * Lets the write paths insert optimistically and turn a violated constraint
+ * into the same exception the pre-checks used to throw
+ */
+final class ConstraintViolations {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+    // H2 reports a missing parent row with its own state
+    private static final String H2_MISSING_PARENT = "23506";
+
+    private ConstraintViolations() {
+    }
+
+    static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        return UNIQUE_VIOLATION.equals(sqlState(e));
+    }
+
+    static boolean isForeignKeyViolation(DataIntegrityViolationException e) {
+        String sqlState = sqlState(e);
+        return FOREIGN_KEY_VIOLATION.equals(sqlState) || H2_MISSING_PARENT.equals(sqlState);
+    }
+
+    /**
+     * Whether the violated constraint involves the given column
+     * Uses the constraint name when the driver reports one, the error message otherwise
+     */
+    static boolean involves(DataIntegrityViolationException e, String column) {
+        String needle = column.toLowerCase(Locale.ROOT);
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(needle)) {
+                return true;
+            }
+            if (cause instanceof SQLException && cause.getMessage() != null
+                    && describedViolation(cause.getMessage()).contains(needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the driver's description of the violation names the given value, such as
+     * the duplicate key or the missing parent id, as a whole word
+     */
+    static boolean mentions(DataIntegrityViolationException e, String value) {
+        String needle = value.toLowerCase(Locale.ROOT);
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException && cause.getMessage() != null
+                    && containsWord(describedViolation(cause.getMessage()), needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Helper - so id 5 is not found in 15 or in a generated constraint name
+    private static boolean containsWord(String text, String word) {
+        for (int at = text.indexOf(word); at >= 0; at = text.indexOf(word, at + 1)) {
+            int end = at + word.length();
+            if ((at == 0 || !Character.isLetterOrDigit(text.charAt(at - 1)))
+                    && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Helper - H2 appends the failed statement, whose column list would match every column
+    private static String describedViolation(String message) {
+        int statementAt = message.indexOf("SQL statement");
+        return (statementAt >= 0 ? message.substring(0, statementAt) : message).toLowerCase(Locale.ROOT);
+    }
+
+    // Helper
+    private static String sqlState(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+                return sqlException.getSQLState();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,169 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.repository.DepartmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the current DepartmentSnapshot and keeps it fresh
+ *
+ * - Department mutations on this node bump department_catalog_version in their
+ *   transaction and swap in a new snapshot after commit
+ * - Other nodes poll the version (one single-row query) and reload when it moved
+ * - A reload that shows a department renamed or recoded drops the cached profiles
+ *   embedding the old values, on this node and on the others
+ * - An id missing from the snapshot is looked up in the database, so a department
+ *   created elsewhere moments ago is not reported as missing
+ * - A code or name the snapshot knows is confirmed in the database before it is
+ *   reported as a duplicate, so a deleted department never blocks its code; an
+ *   unknown one is trusted and the unique constraints catch the rare race
+ * - A transaction that has changed departments itself bypasses the snapshot
+ *   until it completes
+ */
+@Service
+public class DepartmentCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepartmentCatalog.class);
+
+    private static final String VERSION_SQL = "SELECT version FROM department_catalog_version WHERE id = 1";
+    private static final String BUMP_VERSION_SQL =
+            "UPDATE department_catalog_version SET version = version + 1 WHERE id = 1";
+    private static final String DEPARTMENTS_SQL = "SELECT id, name, code, description FROM departments";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeProfileCache profileCache;
+
+    private volatile DepartmentSnapshot snapshot = DepartmentSnapshot.EMPTY;
+
+    // Held across the reload queries, so a lock rather than synchronized to keep virtual threads unpinned
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public DepartmentSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Department by id, from the snapshot when present
+     */
+    public Optional<DepartmentSnapshot.Entry> find(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        DepartmentSnapshot.Entry department = hasPendingChanges() ? null : snapshot.get(id);
+        if (department != null) {
+            return Optional.of(department);
+        }
+
+        // Either it does not exist or the snapshot is behind - ask the database directly
+        return departmentRepository.findById(id)
+                .map(d -> toEntry(d.getId(), d.getName(), d.getCode(), d.getDescription()));
+    }
+
+    public boolean existsByCode(String code) {
+        return (hasPendingChanges() || snapshot.hasCode(code)) && departmentRepository.existsByCode(code);
+    }
+
+    public boolean existsByName(String name) {
+        return (hasPendingChanges() || snapshot.hasName(name)) && departmentRepository.existsByName(name);
+    }
+
+    /**
+     * Record a department mutation in the current transaction
+     * Bumps the shared version so other nodes notice, and reloads this node's
+     * snapshot once the transaction has completed
+     */
+    public void markChanged() {
+        jdbcTemplate.update(BUMP_VERSION_SQL);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        if (hasPendingChanges()) {
+            return;
+        }
+        // Until it completes, this transaction reads departments from the database rather than the snapshot
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DepartmentCatalog.this);
+                reload();
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.departments.snapshot.refresh-interval-ms:5000}")
+    public void refreshIfStale() {
+        Long version = jdbcTemplate.queryForObject(VERSION_SQL, Long.class);
+        if (version == null || version != snapshot.getVersion()) {
+            reload();
+        }
+    }
+
+    public void reload() {
+        reloadLock.lock();
+        try {
+            // Version first: if a change lands in between, the next poll reloads again
+            Long version = jdbcTemplate.queryForObject(VERSION_SQL, Long.class);
+            List<DepartmentSnapshot.Entry> departments = jdbcTemplate.query(DEPARTMENTS_SQL,
+                    (resultSet, rowNum) -> toEntry(resultSet.getLong(1), resultSet.getString(2),
+                            resultSet.getString(3), resultSet.getString(4)));
+            DepartmentSnapshot previous = snapshot;
+            snapshot = DepartmentSnapshot.of(version != null ? version : 0, departments);
+            invalidateChangedProfiles(previous, departments);
+            logger.debug("Department snapshot reloaded at version {} with {} departments",
+                    snapshot.getVersion(), departments.size());
+        } catch (RuntimeException e) {
+            // Keep serving the previous snapshot; lookups that miss still fall back to the database
+            logger.error("Failed to reload department snapshot", e);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // Helper - true when the current transaction has changed departments the snapshot does not show yet
+    private boolean hasPendingChanges() {
+        return TransactionSynchronizationManager.hasResource(this);
+    }
+
+    // Helper - a department deleted with employees in it is impossible, so only changed ones matter
+    private void invalidateChangedProfiles(DepartmentSnapshot previous, List<DepartmentSnapshot.Entry> departments) {
+        for (DepartmentSnapshot.Entry department : departments) {
+            DepartmentSnapshot.Entry before = previous.get(department.getId());
+            if (before != null && (!Objects.equals(before.getName(), department.getName())
+                    || !Objects.equals(before.getCode(), department.getCode()))) {
+                profileCache.invalidateDepartment(department.getId());
+            }
+        }
+    }
+
+    // Helper
+    private static DepartmentSnapshot.Entry toEntry(long id, String name, String code, String description) {
+        return new DepartmentSnapshot.Entry(id, name, code, description);
+    }
+}
@@ -0,0 +1,100 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.entity.Department;
+import com.employeemgt.employee.repository.DepartmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recomputes the persisted department headcounts in bulk and reports drift
+ * The counts are maintained incrementally by EmployeeService, so drift should
+ * only appear after manual SQL changes or partially applied writes
+ */
+@Service
+public class DepartmentHeadcountRepairJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepartmentHeadcountRepairJob.class);
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Scheduled(cron = "${app.departments.headcount-repair.cron:0 30 3 * * *}")
+    public void scheduledRepair() {
+        repair();
+    }
+
+    /**
+     * Compare every stored headcount with the actual number of employees and fix the ones that drifted
+     *
+     * @return The departments whose stored headcount was wrong, with the stored and actual values
+     */
+    @Transactional
+    public List<HeadcountDrift> repair() {
+        Map<Long, Long> actualCounts = new HashMap<>();
+        for (DepartmentRepository.DepartmentEmployeeCount count : departmentRepository.countEmployeesGroupedByDepartment()) {
+            actualCounts.put(count.getDepartmentId(), count.getEmployeeCount());
+        }
+
+        List<HeadcountDrift> drifts = new ArrayList<>();
+        for (Department department : departmentRepository.findAll()) {
+            long actual = actualCounts.getOrDefault(department.getId(), 0L);
+            if (department.getEmployeeCount() != actual) {
+                drifts.add(new HeadcountDrift(department.getId(), department.getCode(),
+                        department.getEmployeeCount(), actual));
+            }
+        }
+
+        if (drifts.isEmpty()) {
+            logger.debug("Department headcount repair found no drift");
+            return drifts;
+        }
+
+        List<Long> driftedIds = drifts.stream().map(HeadcountDrift::getDepartmentId).toList();
+        departmentRepository.recomputeEmployeeCounts(driftedIds);
+
+        for (HeadcountDrift drift : drifts) {
+            logger.warn("Department {} ({}) headcount drifted: stored {}, actual {}",
+                    drift.getDepartmentId(), drift.getDepartmentCode(), drift.getStoredCount(), drift.getActualCount());
+        }
+        return drifts;
+    }
+
+    public static class HeadcountDrift {
+        private final Long departmentId;
+        private final String departmentCode;
+        private final long storedCount;
+        private final long actualCount;
+
+        public HeadcountDrift(Long departmentId, String departmentCode, long storedCount, long actualCount) {
+            this.departmentId = departmentId;
+            this.departmentCode = departmentCode;
+            this.storedCount = storedCount;
+            this.actualCount = actualCount;
+        }
+
+        public Long getDepartmentId() {
+            return departmentId;
+        }
+
+        public String getDepartmentCode() {
+            return departmentCode;
+        }
+
+        public long getStoredCount() {
+            return storedCount;
+        }
+
+        public long getActualCount() {
+            return actualCount;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Running headcount and salary moments of one department
+ * Salaries are whole cents so the sum stays exact; mean and variance use Welford's
+ * update, which also runs backwards when an employee leaves.
+ *
+ * Removing the current minimum or maximum cannot be undone from the moments alone,
+ * so the extremes are flagged stale until they are re-read from the database.
+ * Not thread-safe; DepartmentStatsAggregator guards every instance.
+ */
+final class DepartmentSalaryAggregate {
+
+    private static final EmployeeStatus[] STATUSES = EmployeeStatus.values();
+
+    private long headcount;
+    private final long[] statusCounts = new long[STATUSES.length];
+
+    private long salaryCount;
+    private long salarySumCents;
+    private double mean;
+    private double m2;
+    private long minCents = Long.MAX_VALUE;
+    private long maxCents = Long.MIN_VALUE;
+    private boolean extremesStale;
+
+    // Bumped on every change, so a refresh can tell whether it read a current state
+    private long modifications;
+
+    void add(EmployeeStatus status, Long salaryCents) {
+        headcount++;
+        if (status != null) {
+            statusCounts[status.ordinal()]++;
+        }
+        if (salaryCents != null) {
+            long x = salaryCents;
+            salaryCount++;
+            salarySumCents += x;
+            double delta = x - mean;
+            mean += delta / salaryCount;
+            m2 += delta * (x - mean);
+            minCents = Math.min(minCents, x);
+            maxCents = Math.max(maxCents, x);
+        }
+        modifications++;
+    }
+
+    void remove(EmployeeStatus status, Long salaryCents) {
+        headcount--;
+        if (status != null) {
+            statusCounts[status.ordinal()]--;
+        }
+        if (salaryCents != null) {
+            long x = salaryCents;
+            salaryCount--;
+            salarySumCents -= x;
+            if (salaryCount == 0) {
+                mean = 0;
+                m2 = 0;
+                minCents = Long.MAX_VALUE;
+                maxCents = Long.MIN_VALUE;
+                extremesStale = false;
+            } else {
+                double delta = x - mean;
+                mean -= delta / salaryCount;
+                m2 = Math.max(m2 - delta * (x - mean), 0);
+                if (x <= minCents || x >= maxCents) {
+                    extremesStale = true;
+                }
+            }
+        }
+        modifications++;
+    }
+
+    /**
+     * Fold in one group of a SQL aggregate (Chan et al. parallel combination)
+     *
+     * @param varianceCents Population variance of the group in cents squared
+     */
+    void merge(EmployeeStatus status, long count, long groupSalaryCount, long groupSumCents,
+               long groupMinCents, long groupMaxCents, double varianceCents) {
+        headcount += count;
+        if (status != null) {
+            statusCounts[status.ordinal()] += count;
+        }
+        if (groupSalaryCount > 0) {
+            double groupMean = (double) groupSumCents / groupSalaryCount;
+            long total = salaryCount + groupSalaryCount;
+            double delta = groupMean - mean;
+            m2 += varianceCents * groupSalaryCount + delta * delta * salaryCount * groupSalaryCount / total;
+            mean += delta * groupSalaryCount / total;
+            salaryCount = total;
+            salarySumCents += groupSumCents;
+            minCents = Math.min(minCents, groupMinCents);
+            maxCents = Math.max(maxCents, groupMaxCents);
+        }
+        modifications++;
+    }
+
+    void setExtremes(long minCents, long maxCents) {
+        this.minCents = minCents;
+        this.maxCents = maxCents;
+        this.extremesStale = false;
+    }
+
+    boolean isEmpty() {
+        return headcount == 0;
+    }
+
+    boolean isExtremesStale() {
+        return extremesStale;
+    }
+
+    long getModifications() {
+        return modifications;
+    }
+
+    long getHeadcount() {
+        return headcount;
+    }
+
+    long getStatusCount(EmployeeStatus status) {
+        return statusCounts[status.ordinal()];
+    }
+
+    long getSalaryCount() {
+        return salaryCount;
+    }
+
+    long getSalarySumCents() {
+        return salarySumCents;
+    }
+
+    Long getMinCents() {
+        return salaryCount > 0 ? minCents : null;
+    }
+
+    Long getMaxCents() {
+        return salaryCount > 0 ? maxCents : null;
+    }
+
+    /**
+     * Exact mean in cents, rounded half up
+     */
+    Long getMeanCents() {
+        if (salaryCount == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(salarySumCents)
+                .divide(BigDecimal.valueOf(salaryCount), 0, RoundingMode.HALF_UP)
+                .longValue();
+    }
+
+    /**
+     * Population standard deviation in cents
+     */
+    Double getStdDevCents() {
+        return salaryCount > 0 ? Math.sqrt(m2 / salaryCount) : null;
+    }
+
+    static Long toCents(BigDecimal amount) {
+        return amount != null ? amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact() : null;
+    }
+
+    static BigDecimal fromCents(Long cents) {
+        return cents != null ? BigDecimal.valueOf(cents, 2) : null;
+    }
+}
@@ -1,17 +1,24 @@
 package com.employeemgt.employee.service;
 
+import com.employeemgt.employee.dto.CountMode;
 import com.employeemgt.employee.dto.DepartmentFilterRequest;
 import com.employeemgt.employee.dto.DepartmentRequest;
 import com.employeemgt.employee.dto.DepartmentResponse;
+import com.employeemgt.employee.dto.EstimatedSlice;
 import com.employeemgt.employee.entity.Department;
 import com.employeemgt.employee.exception.BusinessRuleViolationException;
 import com.employeemgt.employee.exception.DuplicateResourceException;
 import com.employeemgt.employee.exception.ResourceNotFoundException;
 import com.employeemgt.employee.repository.DepartmentRepository;
+import com.employeemgt.employee.repository.RowCountEstimator;
+import com.employeemgt.employee.repository.SliceQueryExecutor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalLong;
 
 @Service
 @Transactional
@@ -27,6 +35,19 @@ public class DepartmentService {
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Autowired
+    private SliceQueryExecutor sliceQueryExecutor;
+
+    @Autowired
+    private RowCountEstimator rowCountEstimator;
+
+    @Autowired
+    private DepartmentCatalog departmentCatalog;
+
+    @Autowired
+    private EmployeeProfileCache profileCache;
+
+    @Transactional(readOnly = true)
     public Page<DepartmentResponse> getDepartmentsWithFilters(DepartmentFilterRequest filter) {
         Pageable pageable = PageRequest.of(filter.getPage(), filter.getPerPage());
 
@@ -39,6 +60,47 @@ public class DepartmentService {
         return departmentPage.map(this::convertToResponse);
     }
 
+    /**
+     * Get departments with filters, computing the total according to the requested count mode
+     */
+    @Transactional(readOnly = true)
+    public Slice<DepartmentResponse> getDepartmentsWithCountMode(DepartmentFilterRequest filter) {
+        CountMode countMode = filter.getCountMode();
+        if (countMode == CountMode.EXACT) {
+            return getDepartmentsWithFilters(filter);
+        }
+
+        Pageable pageable = PageRequest.of(filter.getPage(), filter.getPerPage());
+        Specification<Department> spec = buildSpecification(filter);
+
+        Slice<DepartmentResponse> slice = sliceQueryExecutor.findSlice(Department.class, spec, pageable)
+                .map(this::convertToResponse);
+        if (countMode == CountMode.NONE) {
+            return slice;
+        }
+
+        OptionalLong estimate = estimateTotal(filter);
+        if (estimate.isEmpty()) {
+            // No statistics available - fall back to an exact count
+            return new PageImpl<>(slice.getContent(), pageable, departmentRepository.count(spec));
+        }
+
+        long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        return new EstimatedSlice<>(slice.getContent(), pageable, slice.hasNext(),
+                Math.max(estimate.getAsLong(), seen));
+    }
+
+    /**
+     * ETag of a department, read from its version columns without loading the entity
+     */
+    @Transactional(readOnly = true)
+    public String getDepartmentETag(Long id) {
+        DepartmentRepository.DepartmentVersion version = departmentRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
+        return ETags.of("department", id, version.getUpdatedAt(), version.getEmployeeCount());
+    }
+
+    @Transactional(readOnly = true)
     public DepartmentResponse getDepartmentById(Long id) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
@@ -47,12 +109,12 @@ public class DepartmentService {
 
     public DepartmentResponse createDepartment(DepartmentRequest request) {
         // Check for duplicate code
-        if (departmentRepository.existsByCode(request.getCode())) {
+        if (departmentCatalog.existsByCode(request.getCode())) {
             throw new DuplicateResourceException("Department with code '" + request.getCode() + "' already exists");
         }
         
         // Check for duplicate name
-        if (departmentRepository.existsByName(request.getName())) {
+        if (departmentCatalog.existsByName(request.getName())) {
             throw new DuplicateResourceException("Department with name '" + request.getName() + "' already exists");
         }
 
@@ -62,7 +124,8 @@ public class DepartmentService {
                 request.getCode()
         );
 
-        Department savedDepartment = departmentRepository.save(department);
+        Department savedDepartment = saveAndFlush(department);
+        departmentCatalog.markChanged();
         return convertToResponse(savedDepartment);
     }
 
@@ -71,13 +134,13 @@ public class DepartmentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
 
         // Check for duplicate code (excluding current department)
-        if (departmentRepository.existsByCode(request.getCode()) && 
+        if (departmentCatalog.existsByCode(request.getCode()) && 
             !existingDepartment.getCode().equals(request.getCode())) {
             throw new DuplicateResourceException("Department with code '" + request.getCode() + "' already exists");
         }
         
         // Check for duplicate name (excluding current department)
-        if (departmentRepository.existsByName(request.getName()) && 
+        if (departmentCatalog.existsByName(request.getName()) && 
             !existingDepartment.getName().equals(request.getName())) {
             throw new DuplicateResourceException("Department with name '" + request.getName() + "' already exists");
         }
@@ -86,7 +149,10 @@ public class DepartmentService {
         existingDepartment.setDescription(request.getDescription());
         existingDepartment.setCode(request.getCode());
 
-        Department updatedDepartment = departmentRepository.save(existingDepartment);
+        Department updatedDepartment = saveAndFlush(existingDepartment);
+        departmentCatalog.markChanged();
+        // Cached profiles embed the department name and code; the catalog invalidates again after commit
+        profileCache.invalidateDepartment(id);
         return convertToResponse(updatedDepartment);
     }
 
@@ -95,12 +161,13 @@ public class DepartmentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
 
         // Check if department has employees
-        Long employeeCount = departmentRepository.countEmployeesByDepartmentId(id);
-        if (employeeCount > 0) {
+        if (department.getEmployeeCount() > 0) {
             throw new BusinessRuleViolationException("Cannot delete department that contains employees. Please reassign employees first.");
         }
 
         departmentRepository.delete(department);
+        departmentCatalog.markChanged();
+        profileCache.invalidateDepartment(id);
     }
 
     /**
@@ -129,16 +196,67 @@ public class DepartmentService {
         };
     }
 
+    /**
+     * Planner estimate for the filtered department count
+     */
+    private OptionalLong estimateTotal(DepartmentFilterRequest filter) {
+        List<Object> params = new ArrayList<>();
+        List<String> conditions = estimateConditions(filter, params);
+        return rowCountEstimator.estimate("departments", conditions, params);
+    }
+
+    /**
+     * The filters of buildSpecification as SQL conditions, checked against it by EstimateConditionsTest
+     */
+    static List<String> estimateConditions(DepartmentFilterRequest filter, List<Object> params) {
+        List<String> conditions = new ArrayList<>();
+
+        if (filter.hasId()) {
+            conditions.add("id = ?");
+            params.add(filter.getId());
+        }
+
+        if (filter.hasCode()) {
+            conditions.add("code = ?");
+            params.add(filter.getCode());
+        }
+
+        if (filter.hasName()) {
+            conditions.add("lower(name) LIKE ?");
+            params.add("%" + filter.getName().trim().toLowerCase() + "%");
+        }
+
+        return conditions;
+    }
+
+    /**
+     * Write the department immediately so a code or name taken since the snapshot
+     * was loaded (e.g. by another instance) is reported as a duplicate
+     */
+    private Department saveAndFlush(Department department) {
+        try {
+            return departmentRepository.saveAndFlush(department);
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintViolations.isUniqueViolation(e)) {
+                throw e;
+            }
+            if (ConstraintViolations.involves(e, "name")) {
+                throw new DuplicateResourceException(
+                        "Department with name '" + department.getName() + "' already exists");
+            }
+            throw new DuplicateResourceException("Department with code '" + department.getCode() + "' already exists");
+        }
+    }
+
     // Helper method to convert entity to response DTO
+    // The headcount is the persisted employee_count column, so no aggregate query is needed
     private DepartmentResponse convertToResponse(Department department) {
-        Long employeeCount = departmentRepository.countEmployeesByDepartmentId(department.getId());
-        
         return new DepartmentResponse(
                 department.getId(),
                 department.getName(),
                 department.getDescription(),
                 department.getCode(),
-                employeeCount,
+                department.getEmployeeCount(),
                 department.getCreatedAt(),
                 department.getUpdatedAt()
         );
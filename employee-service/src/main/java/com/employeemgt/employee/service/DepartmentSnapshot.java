@@ -0,0 +1,110 @@
+package com.employeemgt.employee.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable copy of the departments table, replaced wholesale on every change
+ * Ids are small and dense, so lookups by id index straight into an array;
+ * codes and names go through hash maps. The headcount is deliberately left out
+ * since it changes with every employee write
+ */
+public final class DepartmentSnapshot {
+
+    // Ids above this go to the overflow map instead of growing the array
+    private static final int MAX_DENSE_ID = 1 << 16;
+
+    static final DepartmentSnapshot EMPTY = new DepartmentSnapshot(-1, new Entry[0], Map.of(), Map.of(), Map.of());
+
+    private final long version;
+    private final Entry[] byId;
+    private final Map<Long, Entry> sparseById;
+    private final Map<String, Entry> byCode;
+    private final Map<String, Entry> byName;
+
+    private DepartmentSnapshot(long version, Entry[] byId, Map<Long, Entry> sparseById,
+                               Map<String, Entry> byCode, Map<String, Entry> byName) {
+        this.version = version;
+        this.byId = byId;
+        this.sparseById = sparseById;
+        this.byCode = byCode;
+        this.byName = byName;
+    }
+
+    static DepartmentSnapshot of(long version, Collection<Entry> departments) {
+        int maxDenseId = 0;
+        for (Entry department : departments) {
+            if (department.getId() < MAX_DENSE_ID) {
+                maxDenseId = Math.max(maxDenseId, (int) department.getId());
+            }
+        }
+
+        Entry[] byId = new Entry[maxDenseId + 1];
+        Map<Long, Entry> sparseById = new HashMap<>();
+        Map<String, Entry> byCode = new HashMap<>();
+        Map<String, Entry> byName = new HashMap<>();
+        for (Entry department : departments) {
+            if (department.getId() < MAX_DENSE_ID) {
+                byId[(int) department.getId()] = department;
+            } else {
+                sparseById.put(department.getId(), department);
+            }
+            byCode.put(department.getCode(), department);
+            byName.put(department.getName(), department);
+        }
+        return new DepartmentSnapshot(version, byId, Map.copyOf(sparseById), Map.copyOf(byCode), Map.copyOf(byName));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Entry get(Long id) {
+        if (id == null) {
+            return null;
+        }
+        if (id >= 0 && id < byId.length) {
+            return byId[id.intValue()];
+        }
+        return sparseById.get(id);
+    }
+
+    public boolean hasCode(String code) {
+        return code != null && byCode.containsKey(code);
+    }
+
+    public boolean hasName(String name) {
+        return name != null && byName.containsKey(name);
+    }
+
+    public static final class Entry {
+        private final long id;
+        private final String name;
+        private final String code;
+        private final String description;
+
+        public Entry(long id, String name, String code, String description) {
+            this.id = id;
+            this.name = name;
+            this.code = code;
+            this.description = description;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
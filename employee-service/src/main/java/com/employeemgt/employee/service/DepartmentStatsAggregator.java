@@ -0,0 +1,293 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.DepartmentStats;
+import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+import com.employeemgt.employee.event.EmployeeChangedEvent;
+import com.employeemgt.employee.event.EmployeeChangedEvent.EmployeeSnapshot;
+import com.employeemgt.employee.model.EmployeeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Per-department headcount and salary aggregates kept in memory
+ * Every committed employee create, update and delete adjusts the aggregates of the
+ * departments involved, so a stats request only walks the departments.
+ *
+ * A periodic SQL GROUP BY replaces the aggregates to correct any drift; it is only
+ * applied when no write landed while it ran and none sat between its commit and its
+ * in-memory update when it finished, since the query could not tell whether such a
+ * write was already included.
+ *
+ * Writes made by other instances only reach this one through the employee-events topic,
+ * which carries no salaries, so they cannot be applied here. An event that is not the
+ * echo of a local change triggers a GROUP BY within seconds instead.
+ */
+@Service
+public class DepartmentStatsAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepartmentStatsAggregator.class);
+
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private static final String GROUP_BY_SQL =
+            "SELECT department_id, status, COUNT(*), COUNT(salary), SUM(salary), MIN(salary), MAX(salary), " +
+            "VAR_POP(salary) FROM employees WHERE department_id IS NOT NULL GROUP BY department_id, status";
+
+    private static final String EXTREMES_SQL =
+            "SELECT MIN(salary), MAX(salary) FROM employees WHERE department_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DepartmentCatalog departmentCatalog;
+
+    // Guarded by this
+    private Map<Long, DepartmentSalaryAggregate> aggregates = new HashMap<>();
+    private long changeCount;
+    // Changes of transactions that are committing or committed but not applied yet
+    private final Set<EmployeeChangedEvent> committing = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Local changes whose event has not come back from the topic yet, by employee id
+    private final Map<Long, Integer> unechoedChanges = new HashMap<>();
+    private boolean remoteChanges;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public synchronized void onEmployeeCommitting(EmployeeChangedEvent event) {
+        committing.add(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public synchronized void onEmployeeRolledBack(EmployeeChangedEvent event) {
+        committing.remove(event);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onEmployeeChanged(EmployeeChangedEvent event) {
+        committing.remove(event);
+        EmployeeSnapshot previous = event.getPrevious();
+        EmployeeSnapshot current = event.getCurrent();
+        if (previous != null && previous.getDepartmentId() != null) {
+            DepartmentSalaryAggregate aggregate = aggregates.get(previous.getDepartmentId());
+            if (aggregate != null) {
+                aggregate.remove(previous.getStatus(), DepartmentSalaryAggregate.toCents(previous.getSalary()));
+                if (aggregate.isEmpty()) {
+                    aggregates.remove(previous.getDepartmentId());
+                }
+            }
+        }
+        if (current != null && current.getDepartmentId() != null) {
+            aggregates.computeIfAbsent(current.getDepartmentId(), id -> new DepartmentSalaryAggregate())
+                    .add(current.getStatus(), DepartmentSalaryAggregate.toCents(current.getSalary()));
+        }
+        changeCount++;
+        unechoedChanges.merge(event.getEmployeeId(), 1, Integer::sum);
+    }
+
+    /**
+     * Every instance sees every employee event; one that is not the echo of a local change
+     * was written elsewhere
+     */
+    @KafkaListener(
+            topics = "${app.kafka.topic.employee-events:employee-events}",
+            groupId = "department-stats-#{T(java.util.UUID).randomUUID().toString()}",
+            containerFactory = "employeeEventListenerFactory",
+            autoStartup = "${app.departments.stats.remote-reconcile:true}",
+            properties = "auto.offset.reset=latest")
+    public synchronized void onEmployeeEvent(EmployeeEvent event) {
+        if (event == null || event.getEmployeeId() == null) {
+            return;
+        }
+        Integer unechoed = unechoedChanges.remove(event.getEmployeeId());
+        if (unechoed == null) {
+            remoteChanges = true;
+        } else if (unechoed > 1) {
+            unechoedChanges.put(event.getEmployeeId(), unechoed - 1);
+        }
+    }
+
+    /**
+     * Stats of every department that has employees, ascending by department id
+     */
+    public List<DepartmentStats> getStats() {
+        DepartmentSnapshot departments = departmentCatalog.getSnapshot();
+        List<DepartmentStats> stats = new ArrayList<>();
+        synchronized (this) {
+            for (Map.Entry<Long, DepartmentSalaryAggregate> entry : new TreeMap<>(aggregates).entrySet()) {
+                stats.add(toStats(entry.getKey(), entry.getValue(), departments));
+            }
+        }
+        return stats;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${app.departments.stats.reconcile-interval-ms:900000}",
+               initialDelayString = "${app.departments.stats.reconcile-interval-ms:900000}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * Re-read the aggregates once another instance has written employees
+     */
+    @Scheduled(fixedDelayString = "${app.departments.stats.remote-reconcile-interval-ms:5000}")
+    public void reconcileRemoteChanges() {
+        synchronized (this) {
+            if (!remoteChanges) {
+                return;
+            }
+            remoteChanges = false;
+        }
+        if (!reconcile()) {
+            synchronized (this) {
+                remoteChanges = true;
+            }
+        }
+    }
+
+    /**
+     * Replace the aggregates with a fresh GROUP BY, retrying while writes keep landing during the query
+     *
+     * @return Whether the aggregates were replaced
+     */
+    public boolean reconcile() {
+        try {
+            for (int attempt = 1; attempt <= MAX_RECONCILE_ATTEMPTS; attempt++) {
+                long changeCountBefore;
+                synchronized (this) {
+                    changeCountBefore = changeCount;
+                }
+
+                Map<Long, DepartmentSalaryAggregate> fresh = queryAggregates();
+
+                synchronized (this) {
+                    // A committed change still to be applied may already be in the query result
+                    if (changeCount == changeCountBefore && committing.isEmpty()) {
+                        logDrift(fresh);
+                        aggregates = fresh;
+                        // An echo still on its way only costs one more reconcile
+                        unechoedChanges.clear();
+                        return true;
+                    }
+                }
+            }
+            logger.info("Department stats reconciliation skipped, employees kept changing while it ran");
+        } catch (RuntimeException e) {
+            logger.error("Failed to reconcile department stats", e);
+        }
+        return false;
+    }
+
+    /**
+     * Re-read the minimum and maximum of departments whose extreme salary left
+     */
+    @Scheduled(fixedDelayString = "${app.departments.stats.extremes-refresh-interval-ms:5000}")
+    public void refreshStaleExtremes() {
+        Map<Long, Long> stale = new LinkedHashMap<>();
+        synchronized (this) {
+            aggregates.forEach((departmentId, aggregate) -> {
+                if (aggregate.isExtremesStale()) {
+                    stale.put(departmentId, aggregate.getModifications());
+                }
+            });
+        }
+
+        stale.forEach((departmentId, modifications) -> {
+            BigDecimal[] extremes = jdbcTemplate.queryForObject(EXTREMES_SQL,
+                    (resultSet, rowNum) -> new BigDecimal[]{resultSet.getBigDecimal(1), resultSet.getBigDecimal(2)},
+                    departmentId);
+            synchronized (this) {
+                DepartmentSalaryAggregate aggregate = aggregates.get(departmentId);
+                // A later write may or may not be in what we read - leave it for the next run
+                if (aggregate != null && aggregate.getModifications() == modifications
+                        && extremes[0] != null && extremes[1] != null) {
+                    aggregate.setExtremes(DepartmentSalaryAggregate.toCents(extremes[0]),
+                            DepartmentSalaryAggregate.toCents(extremes[1]));
+                }
+            }
+        });
+    }
+
+    // Helper
+    private Map<Long, DepartmentSalaryAggregate> queryAggregates() {
+        Map<Long, DepartmentSalaryAggregate> fresh = new HashMap<>();
+        jdbcTemplate.query(GROUP_BY_SQL, resultSet -> {
+            long salaryCount = resultSet.getLong(4);
+            BigDecimal sum = resultSet.getBigDecimal(5);
+            BigDecimal min = resultSet.getBigDecimal(6);
+            BigDecimal max = resultSet.getBigDecimal(7);
+            // VAR_POP is in currency units squared
+            double varianceCents = resultSet.getDouble(8) * 10_000;
+            fresh.computeIfAbsent(resultSet.getLong(1), id -> new DepartmentSalaryAggregate()).merge(
+                    EmployeeStatus.valueOf(resultSet.getString(2)),
+                    resultSet.getLong(3),
+                    salaryCount,
+                    salaryCount > 0 ? DepartmentSalaryAggregate.toCents(sum) : 0,
+                    salaryCount > 0 ? DepartmentSalaryAggregate.toCents(min) : 0,
+                    salaryCount > 0 ? DepartmentSalaryAggregate.toCents(max) : 0,
+                    varianceCents);
+        });
+        return fresh;
+    }
+
+    // Helper - caller holds the lock
+    private void logDrift(Map<Long, DepartmentSalaryAggregate> fresh) {
+        for (Map.Entry<Long, DepartmentSalaryAggregate> entry : fresh.entrySet()) {
+            DepartmentSalaryAggregate current = aggregates.get(entry.getKey());
+            DepartmentSalaryAggregate actual = entry.getValue();
+            long headcount = current != null ? current.getHeadcount() : 0;
+            long salarySum = current != null ? current.getSalarySumCents() : 0;
+            if (headcount != actual.getHeadcount() || salarySum != actual.getSalarySumCents()) {
+                logger.warn("Department {} stats drifted: headcount {} vs {}, salary sum {} vs {} cents",
+                        entry.getKey(), headcount, actual.getHeadcount(), salarySum, actual.getSalarySumCents());
+            }
+        }
+    }
+
+    // Helper
+    private DepartmentStats toStats(Long departmentId, DepartmentSalaryAggregate aggregate,
+                                    DepartmentSnapshot departments) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (EmployeeStatus status : EmployeeStatus.values()) {
+            byStatus.put(status.name(), aggregate.getStatusCount(status));
+        }
+        DepartmentSnapshot.Entry department = departments.get(departmentId);
+        Double stdDev = aggregate.getStdDevCents();
+        return new DepartmentStats(
+                departmentId,
+                department != null ? department.getName() : null,
+                department != null ? department.getCode() : null,
+                aggregate.getHeadcount(),
+                byStatus,
+                aggregate.getSalaryCount(),
+                DepartmentSalaryAggregate.fromCents(aggregate.getSalarySumCents()),
+                DepartmentSalaryAggregate.fromCents(aggregate.getMeanCents()),
+                DepartmentSalaryAggregate.fromCents(aggregate.getMinCents()),
+                DepartmentSalaryAggregate.fromCents(aggregate.getMaxCents()),
+                stdDev != null ? BigDecimal.valueOf(stdDev).movePointLeft(2).setScale(2, RoundingMode.HALF_UP) : null);
+    }
+}
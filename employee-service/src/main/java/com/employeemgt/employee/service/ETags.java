@@ -0,0 +1,41 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.EmployeeResponse;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Builds the strong entity tags used for conditional GETs
+ * A tag is the resource kind and id followed by whatever versions the response depends on
+ * Shared with the reactive read application, so either stack answers a poll with the same tag
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(String kind, Long id, Object... versions) {
+        StringBuilder tag = new StringBuilder(kind).append('-').append(id);
+        for (Object version : versions) {
+            tag.append('-').append(version instanceof LocalDateTime timestamp ? micros(timestamp) : version);
+        }
+        return tag.toString();
+    }
+
+    /**
+     * Tag of a self-profile, derived from the response itself so no extra query is needed
+     */
+    public static String ofProfile(EmployeeResponse profile) {
+        EmployeeResponse.DepartmentSummary department = profile.getDepartment();
+        int departmentHash = department != null
+                ? Objects.hash(department.getId(), department.getName(), department.getCode()) : 0;
+        return of("profile", profile.getId(), profile.getUpdatedAt(), Integer.toHexString(departmentHash));
+    }
+
+    // Microseconds are what the database keeps, so a re-read row yields the same tag
+    private static long micros(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + timestamp.getNano() / 1_000;
+    }
+}
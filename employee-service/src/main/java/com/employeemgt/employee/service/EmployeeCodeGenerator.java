@@ -1,48 +1,101 @@
 package com.employeemgt.employee.service;
 
-import com.employeemgt.employee.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Random;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Allocates employee codes from blocks reserved on a database sequence (hi/lo)
+ * Format: {PREFIX}{YYYYMM}{SUFFIX}, the suffix being at least 6 digits
+ * Example: EMP202410000123, MGR202410000124
+ *
+ * Each nextval on employee_code_seq (see V8 migration) reserves BLOCK_SIZE suffixes
+ * for this instance, so codes are unique across instances without checking the
+ * employees table. Within a block, allocation is a single atomic increment.
+ * Suffixes are unique across all prefixes and months, so the month part is informational
+ */
 @Service
 public class EmployeeCodeGenerator {
 
-    @Autowired
-    private EmployeeRepository employeeRepository;
-
     private static final String EMPLOYEE_PREFIX = "EMP";
     private static final String MANAGER_PREFIX = "MGR";
     private static final String ADMIN_PREFIX = "ADM";
 
+    private static final String SEQUENCE_NAME = "employee_code_seq";
+
+    // Must never change once codes have been issued: block n covers [n * BLOCK_SIZE, (n + 1) * BLOCK_SIZE)
+    static final long BLOCK_SIZE = 100;
+    private static final int MIN_SUFFIX_DIGITS = 6;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private volatile Block block = Block.EXHAUSTED;
+
+    // A lock rather than synchronized: a virtual thread waiting on the sequence must not pin its carrier
+    private final ReentrantLock reserveLock = new ReentrantLock();
+
     /**
-     * Generate unique employee code based on role and current timestamp
-     * Format: {PREFIX}{YYYYMM}{RANDOM_3_DIGITS}
-     * Example: EMP202410001, MGR202410002
+     * Generate a unique employee code for the given role
      */
     public String generateEmployeeCode(String role) {
-        String prefix = determinePrefix(role);
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
-
-        String employeeCode;
-        int attempts = 0;
-        int maxAttempts = 100;
+        return determinePrefix(role) + currentPeriod() + formatSuffix(nextSuffix());
+    }
 
-        do {
-            String randomSuffix = String.format("%03d", new Random().nextInt(1000));
-            employeeCode = prefix + timestamp + randomSuffix;
-            attempts++;
+    long nextSuffix() {
+        while (true) {
+            Block current = block;
+            long value = current.next.getAndIncrement();
+            if (value < current.end) {
+                return value;
+            }
+            reserveBlock(current);
+        }
+    }
 
-            if (attempts > maxAttempts) {
-                throw new RuntimeException(
-                        "Unable to generate unique employee code after " + maxAttempts + " attempts");
+    // Only the thread that finds the block exhausted goes to the database; the rest retry on the new block
+    private void reserveBlock(Block exhausted) {
+        reserveLock.lock();
+        try {
+            if (block != exhausted) {
+                return;
             }
-        } while (employeeRepository.existsByEmployeeCode(employeeCode));
+            Long hi = jdbcTemplate.queryForObject(nextValueSql(), Long.class);
+            block = new Block(hi * BLOCK_SIZE, (hi + 1) * BLOCK_SIZE);
+        } finally {
+            reserveLock.unlock();
+        }
+    }
+
+    private String nextValueSql() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getSequenceSupport()
+                .getSequenceNextValString(SEQUENCE_NAME);
+    }
 
-        return employeeCode;
+    private static String currentPeriod() {
+        LocalDate today = LocalDate.now();
+        int period = today.getYear() * 100 + today.getMonthValue();
+        return Integer.toString(period);
+    }
+
+    private static String formatSuffix(long suffix) {
+        String digits = Long.toString(suffix);
+        if (digits.length() >= MIN_SUFFIX_DIGITS) {
+            return digits;
+        }
+        return "0".repeat(MIN_SUFFIX_DIGITS - digits.length()) + digits;
     }
 
     private String determinePrefix(String role) {
@@ -61,4 +114,19 @@ public class EmployeeCodeGenerator {
                 return EMPLOYEE_PREFIX;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * A reserved range of suffixes, handed out by atomic increment
+     */
+    private static final class Block {
+        static final Block EXHAUSTED = new Block(0, 0);
+
+        final AtomicLong next;
+        final long end;
+
+        Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
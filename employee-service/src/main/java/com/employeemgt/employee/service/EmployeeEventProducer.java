@@ -1,63 +1,53 @@
 package com.employeemgt.employee.service;
 
 import com.employeemgt.employee.model.EmployeeEvent;
+import com.employeemgt.employee.entity.Department;
 import com.employeemgt.employee.entity.Employee;
+import com.employeemgt.employee.event.EmployeeChangedEvent.EmployeeSnapshot;
+import com.employeemgt.employee.repository.EmployeeOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * Kafka Producer Service for Employee Events
- * Following GeeksforGeeks Spring Boot Kafka integration guide
+ * Events are not sent from the request thread: they are appended to the
+ * employee_outbox table in the caller's transaction, and EmployeeOutboxRelay
+ * publishes them once committed. A rolled-back write therefore never produces an event
  */
 @Service
+@Transactional(propagation = Propagation.MANDATORY)
 public class EmployeeEventProducer {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeEventProducer.class);
 
-    @Value("${app.kafka.topic.employee-events:employee-events}")
-    private String topicName;
+    @Autowired
+    private EmployeeOutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @Autowired
-    private KafkaTemplate<String, EmployeeEvent> kafkaTemplate;
+    private DepartmentCatalog departmentCatalog;
 
     /**
-     * Send employee event to Kafka topic
+     * Record an employee event in the outbox of the current transaction
      */
     public void sendEmployeeEvent(EmployeeEvent event) {
-        try {
-            // Generate unique event ID if not set
-            if (event.getEventId() == null || event.getEventId().isEmpty()) {
-                event.setEventId(UUID.randomUUID().toString());
-            }
-
-            logger.info("Sending employee event to topic {}: {}", topicName, event);
-
-            // Send message to Kafka topic
-            CompletableFuture<SendResult<String, EmployeeEvent>> future = 
-                kafkaTemplate.send(topicName, event.getEmployeeId().toString(), event);
-
-            // Handle success callback
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    logger.info("Successfully sent employee event: {} to topic: {} with offset: {}", 
-                        event.getEventId(), topicName, result.getRecordMetadata().offset());
-                } else {
-                    logger.error("Failed to send employee event: {} to topic: {}", 
-                        event.getEventId(), topicName, ex);
-                }
-            });
-
-        } catch (Exception e) {
-            logger.error("Error sending employee event to Kafka: {}", event, e);
-        }
+        outboxRepository.append(toOutboxEntry(event));
+        logger.debug("Queued employee event {} ({}) for employee {}",
+                event.getEventId(), event.getAction(), event.getEmployeeId());
     }
 
     /**
@@ -127,13 +117,33 @@ public class EmployeeEventProducer {
             employee.getFirstName(),
             employee.getLastName(),
             employee.getEmail(),
-            employee.getDepartment() != null ? employee.getDepartment().getName() : null,
+            departmentName(employee),
             "CREATE"
         );
         
         sendEmployeeEvent(event);
     }
 
+    /**
+     * Record created events for a batch of employees with one batched insert
+     */
+    public void sendEmployeeCreatedEvents(List<Employee> employees) {
+        List<EmployeeOutboxRepository.OutboxEntry> entries = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            entries.add(toOutboxEntry(new EmployeeEvent(
+                UUID.randomUUID().toString(),
+                employee.getId(),
+                employee.getEmployeeCode(),
+                employee.getFirstName(),
+                employee.getLastName(),
+                employee.getEmail(),
+                departmentName(employee),
+                "CREATE"
+            )));
+        }
+        outboxRepository.appendAll(entries);
+    }
+
     /**
      * Helper method to create and send employee updated event from Employee entity
      */
@@ -145,13 +155,50 @@ public class EmployeeEventProducer {
             employee.getFirstName(),
             employee.getLastName(),
             employee.getEmail(),
-            employee.getDepartment() != null ? employee.getDepartment().getName() : null,
+            departmentName(employee),
             "UPDATE"
         );
         
         sendEmployeeEvent(event);
     }
 
+    /**
+     * Record an update event carrying only the auth-relevant fields that changed
+     * Salary, notes and the other HR fields are not published; an update that touched
+     * only those still records a delta with an empty changedFields, so other nodes
+     * invalidate their cached profile
+     *
+     * @param previous The employee as it was before the update
+     * @param employee The updated employee
+     */
+    public void sendEmployeeUpdatedEvent(EmployeeSnapshot previous, Employee employee) {
+        EmployeeEvent event = new EmployeeEvent();
+        event.setEmployeeId(employee.getId());
+        event.setEmployeeCode(employee.getEmployeeCode());
+        event.setAction("UPDATE");
+
+        List<String> changedFields = new ArrayList<>(4);
+        if (!Objects.equals(previous.getEmployeeCode(), employee.getEmployeeCode())) {
+            changedFields.add(EmployeeEvent.EMPLOYEE_CODE);
+            event.setPreviousEmployeeCode(previous.getEmployeeCode());
+        }
+        if (!Objects.equals(previous.getFirstName(), employee.getFirstName())) {
+            changedFields.add(EmployeeEvent.FIRST_NAME);
+            event.setFirstName(employee.getFirstName());
+        }
+        if (!Objects.equals(previous.getLastName(), employee.getLastName())) {
+            changedFields.add(EmployeeEvent.LAST_NAME);
+            event.setLastName(employee.getLastName());
+        }
+        if (!Objects.equals(previous.getEmail(), employee.getEmail())) {
+            changedFields.add(EmployeeEvent.EMAIL);
+            event.setEmail(employee.getEmail());
+        }
+
+        event.setChangedFields(changedFields);
+        sendEmployeeEvent(event);
+    }
+
     /**
      * Helper method to create and send employee deleted event from Employee entity
      */
@@ -163,10 +210,38 @@ public class EmployeeEventProducer {
             employee.getFirstName(),
             employee.getLastName(),
             employee.getEmail(),
-            employee.getDepartment() != null ? employee.getDepartment().getName() : null,
+            departmentName(employee),
             "DELETE"
         );
         
         sendEmployeeEvent(event);
     }
-}
\ No newline at end of file
+
+    // Helper
+    private EmployeeOutboxRepository.OutboxEntry toOutboxEntry(EmployeeEvent event) {
+        if (event.getEventId() == null || event.getEventId().isEmpty()) {
+            event.setEventId(UUID.randomUUID().toString());
+        }
+        try {
+            return new EmployeeOutboxRepository.OutboxEntry(null, event.getEventId(), event.getEmployeeId(),
+                    event.getAction(), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize employee event " + event.getEventId(), e);
+        }
+    }
+
+    // Helper - the snapshot answers for an uninitialized department proxy without a query
+    private String departmentName(Employee employee) {
+        Department department = employee.getDepartment();
+        if (department == null) {
+            return null;
+        }
+        if (!Hibernate.isInitialized(department)) {
+            DepartmentSnapshot.Entry entry = departmentCatalog.getSnapshot().get(department.getId());
+            if (entry != null) {
+                return entry.getName();
+            }
+        }
+        return department.getName();
+    }
+}
@@ -0,0 +1,211 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.model.EmployeeEvent;
+import com.employeemgt.employee.repository.EmployeeOutboxRepository;
+import com.employeemgt.employee.repository.EmployeeOutboxRepository.OutboxEntry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the employee_outbox to Kafka in the background
+ *
+ * Each batch is locked, sent in id order, and marked sent in one transaction.
+ * Delivery is at-least-once: a batch is retried from the first failed send, so
+ * a record the broker accepted may be sent again (consumers can dedupe on eventId).
+ * Per-employee order is preserved because every write flushes its change to the
+ * employee row before appending, so writes to one employee serialize on the row
+ * lock and their outbox ids are assigned in commit order.
+ *
+ * Metrics:
+ * - employee.outbox.pending / employee.outbox.lag.seconds - unsent rows and the age of the oldest one
+ * - employee.outbox.published / employee.outbox.publish.failures
+ */
+@Service
+public class EmployeeOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeOutboxRelay.class);
+
+    private final EmployeeOutboxRepository outboxRepository;
+    private final KafkaTemplate<String, EmployeeEvent> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.kafka.topic.employee-events:employee-events}")
+    private String topicName = "employee-events";
+
+    @Value("${app.employees.outbox.relay.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.employees.outbox.relay.batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${app.employees.outbox.relay.send-timeout:PT10S}")
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    @Value("${app.employees.outbox.retention:P7D}")
+    private Duration retention = Duration.ofDays(7);
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter published;
+    private final Counter failures;
+
+    public EmployeeOutboxRelay(EmployeeOutboxRepository outboxRepository,
+                               KafkaTemplate<String, EmployeeEvent> kafkaTemplate,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+
+        this.published = Counter.builder("employee.outbox.published").register(meterRegistry);
+        this.failures = Counter.builder("employee.outbox.publish.failures").register(meterRegistry);
+        Gauge.builder("employee.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("employee.outbox.lag.seconds", lagMillis, millis -> millis.get() / 1000.0)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.employees.outbox.relay.interval-ms:500}")
+    public void scheduledRelay() {
+        if (enabled) {
+            relayPending();
+        }
+    }
+
+    @Scheduled(cron = "${app.employees.outbox.purge-cron:0 0 4 * * *}")
+    public void purgeSent() {
+        int purged = outboxRepository.purgeSentBefore(LocalDateTime.now().minus(retention));
+        logger.debug("Purged {} sent outbox rows older than {}", purged, retention);
+    }
+
+    /**
+     * Publish unsent rows batch by batch until the outbox is drained or a send fails
+     *
+     * @return The number of rows published
+     */
+    public int relayPending() {
+        int total = 0;
+        try {
+            while (true) {
+                BatchResult result = transactionTemplate.execute(status -> relayBatch());
+                total += result.sent;
+                if (result.stopped || result.sent < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("Employee outbox relay failed after publishing {} events", total, e);
+        }
+        refreshBacklog();
+        return total;
+    }
+
+    private BatchResult relayBatch() {
+        List<OutboxEntry> batch = outboxRepository.lockPending(batchSize);
+        if (batch.isEmpty()) {
+            return new BatchResult(0, false);
+        }
+
+        // Hand the whole batch to the producer before waiting, so the records share producer batches
+        List<CompletableFuture<?>> sends = new ArrayList<>(batch.size());
+        for (OutboxEntry entry : batch) {
+            sends.add(send(entry));
+        }
+
+        List<Long> sent = new ArrayList<>(batch.size());
+        boolean stopped = false;
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEntry entry = batch.get(i);
+            if (!awaitSend(sends.get(i), entry)) {
+                // Later rows are retried too, so the topic never sees them ahead of this one
+                stopped = true;
+                break;
+            }
+            sent.add(entry.getId());
+        }
+
+        outboxRepository.markSent(sent);
+        published.increment(sent.size());
+        return new BatchResult(sent.size(), stopped);
+    }
+
+    private CompletableFuture<?> send(OutboxEntry entry) {
+        EmployeeEvent event = toEvent(entry);
+        if (event == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return kafkaTemplate.send(topicName, entry.getEmployeeId().toString(), event);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean awaitSend(CompletableFuture<?> send, OutboxEntry entry) {
+        try {
+            send.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            failures.increment();
+            logger.warn("Failed to publish outbox event {} for employee {}, will retry",
+                    entry.getEventId(), entry.getEmployeeId(), e);
+            return false;
+        }
+    }
+
+    // A row that cannot be read would block the outbox forever - log it and let it be marked sent
+    private EmployeeEvent toEvent(OutboxEntry entry) {
+        try {
+            return objectMapper.readValue(entry.getPayload(), EmployeeEvent.class);
+        } catch (JsonProcessingException e) {
+            logger.error("Skipping unreadable outbox row {} (event {})", entry.getId(), entry.getEventId(), e);
+            return null;
+        }
+    }
+
+    private void refreshBacklog() {
+        try {
+            EmployeeOutboxRepository.Backlog backlog = outboxRepository.getBacklog();
+            pending.set(backlog.getPending());
+            lagMillis.set(backlog.getLag().toMillis());
+        } catch (RuntimeException e) {
+            logger.warn("Could not read employee outbox backlog", e);
+        }
+    }
+
+    private static final class BatchResult {
+        final int sent;
+        final boolean stopped;
+
+        BatchResult(int sent, boolean stopped) {
+            this.sent = sent;
+            this.stopped = stopped;
+        }
+    }
+}
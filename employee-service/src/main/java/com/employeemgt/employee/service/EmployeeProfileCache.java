@@ -0,0 +1,213 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.EmployeeResponse;
+import com.employeemgt.employee.event.EmployeeChangedEvent;
+import com.employeemgt.employee.model.EmployeeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of EmployeeResponse keyed by employee code
+ * Serves the self-profile (/view) lookups. Entries expire after a TTL and the
+ * least recently used entry is evicted once the cache is full.
+ *
+ * Invalidation:
+ * - synchronously by EmployeeService.updateEmployee/deleteEmployee on this node, and by
+ *   DepartmentService for every profile of a department that was renamed or deleted
+ * - by DepartmentCatalog when its snapshot shows a department changed, which happens
+ *   after commit on this node and on the next version poll everywhere else
+ * - again after commit, so a lookup racing the write cannot re-cache the old row
+ * - on other nodes from the employee-events topic, which every instance consumes
+ *   with its own consumer group. Every update publishes an event, HR-only ones included
+ */
+@Service
+public class EmployeeProfileCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeProfileCache.class);
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // Guarded by this
+    private final LinkedHashMap<String, CachedProfile> entries;
+    private final Map<Long, String> codesById = new HashMap<>();
+    private long invalidationEpoch;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidations;
+
+    public EmployeeProfileCache(MeterRegistry meterRegistry,
+                                @Value("${app.employees.profile-cache.max-size:10000}") int maxSize,
+                                @Value("${app.employees.profile-cache.ttl:PT5M}") Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        this.hits = Counter.builder("employee.profile.cache.gets").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("employee.profile.cache.gets").tag("result", "miss").register(meterRegistry);
+        this.sizeEvictions = Counter.builder("employee.profile.cache.evictions").tag("cause", "size")
+                .register(meterRegistry);
+        this.expiredEvictions = Counter.builder("employee.profile.cache.evictions").tag("cause", "expired")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("employee.profile.cache.invalidations").register(meterRegistry);
+        Gauge.builder("employee.profile.cache.size", this, EmployeeProfileCache::size).register(meterRegistry);
+    }
+
+    /**
+     * Return the cached profile, loading and caching it on a miss
+     * The loader runs outside the lock; its result is dropped if an invalidation
+     * happened while it was loading
+     */
+    public EmployeeResponse get(String employeeCode, Function<String, EmployeeResponse> loader) {
+        long epoch;
+        synchronized (this) {
+            CachedProfile cached = entries.get(employeeCode);
+            if (cached != null) {
+                if (cached.expiresAt - System.nanoTime() > 0) {
+                    hits.increment();
+                    return cached.profile;
+                }
+                remove(employeeCode);
+                expiredEvictions.increment();
+            }
+            epoch = invalidationEpoch;
+        }
+
+        misses.increment();
+        EmployeeResponse profile = loader.apply(employeeCode);
+
+        synchronized (this) {
+            if (epoch == invalidationEpoch) {
+                put(employeeCode, profile);
+            }
+        }
+        return profile;
+    }
+
+    /**
+     * Drop the given employee codes from this node's cache
+     */
+    public synchronized void invalidate(String... employeeCodes) {
+        invalidationEpoch++;
+        for (String employeeCode : employeeCodes) {
+            if (employeeCode != null && remove(employeeCode) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * Drop whatever code is cached for the employee, which may differ from its new code
+     */
+    public synchronized void invalidateEmployee(Long employeeId) {
+        invalidationEpoch++;
+        String employeeCode = codesById.get(employeeId);
+        if (employeeCode != null && remove(employeeCode) != null) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * Drop every cached profile that embeds the given department's name and code
+     */
+    public synchronized void invalidateDepartment(Long departmentId) {
+        invalidationEpoch++;
+        List<String> stale = new ArrayList<>();
+        entries.forEach((employeeCode, cached) -> {
+            if (cached.profile.getDepartment() != null
+                    && departmentId.equals(cached.profile.getDepartment().getId())) {
+                stale.add(employeeCode);
+            }
+        });
+        for (String employeeCode : stale) {
+            remove(employeeCode);
+            invalidations.increment();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        invalidateEmployee(event.getEmployeeId());
+        invalidate(event.getPrevious() != null ? event.getPrevious().getEmployeeCode() : null,
+                event.getCurrent() != null ? event.getCurrent().getEmployeeCode() : null);
+    }
+
+    /**
+     * Broadcast invalidation: every instance sees every employee event, including its own
+     */
+    @KafkaListener(
+            topics = "${app.kafka.topic.employee-events:employee-events}",
+            groupId = "employee-profile-cache-#{T(java.util.UUID).randomUUID().toString()}",
+            containerFactory = "employeeEventListenerFactory",
+            autoStartup = "${app.employees.profile-cache.broadcast-invalidation:true}",
+            properties = "auto.offset.reset=latest")
+    public void onEmployeeEvent(EmployeeEvent event) {
+        if (event == null) {
+            return;
+        }
+        logger.debug("Invalidating cached profile for employee {} after {} event",
+                event.getEmployeeId(), event.getAction());
+        if (event.getEmployeeId() != null) {
+            invalidateEmployee(event.getEmployeeId());
+        }
+        invalidate(event.getEmployeeCode(), event.getPreviousEmployeeCode());
+    }
+
+    // Helper - caller holds the lock
+    private void put(String employeeCode, EmployeeResponse profile) {
+        CachedProfile previous = entries.put(employeeCode, new CachedProfile(profile, System.nanoTime() + ttlNanos));
+        if (previous != null && previous.profile.getId() != null) {
+            codesById.remove(previous.profile.getId());
+        }
+        if (profile.getId() != null) {
+            codesById.put(profile.getId(), employeeCode);
+        }
+
+        while (entries.size() > maxSize) {
+            String eldest = entries.keySet().iterator().next();
+            remove(eldest);
+            sizeEvictions.increment();
+        }
+    }
+
+    // Helper - caller holds the lock
+    private CachedProfile remove(String employeeCode) {
+        CachedProfile removed = entries.remove(employeeCode);
+        if (removed != null && removed.profile.getId() != null) {
+            codesById.remove(removed.profile.getId(), employeeCode);
+        }
+        return removed;
+    }
+
+    private static final class CachedProfile {
+        final EmployeeResponse profile;
+        final long expiresAt;
+
+        CachedProfile(EmployeeResponse profile, long expiresAt) {
+            this.profile = profile;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
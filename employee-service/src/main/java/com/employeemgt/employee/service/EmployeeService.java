@@ -1,31 +1,87 @@
 package com.employeemgt.employee.service;
 
+import com.employeemgt.employee.dto.BulkEmployeeResult;
+import com.employeemgt.employee.dto.CountMode;
+import com.employeemgt.employee.dto.CursorPage;
+import com.employeemgt.employee.dto.EmployeeCursor;
+import com.employeemgt.employee.dto.EmployeeField;
 import com.employeemgt.employee.dto.EmployeeFilterRequest;
 import com.employeemgt.employee.dto.EmployeeRequest;
 import com.employeemgt.employee.dto.EmployeeResponse;
+import com.employeemgt.employee.dto.EmployeeSuggestion;
+import com.employeemgt.employee.dto.EstimatedSlice;
+import com.employeemgt.employee.dto.ExportFormat;
+import com.employeemgt.employee.dto.HierarchyMember;
+import com.employeemgt.employee.dto.SpanOfControl;
 import com.employeemgt.employee.entity.Department;
 import com.employeemgt.employee.entity.Employee;
 import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+import com.employeemgt.employee.event.EmployeeChangedEvent;
+import com.employeemgt.employee.event.EmployeeChangedEvent.EmployeeSnapshot;
+import com.employeemgt.employee.exception.BusinessRuleViolationException;
 import com.employeemgt.employee.exception.DuplicateResourceException;
 import com.employeemgt.employee.exception.ResourceNotFoundException;
 import com.employeemgt.employee.repository.DepartmentRepository;
+import com.employeemgt.employee.repository.EmployeeHierarchyRepository;
+import com.employeemgt.employee.repository.EmployeeProjectionQuery;
 import com.employeemgt.employee.repository.EmployeeRepository;
+import com.employeemgt.employee.repository.RowCountEstimator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class EmployeeService {
 
+    private static final char LIKE_ESCAPE = '\\';
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final int MAX_BULK_SIZE = 5000;
+    private static final String[] CSV_HEADER = {
+            "id", "employeeCode", "firstName", "lastName", "email", "phoneNumber", "hireDate", "jobTitle",
+            "salary", "status", "managerId", "departmentId", "departmentCode", "departmentName",
+            "createdAt", "updatedAt"
+    };
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
@@ -38,37 +94,50 @@ public class EmployeeService {
     @Autowired
     private EmployeeCodeGenerator codeGenerator;
 
+    @Autowired
+    private EmployeeProjectionQuery employeeProjectionQuery;
+
+    @Autowired
+    private RowCountEstimator rowCountEstimator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EmployeeTypeaheadIndex typeaheadIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private EmployeeProfileCache profileCache;
+
+    @Autowired
+    private DepartmentCatalog departmentCatalog;
+
+    @Autowired
+    private EmployeeHierarchyRepository hierarchyRepository;
+
     public EmployeeResponse createEmployee(EmployeeRequest request) {
         // Determine employee code: use provided or auto-generate
+        // Duplicate codes and emails are caught by the unique constraints when the insert is flushed
         String employeeCode;
-        if (request.getEmployeeCode() != null && !request.getEmployeeCode().trim().isEmpty()) {
-            // Check for duplicate employee code if provided
-            if (employeeRepository.existsByEmployeeCode(request.getEmployeeCode())) {
-                throw new DuplicateResourceException(
-                        "Employee with employee code '" + request.getEmployeeCode() + "' already exists");
-            }
+        if (hasEmployeeCode(request)) {
             employeeCode = request.getEmployeeCode();
         } else {
             // Auto-generate unique employee code
             employeeCode = codeGenerator.generateEmployeeCode("EMPLOYEE");
         }
 
-        // Check for duplicate email
-        if (employeeRepository.existsByEmail(request.getEmail())) {
-            throw new DuplicateResourceException("Employee with email '" + request.getEmail() + "' already exists");
-        }
-
         // Verify department exists
-        Department department = departmentRepository.findById(request.getDepartmentId())
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Department not found with id: " + request.getDepartmentId()));
+        Department department = resolveDepartment(request.getDepartmentId());
 
         // Verify manager exists if provided
-        if (request.getManagerId() != null) {
-            if (!employeeRepository.existsById(request.getManagerId())) {
-                throw new ResourceNotFoundException("Manager not found with id: " + request.getManagerId());
-            }
-        }
+        checkWriteConflicts(hasEmployeeCode(request) ? employeeCode : null, request.getEmail(),
+                request.getManagerId(), null);
 
         Employee employee = new Employee(
                 employeeCode, // Use generated code instead of client-provided
@@ -85,43 +154,235 @@ public class EmployeeService {
         employee.setManagerId(request.getManagerId());
         employee.setNotes(request.getNotes());
 
-        Employee savedEmployee = employeeRepository.save(employee);
+        Employee savedEmployee = saveAndFlush(employee);
+        departmentRepository.adjustEmployeeCount(department.getId(), 1);
+        hierarchyRepository.addEmployee(savedEmployee.getId(), savedEmployee.getManagerId());
 
         // Send employee created event to auth service
         employeeEventProducer.sendEmployeeCreatedEvent(savedEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(savedEmployee));
 
         return convertToResponse(savedEmployee);
     }
 
-    public EmployeeResponse updateEmployee(Long id, EmployeeRequest request) {
-        Employee existingEmployee = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+    /**
+     * Create a batch of employees in one transaction
+     * Existing codes, emails, departments and managers are checked with one query each,
+     * inserts are JDBC-batched through the pooled id sequence and the events are written
+     * to the outbox in one batch. Invalid rows are reported and skipped; the valid rows are still created
+     * 
+     * @param requests The employees to create
+     * @return One result per request row, in request order
+     */
+    public List<BulkEmployeeResult> createEmployees(List<EmployeeRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one employee is required");
+        }
+        if (requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " employees can be created per request");
+        }
+
+        // Pass 1: bean validation per row, and collect the keys to check against the database
+        List<List<String>> errors = new ArrayList<>(requests.size());
+        Set<String> employeeCodes = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<Long> departmentIds = new HashSet<>();
+        Set<Long> managerIds = new HashSet<>();
+
+        for (EmployeeRequest request : requests) {
+            List<String> rowErrors = new ArrayList<>();
+            errors.add(rowErrors);
+            if (request == null) {
+                rowErrors.add("Employee is required");
+                continue;
+            }
+            for (ConstraintViolation<EmployeeRequest> violation : validator.validate(request)) {
+                rowErrors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+            if (hasEmployeeCode(request)) {
+                employeeCodes.add(request.getEmployeeCode());
+            }
+            if (request.getEmail() != null) {
+                emails.add(request.getEmail());
+            }
+            if (request.getDepartmentId() != null) {
+                departmentIds.add(request.getDepartmentId());
+            }
+            if (request.getManagerId() != null) {
+                managerIds.add(request.getManagerId());
+            }
+        }
 
-        // Check for duplicate employee code (excluding current employee)
-        if (employeeRepository.existsByEmployeeCode(request.getEmployeeCode()) &&
-                !existingEmployee.getEmployeeCode().equals(request.getEmployeeCode())) {
-            throw new DuplicateResourceException(
-                    "Employee with employee code '" + request.getEmployeeCode() + "' already exists");
+        // One query per kind of reference instead of four per row
+        Set<String> takenCodes = employeeCodes.isEmpty()
+                ? Set.of() : new HashSet<>(employeeRepository.findExistingEmployeeCodes(employeeCodes));
+        Set<String> takenEmails = emails.isEmpty()
+                ? Set.of() : new HashSet<>(employeeRepository.findExistingEmails(emails));
+        Set<Long> existingManagers = managerIds.isEmpty()
+                ? Set.of() : new HashSet<>(employeeRepository.findExistingIds(managerIds));
+        Map<Long, Department> departments = new HashMap<>();
+        for (Long departmentId : departmentIds) {
+            if (departmentCatalog.find(departmentId).isPresent()) {
+                departments.put(departmentId, departmentRepository.getReferenceById(departmentId));
+            }
         }
 
-        // Check for duplicate email (excluding current employee)
-        if (employeeRepository.existsByEmail(request.getEmail()) &&
-                !existingEmployee.getEmail().equals(request.getEmail())) {
-            throw new DuplicateResourceException("Employee with email '" + request.getEmail() + "' already exists");
+        // Pass 2: conflicts with existing rows and within the batch itself
+        Set<String> batchCodes = new HashSet<>();
+        Set<String> batchEmails = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            EmployeeRequest request = requests.get(i);
+            List<String> rowErrors = errors.get(i);
+            if (request == null) {
+                continue;
+            }
+            if (hasEmployeeCode(request)) {
+                if (takenCodes.contains(request.getEmployeeCode())) {
+                    rowErrors.add("Employee with employee code '" + request.getEmployeeCode() + "' already exists");
+                } else if (!batchCodes.add(request.getEmployeeCode())) {
+                    rowErrors.add("Employee code '" + request.getEmployeeCode() + "' appears more than once in the batch");
+                }
+            }
+            if (request.getEmail() != null) {
+                if (takenEmails.contains(request.getEmail())) {
+                    rowErrors.add("Employee with email '" + request.getEmail() + "' already exists");
+                } else if (!batchEmails.add(request.getEmail())) {
+                    rowErrors.add("Email '" + request.getEmail() + "' appears more than once in the batch");
+                }
+            }
+            if (request.getDepartmentId() != null && !departments.containsKey(request.getDepartmentId())) {
+                rowErrors.add("Department not found with id: " + request.getDepartmentId());
+            }
+            if (request.getManagerId() != null && !existingManagers.contains(request.getManagerId())) {
+                rowErrors.add("Manager not found with id: " + request.getManagerId());
+            }
         }
 
-        // Verify department exists
-        Department department = departmentRepository.findById(request.getDepartmentId())
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "Department not found with id: " + request.getDepartmentId()));
+        List<Employee> employees = new ArrayList<>();
+        List<Integer> employeeRows = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (!errors.get(i).isEmpty()) {
+                continue;
+            }
+            EmployeeRequest request = requests.get(i);
+            String employeeCode = request.getEmployeeCode();
+            if (!hasEmployeeCode(request)) {
+                do {
+                    employeeCode = codeGenerator.generateEmployeeCode("EMPLOYEE");
+                } while (!batchCodes.add(employeeCode));
+            }
 
-        // Verify manager exists if provided
-        if (request.getManagerId() != null) {
-            if (!employeeRepository.existsById(request.getManagerId())) {
-                throw new ResourceNotFoundException("Manager not found with id: " + request.getManagerId());
+            Employee employee = new Employee(
+                    employeeCode,
+                    request.getFirstName(),
+                    request.getLastName(),
+                    request.getEmail(),
+                    request.getHireDate(),
+                    request.getJobTitle(),
+                    request.getSalary(),
+                    departments.get(request.getDepartmentId()));
+            employee.setPhoneNumber(request.getPhoneNumber());
+            employee.setStatus(request.getStatus());
+            employee.setManagerId(request.getManagerId());
+            employee.setNotes(request.getNotes());
+
+            employees.add(employee);
+            employeeRows.add(i);
+        }
+
+        if (!employees.isEmpty()) {
+            // Sequence ids are assigned without a round trip per row, so the flush runs as JDBC batches
+            try {
+                employeeRepository.saveAll(employees);
+                employeeRepository.flush();
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent write got past the checks above; nothing of the batch is kept
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                return rejectedBatch(requests.size(), errors, employees, employeeRows, e);
+            }
+
+            // One headcount update per department rather than per employee
+            Map<Long, Long> addedPerDepartment = new HashMap<>();
+            for (Employee employee : employees) {
+                addedPerDepartment.merge(employee.getDepartment().getId(), 1L, Long::sum);
+            }
+            addedPerDepartment.forEach((departmentId, added) ->
+                    departmentRepository.adjustEmployeeCount(departmentId, added));
+            hierarchyRepository.addEmployees(employees);
+
+            employeeEventProducer.sendEmployeeCreatedEvents(employees);
+            employees.forEach(employee -> eventPublisher.publishEvent(EmployeeChangedEvent.created(employee)));
+        }
+
+        List<BulkEmployeeResult> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            results.add(errors.get(i).isEmpty() ? null : BulkEmployeeResult.failed(i, errors.get(i)));
+        }
+        for (int i = 0; i < employees.size(); i++) {
+            int row = employeeRows.get(i);
+            results.set(row, BulkEmployeeResult.created(row, convertToResponse(employees.get(i))));
+        }
+        return results;
+    }
+
+    // Helper - every row fails: the ones the violation names with its translation, the others for being in the batch
+    private List<BulkEmployeeResult> rejectedBatch(int size, List<List<String>> errors, List<Employee> employees,
+                                                   List<Integer> employeeRows, DataIntegrityViolationException e) {
+        List<Integer> failedRows = new ArrayList<>();
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            if (isViolatedBy(e, employee)) {
+                failedRows.add(employeeRows.get(i));
+                errors.get(employeeRows.get(i)).add(translate(e, employee).getMessage());
+            }
+        }
+        String reason = failedRows.isEmpty()
+                ? "Not created: the batch conflicted with a concurrent change, retry it"
+                : "Not created: the batch was rolled back because rows " + failedRows + " failed";
+        for (int row : employeeRows) {
+            if (errors.get(row).isEmpty()) {
+                errors.get(row).add(reason);
             }
         }
 
+        List<BulkEmployeeResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(BulkEmployeeResult.failed(i, errors.get(i)));
+        }
+        return results;
+    }
+
+    // Helper - whether the violation names this employee's code, email, manager or department
+    private static boolean isViolatedBy(DataIntegrityViolationException e, Employee employee) {
+        if (ConstraintViolations.isUniqueViolation(e)) {
+            return ConstraintViolations.mentions(e, ConstraintViolations.involves(e, "email")
+                    ? employee.getEmail() : employee.getEmployeeCode());
+        }
+        if (ConstraintViolations.isForeignKeyViolation(e)) {
+            Long id = ConstraintViolations.involves(e, "manager")
+                    ? employee.getManagerId() : employee.getDepartment().getId();
+            return id != null && ConstraintViolations.mentions(e, id.toString());
+        }
+        return false;
+    }
+
+    public EmployeeResponse updateEmployee(Long id, EmployeeRequest request) {
+        Employee existingEmployee = employeeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+
+        // Verify department exists
+        Department department = resolveDepartment(request.getDepartmentId());
+
+        // Verify a newly assigned manager exists and is not below this employee;
+        // duplicate codes and emails are caught on flush. The hierarchy lock is held from
+        // the check until commit, so a concurrent re-parent cannot invalidate it
+        if (!Objects.equals(request.getManagerId(), existingEmployee.getManagerId())) {
+            hierarchyRepository.lockHierarchy();
+            checkWriteConflicts(request.getEmployeeCode(), request.getEmail(), request.getManagerId(), id);
+        }
+
+        EmployeeSnapshot previous = EmployeeSnapshot.of(existingEmployee);
+
         // Update employee fields
         existingEmployee.setEmployeeCode(request.getEmployeeCode());
         existingEmployee.setFirstName(request.getFirstName());
@@ -136,10 +397,23 @@ public class EmployeeService {
         existingEmployee.setManagerId(request.getManagerId());
         existingEmployee.setNotes(request.getNotes());
 
-        Employee updatedEmployee = employeeRepository.save(existingEmployee);
+        Employee updatedEmployee = saveAndFlush(existingEmployee);
+        profileCache.invalidate(previous.getEmployeeCode(), updatedEmployee.getEmployeeCode());
 
-        // Send employee updated event to auth service
-        employeeEventProducer.sendEmployeeUpdatedEvent(updatedEmployee);
+        // Move the employee between department headcounts
+        if (!previous.getDepartmentId().equals(department.getId())) {
+            departmentRepository.adjustEmployeeCount(previous.getDepartmentId(), -1);
+            departmentRepository.adjustEmployeeCount(department.getId(), 1);
+        }
+
+        // Re-parent the employee's whole subtree in the closure table
+        if (!Objects.equals(previous.getManagerId(), updatedEmployee.getManagerId())) {
+            hierarchyRepository.moveSubtree(id, updatedEmployee.getManagerId());
+        }
+
+        // Send the changed auth-relevant fields, if any, to auth service
+        employeeEventProducer.sendEmployeeUpdatedEvent(previous, updatedEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(previous, updatedEmployee));
 
         return convertToResponse(updatedEmployee);
     }
@@ -148,10 +422,17 @@ public class EmployeeService {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
 
-        // Send employee deleted event before deletion
-        employeeEventProducer.sendEmployeeDeletedEvent(employee);
+        hierarchyRepository.removeEmployee(id);
 
+        // Delete the row before appending the event, so a concurrent update either
+        // appends first or waits on the row lock (see EmployeeOutboxRelay)
         employeeRepository.delete(employee);
+        employeeRepository.flush();
+        employeeEventProducer.sendEmployeeDeletedEvent(employee);
+
+        profileCache.invalidate(employee.getEmployeeCode());
+        departmentRepository.adjustEmployeeCount(employee.getDepartment().getId(), -1);
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(employee));
     }
 
     /**
@@ -161,14 +442,166 @@ public class EmployeeService {
      * @param filterRequest The filter criteria
      * @return Page of employees based on filters
      */
+    @Transactional(readOnly = true)
     public Page<EmployeeResponse> getEmployeesWithFilters(EmployeeFilterRequest filterRequest) {
         Pageable pageable = PageRequest.of(filterRequest.getPage(), filterRequest.getPerPage());
 
         // Build specification based on filters only
         Specification<Employee> spec = buildSpecification(filterRequest);
 
-        Page<Employee> employeePage = employeeRepository.findAll(spec, pageable);
-        return employeePage.map(this::convertToResponse);
+        List<EmployeeResponse> content = employeeProjectionQuery.findRows(
+                spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> employeeRepository.count(spec));
+    }
+
+    /**
+     * Get employees with filters, computing the total according to the requested count mode
+     * EXACT issues the usual COUNT query, ESTIMATE reads planner statistics and NONE
+     * only fetches perPage + 1 rows to find out whether a next page exists
+     * 
+     * @param filterRequest The filter criteria, including the count mode
+     * @return Page (exact total) or Slice (estimated or no total) of employees
+     */
+    @Transactional(readOnly = true)
+    public Slice<EmployeeResponse> getEmployeesWithCountMode(EmployeeFilterRequest filterRequest) {
+        if (filterRequest.getCountMode() == CountMode.EXACT) {
+            return getEmployeesWithFilters(filterRequest);
+        }
+        return findSlice(filterRequest, employeeProjectionQuery::findRows);
+    }
+
+    /**
+     * Sparse-fieldset variant of getEmployeesWithCountMode
+     * Only the columns behind the requested fields are selected, and each row is
+     * returned as a property map instead of a full EmployeeResponse
+     * 
+     * @param filterRequest The filter criteria, including the count mode
+     * @param fields        The EmployeeResponse properties to return
+     * @return Page (exact total) or Slice (estimated or no total) of partial employees
+     */
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> getEmployeeFieldsWithCountMode(EmployeeFilterRequest filterRequest,
+                                                                     Set<EmployeeField> fields) {
+        return findSlice(filterRequest, (spec, sort, offset, limit) ->
+                employeeProjectionQuery.findFields(spec, sort, offset, limit, fields));
+    }
+
+    /**
+     * Get employees with filters using keyset (cursor) pagination
+     * Seeks past the (sort key, id) of the previous page's last row instead of
+     * using OFFSET, and skips the COUNT query, so deep pages cost the same as the first
+     * 
+     * @param filterRequest The filter criteria, including the 'after' cursor
+     * @return Cursor page of employees with the cursor for the next page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<EmployeeResponse> getEmployeesAfterCursor(EmployeeFilterRequest filterRequest) {
+        return findCursorPage(filterRequest, employeeProjectionQuery::findRows, EmployeeCursor::after);
+    }
+
+    /**
+     * Sparse-fieldset variant of getEmployeesAfterCursor
+     * id and the sort key are selected as well to build the next cursor, and
+     * dropped from the rows again unless they were requested
+     * 
+     * @param filterRequest The filter criteria, including the 'after' cursor
+     * @param fields        The EmployeeResponse properties to return
+     * @return Cursor page of partial employees with the cursor for the next page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> getEmployeeFieldsAfterCursor(EmployeeFilterRequest filterRequest,
+                                                                        Set<EmployeeField> fields) {
+        Set<String> requested = new HashSet<>();
+        fields.forEach(field -> requested.add(field.getProperty()));
+
+        CursorPage<Map<String, Object>> page = findCursorPage(filterRequest, (spec, sort, offset, limit) -> {
+            EnumSet<EmployeeField> selected = EnumSet.copyOf(fields);
+            selected.add(EmployeeField.ID);
+            sort.forEach(order -> selected.addAll(EmployeeField.parse(order.getProperty())));
+            return employeeProjectionQuery.findFields(spec, sort, offset, limit, selected);
+        }, EmployeeCursor::after);
+
+        page.getContent().forEach(row -> row.keySet().retainAll(requested));
+        return page;
+    }
+
+    /**
+     * Write every employee matching the filters to the output stream, one row at a time
+     * Rows come from a forward-only server-side cursor and are written as soon as they
+     * are read, so memory stays constant however many employees match
+     * Pagination and count fields of the filter are ignored
+     * 
+     * @param filterRequest The filter criteria
+     * @param format        NDJSON (one EmployeeResponse object per line) or CSV
+     * @param outputStream  Destination, typically the HTTP response body
+     */
+    @Transactional(readOnly = true)
+    public void exportEmployees(EmployeeFilterRequest filterRequest, ExportFormat format, OutputStream outputStream)
+            throws IOException {
+        Specification<Employee> spec = buildSpecification(filterRequest);
+        Set<EmployeeField> fields = filterRequest.getFieldSet();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (fields != null) {
+            exportFields(spec, fields, format, writer);
+            writer.flush();
+            return;
+        }
+
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write('\n');
+        }
+
+        try (Stream<EmployeeResponse> rows = employeeProjectionQuery.streamRows(
+                spec, Sort.by(Sort.Direction.ASC, "id"), EXPORT_FETCH_SIZE)) {
+            Iterator<EmployeeResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                EmployeeResponse employee = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, employee);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(employee));
+                }
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Typeahead suggestions matching the prefix of a name, email or employee code
+     * Served from the in-memory index once it is built; until then falls back to
+     * a name search against the database
+     * Runs without a transaction so index hits never check out a connection
+     * 
+     * @param query The text typed so far
+     * @param limit Maximum number of suggestions (1 - 50)
+     * @return Suggestions ordered by relevance
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<EmployeeSuggestion> suggestEmployees(String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Query must not be blank");
+        }
+        if (query.trim().length() < EmployeeTypeaheadIndex.MIN_PREFIX_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Query must be at least " + EmployeeTypeaheadIndex.MIN_PREFIX_LENGTH + " characters");
+        }
+        int cappedLimit = Math.max(1, Math.min(limit, 50));
+
+        if (typeaheadIndex.isReady()) {
+            return typeaheadIndex.search(query, cappedLimit);
+        }
+
+        EmployeeFilterRequest filterRequest = new EmployeeFilterRequest();
+        filterRequest.setName(query.trim());
+
+        return employeeProjectionQuery.findRows(buildSpecification(filterRequest),
+                        Sort.by("lastName", "firstName", "id"), 0, cappedLimit).stream()
+                .map(employee -> new EmployeeSuggestion(employee.getId(), employee.getEmployeeCode(),
+                        employee.getFullName(), employee.getEmail()))
+                .toList();
     }
 
     /**
@@ -179,6 +612,7 @@ public class EmployeeService {
      * @param employeeCode  The manager's employee code (from auth service)
      * @return Page of employees in the manager's department
      */
+    @Transactional(readOnly = true)
     public Page<EmployeeResponse> getEmployeesInManagerDepartment(EmployeeFilterRequest filterRequest,
             String employeeCode) {
         // Step 1: Find the manager employee record using employee code
@@ -198,12 +632,31 @@ public class EmployeeService {
         return getEmployeesWithFilters(filterRequest);
     }
 
+    /**
+     * Self-profile lookup for the /view endpoint, served from the profile cache
+     * Runs without a transaction so cache hits never check out a connection;
+     * misses load the response, department included, with a single projection query
+     * 
+     * @param employeeCode The caller's employee code (from auth service)
+     * @return Employee details
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public EmployeeResponse getEmployeeProfile(String employeeCode) {
+        return profileCache.get(employeeCode, code -> employeeProjectionQuery
+                .findRows((root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("employeeCode"), code),
+                        Sort.unsorted(), 0, 1)
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with employee code: " + code)));
+    }
+
     /**
      * Get employee by ID (access control handled at controller level)
      * 
      * @param id The employee ID
      * @return Employee details
      */
+    @Transactional(readOnly = true)
     public EmployeeResponse getEmployeeByEmployeeCode(String employeeCode) {
         Employee employee = employeeRepository.findByEmployeeCode(employeeCode)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with employee code: " + employeeCode));
@@ -217,6 +670,7 @@ public class EmployeeService {
      * @param id The employee ID
      * @return Employee details
      */
+    @Transactional(readOnly = true)
     public EmployeeResponse getEmployeeById(Long id) {
         Employee employee = employeeRepository.findByIdWithDepartment(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
@@ -224,6 +678,146 @@ public class EmployeeService {
         return convertToResponse(employee);
     }
 
+    /**
+     * ETag of the admin employee view, read from the version columns without loading the entity
+     * Changes whenever the employee or its department is updated
+     * 
+     * @param id The employee ID
+     * @return Strong entity tag for GET /api/employees/{id}
+     */
+    @Transactional(readOnly = true)
+    public String getEmployeeETag(Long id) {
+        EmployeeRepository.EmployeeVersion version = employeeRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+        return ETags.of("employee", id, version.getUpdatedAt(), version.getDepartmentUpdatedAt());
+    }
+
+    /**
+     * Everyone reporting to the employee, directly or through other managers
+     * One closure-table range scan; the page is a slice, so no count query runs
+     * 
+     * @param id       The manager's employee ID
+     * @param maxDepth How many levels down to go (1 = direct reports), null for the whole subtree
+     * @param page     Zero-based page number
+     * @param perPage  Page size (1 - 100)
+     * @return Reports ordered by level, then name
+     */
+    @Transactional(readOnly = true)
+    public Slice<HierarchyMember> getReports(Long id, Integer maxDepth, int page, int perPage) {
+        if (maxDepth != null && maxDepth < 1) {
+            throw new IllegalArgumentException("maxDepth must be at least 1");
+        }
+        if (page < 0 || perPage < 1) {
+            throw new IllegalArgumentException("page must not be negative and perPage must be at least 1");
+        }
+        Pageable pageable = PageRequest.of(page, Math.min(perPage, 100));
+
+        // Fetch one extra row to know whether another page exists
+        List<HierarchyMember> rows = hierarchyRepository.findDescendants(id,
+                maxDepth != null ? maxDepth : Integer.MAX_VALUE, pageable.getOffset(), pageable.getPageSize() + 1);
+        if (rows.isEmpty() && !employeeRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    /**
+     * The employee's managers, from the direct manager up to the top of the organisation
+     * 
+     * @param id The employee ID
+     * @return Managers ordered by distance, depth 1 being the direct manager
+     */
+    @Transactional(readOnly = true)
+    public List<HierarchyMember> getManagementChain(Long id) {
+        List<HierarchyMember> chain = hierarchyRepository.findAncestors(id);
+        if (chain.isEmpty()) {
+            throw new ResourceNotFoundException("Employee not found with id: " + id);
+        }
+        // The first row is the employee itself
+        return chain.subList(1, chain.size());
+    }
+
+    /**
+     * Direct reports, total reports and number of levels below the employee
+     * 
+     * @param id The employee ID
+     * @return Span of control counts
+     */
+    @Transactional(readOnly = true)
+    public SpanOfControl getSpanOfControl(Long id) {
+        return hierarchyRepository.findSpanOfControl(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+    }
+
+    // Helper - an offset page under the requested count mode, with rows of either shape
+    private <T> Slice<T> findSlice(EmployeeFilterRequest filterRequest, RowFetcher<T> fetcher) {
+        CountMode countMode = filterRequest.getCountMode();
+        Pageable pageable = PageRequest.of(filterRequest.getPage(), filterRequest.getPerPage());
+        Specification<Employee> spec = buildSpecification(filterRequest);
+
+        if (countMode == CountMode.EXACT) {
+            List<T> content = fetcher.fetch(spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+            return PageableExecutionUtils.getPage(content, pageable, () -> employeeRepository.count(spec));
+        }
+
+        // Fetch one extra row to know whether another page exists
+        List<T> rows = fetcher.fetch(spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        Slice<T> slice = new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+        if (countMode == CountMode.NONE) {
+            return slice;
+        }
+
+        OptionalLong estimate = estimateTotal(filterRequest);
+        if (estimate.isEmpty()) {
+            // No statistics available - fall back to an exact count
+            return new PageImpl<>(slice.getContent(), pageable, employeeRepository.count(spec));
+        }
+
+        // Never report fewer rows than this page has already proven to exist
+        long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        return new EstimatedSlice<>(slice.getContent(), pageable, slice.hasNext(),
+                Math.max(estimate.getAsLong(), seen));
+    }
+
+    // Helper - a keyset page, with rows of either shape
+    private <T> CursorPage<T> findCursorPage(EmployeeFilterRequest filterRequest, RowFetcher<T> fetcher,
+                                             BiFunction<String, T, EmployeeCursor> cursorAfter) {
+        String sortBy;
+        Specification<Employee> spec = buildSpecification(filterRequest);
+
+        if (filterRequest.hasCursor()) {
+            EmployeeCursor cursor = EmployeeCursor.decode(filterRequest.getAfter());
+            sortBy = cursor.getSortBy();
+            spec = spec.and(buildKeysetSpecification(cursor));
+        } else {
+            sortBy = EmployeeCursor.resolveSortKey(filterRequest.getSortBy());
+        }
+
+        int perPage = filterRequest.getPerPage();
+        if (perPage < 1) {
+            throw new IllegalArgumentException("perPage must be at least 1");
+        }
+
+        Sort sort = "id".equals(sortBy)
+                ? Sort.by(Sort.Direction.ASC, "id")
+                : Sort.by(Sort.Direction.ASC, sortBy, "id");
+
+        // Fetch one extra row to know whether another page exists
+        List<T> rows = fetcher.fetch(spec, sort, 0, perPage + 1);
+
+        boolean hasNext = rows.size() > perPage;
+        List<T> content = hasNext ? rows.subList(0, perPage) : rows;
+
+        String nextCursor = hasNext
+                ? cursorAfter.apply(sortBy, content.get(content.size() - 1)).encode()
+                : null;
+
+        return new CursorPage<>(content, perPage, hasNext, nextCursor);
+    }
+
     /**
      * Build JPA Specification based on filters only
      * Role-based access control is handled at the controller level
@@ -252,11 +846,12 @@ public class EmployeeService {
             }
 
             if (filterRequest.getName() != null && !filterRequest.getName().trim().isEmpty()) {
-                String namePattern = "%" + filterRequest.getName().trim().toLowerCase() + "%";
+                // lower(column) LIKE matches the trigram index expressions (see V6 migration)
+                String namePattern = containsPattern(filterRequest.getName());
                 Predicate firstNameMatch = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("firstName")), namePattern);
+                        criteriaBuilder.lower(root.get("firstName")), namePattern, LIKE_ESCAPE);
                 Predicate lastNameMatch = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("lastName")), namePattern);
+                        criteriaBuilder.lower(root.get("lastName")), namePattern, LIKE_ESCAPE);
                 predicates.add(criteriaBuilder.or(firstNameMatch, lastNameMatch));
             }
 
@@ -273,6 +868,195 @@ public class EmployeeService {
         };
     }
 
+    /**
+     * Planner estimate for the filtered employee count
+     */
+    private OptionalLong estimateTotal(EmployeeFilterRequest filterRequest) {
+        List<Object> params = new ArrayList<>();
+        List<String> conditions = estimateConditions(filterRequest, params);
+        return rowCountEstimator.estimate("employees", conditions, params);
+    }
+
+    /**
+     * The filters of buildSpecification as SQL conditions on the employees columns, with ? placeholders
+     * Used for EXPLAIN estimates and by the reactive read application's queries;
+     * EstimateConditionsTest runs every filter through both and compares the counts
+     */
+    public static List<String> estimateConditions(EmployeeFilterRequest filterRequest, List<Object> params) {
+        List<String> conditions = new ArrayList<>();
+
+        if (filterRequest.getDepartmentId() != null) {
+            conditions.add("department_id = ?");
+            params.add(filterRequest.getDepartmentId());
+        }
+
+        if (filterRequest.getStatus() != null && !filterRequest.getStatus().trim().isEmpty()) {
+            try {
+                EmployeeStatus status = EmployeeStatus.valueOf(filterRequest.getStatus().toUpperCase());
+                conditions.add("status = ?");
+                params.add(status.name());
+            } catch (IllegalArgumentException e) {
+                // Invalid status value - ignore filter, as buildSpecification does
+            }
+        }
+
+        if (filterRequest.getManagerId() != null) {
+            conditions.add("manager_id = ?");
+            params.add(filterRequest.getManagerId());
+        }
+
+        if (filterRequest.getName() != null && !filterRequest.getName().trim().isEmpty()) {
+            String namePattern = containsPattern(filterRequest.getName());
+            conditions.add("(lower(first_name) LIKE ? ESCAPE '\\' OR lower(last_name) LIKE ? ESCAPE '\\')");
+            params.add(namePattern);
+            params.add(namePattern);
+        }
+
+        if (filterRequest.getHireDateFrom() != null) {
+            conditions.add("hire_date >= ?");
+            params.add(filterRequest.getHireDateFrom());
+        }
+
+        if (filterRequest.getHireDateTo() != null) {
+            conditions.add("hire_date <= ?");
+            params.add(filterRequest.getHireDateTo());
+        }
+
+        return conditions;
+    }
+
+    // Helper
+    private static boolean hasEmployeeCode(EmployeeRequest request) {
+        return request.getEmployeeCode() != null && !request.getEmployeeCode().trim().isEmpty();
+    }
+
+    // Helper - sparse-fieldset export; CSV columns follow the requested fields, department as id, code and name
+    private void exportFields(Specification<Employee> spec, Set<EmployeeField> fields, ExportFormat format,
+                              Writer writer) throws IOException {
+        if (format == ExportFormat.CSV) {
+            List<String> header = new ArrayList<>();
+            for (EmployeeField field : fields) {
+                if (field == EmployeeField.DEPARTMENT) {
+                    header.addAll(List.of("departmentId", "departmentCode", "departmentName"));
+                } else {
+                    header.add(field.getProperty());
+                }
+            }
+            writer.write(String.join(",", header));
+            writer.write('\n');
+        }
+
+        try (Stream<Map<String, Object>> rows = employeeProjectionQuery.streamFields(
+                spec, Sort.by(Sort.Direction.ASC, "id"), EXPORT_FETCH_SIZE, fields)) {
+            Iterator<Map<String, Object>> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Map<String, Object> row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvFields(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                }
+                writer.write('\n');
+            }
+        }
+    }
+
+    // Helper
+    private static void writeCsvFields(Writer writer, Map<String, Object> row) throws IOException {
+        boolean first = true;
+        for (Object value : row.values()) {
+            Object[] columns = value instanceof EmployeeResponse.DepartmentSummary department
+                    ? new Object[]{department.getId(), department.getCode(), department.getName()}
+                    : new Object[]{value};
+            for (Object column : columns) {
+                if (!first) {
+                    writer.write(',');
+                }
+                writer.write(csvValue(column));
+                first = false;
+            }
+        }
+    }
+
+    // Helper - column order must match CSV_HEADER
+    private static void writeCsvRow(Writer writer, EmployeeResponse employee) throws IOException {
+        EmployeeResponse.DepartmentSummary department = employee.getDepartment();
+        Object[] values = {
+                employee.getId(), employee.getEmployeeCode(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getPhoneNumber(), employee.getHireDate(), employee.getJobTitle(),
+                employee.getSalary(), employee.getStatus(), employee.getManagerId(),
+                department != null ? department.getId() : null,
+                department != null ? department.getCode() : null,
+                department != null ? department.getName() : null,
+                employee.getCreatedAt(), employee.getUpdatedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+    }
+
+    /**
+     * RFC 4180 quoting: values containing a comma, quote or line break are wrapped in
+     * quotes with embedded quotes doubled
+     */
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Case-insensitive substring pattern with LIKE wildcards in the search term escaped,
+     * so a stray '%' or '_' is matched literally instead of turning into a match-all scan
+     */
+    private static String containsPattern(String term) {
+        String escaped = term.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    /**
+     * Keyset predicate equivalent to (sortKey, id) > (cursorValue, cursorId)
+     * Criteria API has no row-value comparison, so it is expanded into OR/AND form
+     */
+    private Specification<Employee> buildKeysetSpecification(EmployeeCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            Path<Long> id = root.get("id");
+
+            switch (cursor.getSortBy()) {
+                case "hireDate": {
+                    Path<LocalDate> hireDate = root.get("hireDate");
+                    LocalDate value = LocalDate.parse(cursor.getValue());
+                    return criteriaBuilder.or(
+                            criteriaBuilder.greaterThan(hireDate, value),
+                            criteriaBuilder.and(
+                                    criteriaBuilder.equal(hireDate, value),
+                                    criteriaBuilder.greaterThan(id, cursor.getId())));
+                }
+                case "lastName": {
+                    Path<String> lastName = root.get("lastName");
+                    return criteriaBuilder.or(
+                            criteriaBuilder.greaterThan(lastName, cursor.getValue()),
+                            criteriaBuilder.and(
+                                    criteriaBuilder.equal(lastName, cursor.getValue()),
+                                    criteriaBuilder.greaterThan(id, cursor.getId())));
+                }
+                default:
+                    return criteriaBuilder.greaterThan(id, cursor.getId());
+            }
+        };
+    }
+
     // Helper method to convert entity to response DTO
     private EmployeeResponse convertToResponse(Employee employee) {
         EmployeeResponse response = new EmployeeResponse();
@@ -294,13 +1078,91 @@ public class EmployeeService {
 
         // Set department summary
         if (employee.getDepartment() != null) {
-            EmployeeResponse.DepartmentSummary deptSummary = new EmployeeResponse.DepartmentSummary(
-                    employee.getDepartment().getId(),
-                    employee.getDepartment().getName(),
-                    employee.getDepartment().getCode());
-            response.setDepartment(deptSummary);
+            response.setDepartment(toDepartmentSummary(employee.getDepartment()));
         }
 
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * Single-round-trip pre-write validation, only needed when a manager has to be checked
+     * Manager ids are not constrained by the entity mapping, whereas codes and emails are unique
+     * columns - since the query runs anyway it reports those conflicts too, with clearer messages
+     */
+    private void checkWriteConflicts(String employeeCode, String email, Long managerId, Long excludeId) {
+        if (managerId == null) {
+            return;
+        }
+        EmployeeRepository.WriteConflicts conflicts = employeeRepository.checkWriteConflicts(
+                employeeCode != null ? employeeCode : "", email, managerId, excludeId != null ? excludeId : 0L);
+        if (conflicts.getCodeTaken()) {
+            throw new DuplicateResourceException("Employee with employee code '" + employeeCode + "' already exists");
+        }
+        if (conflicts.getEmailTaken()) {
+            throw new DuplicateResourceException("Employee with email '" + email + "' already exists");
+        }
+        if (!conflicts.getManagerExists()) {
+            throw new ResourceNotFoundException("Manager not found with id: " + managerId);
+        }
+        if (conflicts.getManagerInReportingChain()) {
+            throw new BusinessRuleViolationException(
+                    "Manager " + managerId + " is the employee itself or one of its reports");
+        }
+    }
+
+    /**
+     * Write the employee immediately so a violated constraint surfaces here and is
+     * reported like the former pre-checks rather than as a 500 at commit
+     */
+    private Employee saveAndFlush(Employee employee) {
+        try {
+            return employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, employee);
+        }
+    }
+
+    // Helper - the exception the pre-checks would have thrown for this violation, or the violation itself
+    private static RuntimeException translate(DataIntegrityViolationException e, Employee employee) {
+        if (ConstraintViolations.isUniqueViolation(e)) {
+            if (ConstraintViolations.involves(e, "email")) {
+                return new DuplicateResourceException(
+                        "Employee with email '" + employee.getEmail() + "' already exists");
+            }
+            return new DuplicateResourceException(
+                    "Employee with employee code '" + employee.getEmployeeCode() + "' already exists");
+        }
+        if (ConstraintViolations.isForeignKeyViolation(e)) {
+            if (ConstraintViolations.involves(e, "manager")) {
+                return new ResourceNotFoundException("Manager not found with id: " + employee.getManagerId());
+            }
+            return new ResourceNotFoundException(
+                    "Department not found with id: " + employee.getDepartment().getId());
+        }
+        return e;
+    }
+
+    // Helper - checks the department snapshot and links a reference without loading the row
+    private Department resolveDepartment(Long departmentId) {
+        departmentCatalog.find(departmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + departmentId));
+        return departmentRepository.getReferenceById(departmentId);
+    }
+
+    // Helper - a loaded department is used as is; an uninitialized proxy is answered from the snapshot
+    private EmployeeResponse.DepartmentSummary toDepartmentSummary(Department department) {
+        if (!Hibernate.isInitialized(department)) {
+            DepartmentSnapshot.Entry entry = departmentCatalog.getSnapshot().get(department.getId());
+            if (entry != null) {
+                return new EmployeeResponse.DepartmentSummary(entry.getId(), entry.getName(), entry.getCode());
+            }
+        }
+        return new EmployeeResponse.DepartmentSummary(department.getId(), department.getName(), department.getCode());
+    }
+
+    // Fetches one page of projected rows, as full responses or as sparse field maps
+    @FunctionalInterface
+    private interface RowFetcher<T> {
+        List<T> fetch(Specification<Employee> spec, Sort sort, long offset, int limit);
+    }
+}
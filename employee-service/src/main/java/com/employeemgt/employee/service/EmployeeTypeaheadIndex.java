@@ -0,0 +1,557 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.EmployeeSuggestion;
+import com.employeemgt.employee.event.EmployeeChangedEvent;
+import com.employeemgt.employee.event.EmployeeChangedEvent.EmployeeSnapshot;
+import com.employeemgt.employee.model.EmployeeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process prefix index for employee typeahead lookups
+ * Every first name, last name, email and employee code is keyed by its first
+ * three lowercase characters; each key holds a primitive int[] posting list of
+ * document slots. Candidates are verified with case-insensitive prefix matches
+ * and ranked top-k without touching the database.
+ *
+ * Built from a streaming scan off the startup thread; until it is ready, suggestions
+ * come from the database. Kept current from this instance's write paths through
+ * EmployeeChangedEvent after commit, and from other instances' through the
+ * employee-events topic. Updates and deletes leave tombstones which are compacted
+ * by a rebuild; an hourly rebuild also reconciles anything the topic missed.
+ *
+ * Terms shorter than two characters are not looked up, and a search verifies at
+ * most MAX_CANDIDATES postings, so a common prefix cannot scan the whole index.
+ */
+@Service
+public class EmployeeTypeaheadIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeTypeaheadIndex.class);
+
+    private static final int KEY_LENGTH = 3;
+    static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_CANDIDATES = 10_000;
+    private static final int FETCH_SIZE = 1000;
+    private static final String SCAN_SQL =
+            "SELECT id, employee_code, first_name, last_name, email FROM employees";
+
+    // Field weights - name matches rank above code and email matches
+    private static final int EXACT_MATCH_SCORE = 4;
+    private static final int NAME_PREFIX_SCORE = 3;
+    private static final int CODE_PREFIX_SCORE = 2;
+    private static final int EMAIL_PREFIX_SCORE = 1;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private TaskExecutor taskExecutor;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    // Guarded by lock
+    private Segment segment = new Segment();
+    private List<EmployeeSnapshot> pendingUpserts;
+    private List<Long> pendingRemovals;
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Not on the startup thread - suggestions fall back to the database until the index is ready
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        taskExecutor.execute(this::rebuild);
+    }
+
+    // Reconcile with the table in case an employee-events record was missed
+    @Scheduled(fixedDelayString = "${app.typeahead.rebuild-interval-ms:3600000}",
+               initialDelayString = "${app.typeahead.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    // Compact tombstones left by updates and deletes
+    @Scheduled(fixedDelayString = "${app.typeahead.compaction-interval-ms:600000}")
+    public void compactIfNeeded() {
+        boolean needed;
+        lock.readLock().lock();
+        try {
+            needed = segment.size > 0 && segment.deletedCount * 4 > segment.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (needed) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuild the index from a streaming scan of the employees table
+     * Writes that commit during the scan are replayed onto the new segment before it is swapped in
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            lock.writeLock().lock();
+            try {
+                pendingUpserts = new ArrayList<>();
+                pendingRemovals = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            long started = System.nanoTime();
+            Segment fresh = new Segment();
+
+            // PostgreSQL only streams with a fetch size inside a transaction; a read-write one stays
+            // on the primary, since a lagging replica could miss writes made before pending began
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        SCAN_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, resultSet -> {
+                fresh.upsert(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3),
+                        resultSet.getString(4), resultSet.getString(5));
+            }));
+
+            lock.writeLock().lock();
+            try {
+                for (EmployeeSnapshot employee : pendingUpserts) {
+                    fresh.upsert(employee.getId(), employee.getEmployeeCode(), employee.getFirstName(),
+                            employee.getLastName(), employee.getEmail());
+                }
+                for (Long employeeId : pendingRemovals) {
+                    fresh.remove(employeeId);
+                }
+                segment = fresh;
+                pendingUpserts = null;
+                pendingRemovals = null;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            logger.info("Typeahead index built with {} employees in {} ms",
+                    fresh.size, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.error("Failed to build typeahead index", e);
+            lock.writeLock().lock();
+            try {
+                pendingUpserts = null;
+                pendingRemovals = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.isDelete()) {
+                remove(event.getEmployeeId());
+            } else {
+                upsert(event.getCurrent());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes made on other instances; this instance's own arrive here too and change nothing
+     */
+    @KafkaListener(
+            topics = "${app.kafka.topic.employee-events:employee-events}",
+            groupId = "employee-typeahead-#{T(java.util.UUID).randomUUID().toString()}",
+            containerFactory = "employeeEventListenerFactory",
+            autoStartup = "${app.typeahead.remote-updates:true}",
+            properties = "auto.offset.reset=latest")
+    public void onEmployeeEvent(EmployeeEvent event) {
+        if (event == null || event.getEmployeeId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if ("DELETE".equals(event.getAction())) {
+                remove(event.getEmployeeId());
+                return;
+            }
+            int doc = segment.slotByEmployeeId.get(event.getEmployeeId());
+            if (doc < 0 && event.getChangedFields() != null) {
+                return; // a delta for an employee not indexed yet, the reconcile adds it
+            }
+            // Deltas only carry the fields that changed, the rest is kept from the index
+            String code = event.getEmployeeCode() != null || doc < 0 ? event.getEmployeeCode() : segment.codes[doc];
+            String firstName = doc < 0 || event.hasChanged(EmployeeEvent.FIRST_NAME)
+                    ? event.getFirstName() : segment.firstNames[doc];
+            String lastName = doc < 0 || event.hasChanged(EmployeeEvent.LAST_NAME)
+                    ? event.getLastName() : segment.lastNames[doc];
+            String email = doc < 0 || event.hasChanged(EmployeeEvent.EMAIL) ? event.getEmail() : segment.emails[doc];
+            if (doc >= 0 && Objects.equals(code, segment.codes[doc])
+                    && Objects.equals(firstName, segment.firstNames[doc])
+                    && Objects.equals(lastName, segment.lastNames[doc])
+                    && Objects.equals(email, segment.emails[doc])) {
+                return;
+            }
+            upsert(new EmployeeSnapshot(event.getEmployeeId(), code, firstName, lastName, email,
+                    null, null, null, null));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Helper - caller holds the write lock
+    private void upsert(EmployeeSnapshot employee) {
+        segment.upsert(employee.getId(), employee.getEmployeeCode(), employee.getFirstName(),
+                employee.getLastName(), employee.getEmail());
+        if (pendingUpserts != null) {
+            pendingUpserts.add(employee);
+        }
+    }
+
+    // Helper - caller holds the write lock
+    private void remove(Long employeeId) {
+        segment.remove(employeeId);
+        if (pendingRemovals != null) {
+            pendingRemovals.add(employeeId);
+        }
+    }
+
+    /**
+     * Top-k employees whose name, email or code starts with every term of the query
+     * Empty when even the longest term is shorter than MIN_PREFIX_LENGTH
+     *
+     * @param query Whitespace separated prefixes, e.g. "jo sm"
+     * @param limit Maximum number of suggestions
+     * @return Suggestions ordered by descending relevance
+     */
+    public List<EmployeeSuggestion> search(String query, int limit) {
+        String[] terms = query.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        if (terms.length == 0 || terms[0].isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // The longest term has the most selective key
+        String driver = terms[0];
+        for (String term : terms) {
+            if (term.length() > driver.length()) {
+                driver = term;
+            }
+        }
+
+        if (driver.length() < MIN_PREFIX_LENGTH) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Segment current = segment;
+            TopK topK = new TopK(limit);
+
+            int budget = MAX_CANDIDATES;
+            for (IntList postings : current.postingsFor(driver)) {
+                if (budget <= 0) {
+                    break;
+                }
+                int scanned = Math.min(postings.size, budget);
+                budget -= scanned;
+                for (int i = 0; i < scanned; i++) {
+                    int doc = postings.values[i];
+                    if (current.deleted[doc]) {
+                        continue;
+                    }
+                    int score = current.score(doc, terms);
+                    if (score > 0) {
+                        topK.offer(doc, score);
+                    }
+                }
+            }
+
+            List<EmployeeSuggestion> suggestions = new ArrayList<>(topK.size);
+            for (int i = 0; i < topK.size; i++) {
+                int doc = topK.docs[i];
+                suggestions.add(new EmployeeSuggestion(
+                        current.employeeIds[doc],
+                        current.codes[doc],
+                        current.firstNames[doc] + " " + current.lastNames[doc],
+                        current.emails[doc]));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Index state: parallel arrays indexed by document slot, plus the prefix postings
+     */
+    private static final class Segment {
+        long[] employeeIds = new long[1024];
+        String[] codes = new String[1024];
+        String[] firstNames = new String[1024];
+        String[] lastNames = new String[1024];
+        String[] emails = new String[1024];
+        boolean[] deleted = new boolean[1024];
+        int size;
+        int deletedCount;
+
+        final TreeMap<String, IntList> postings = new TreeMap<>();
+        final LongIntMap slotByEmployeeId = new LongIntMap();
+
+        void upsert(long employeeId, String code, String firstName, String lastName, String email) {
+            remove(employeeId);
+            ensureCapacity(size + 1);
+
+            int doc = size++;
+            employeeIds[doc] = employeeId;
+            codes[doc] = code;
+            firstNames[doc] = firstName;
+            lastNames[doc] = lastName;
+            emails[doc] = email;
+            slotByEmployeeId.put(employeeId, doc);
+
+            String[] keys = { key(firstName), key(lastName), key(email), key(code) };
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == null || indexOf(keys, keys[i]) < i) {
+                    continue; // missing field, or the same key as an earlier field
+                }
+                postings.computeIfAbsent(keys[i], k -> new IntList()).add(doc);
+            }
+        }
+
+        void remove(long employeeId) {
+            int doc = slotByEmployeeId.get(employeeId);
+            if (doc >= 0 && !deleted[doc]) {
+                deleted[doc] = true;
+                deletedCount++;
+                slotByEmployeeId.put(employeeId, -1);
+            }
+        }
+
+        Collection<IntList> postingsFor(String term) {
+            if (term.length() >= KEY_LENGTH) {
+                IntList postingList = postings.get(term.substring(0, KEY_LENGTH));
+                return postingList != null ? List.of(postingList) : Collections.emptyList();
+            }
+            // Short terms match every key they prefix
+            return postings.subMap(term, true, term + Character.MAX_VALUE, false).values();
+        }
+
+        /**
+         * Sum of the best field match for each term, or 0 when any term matches no field
+         */
+        int score(int doc, String[] terms) {
+            int total = 0;
+            for (String term : terms) {
+                int best = Math.max(
+                        Math.max(match(firstNames[doc], term, NAME_PREFIX_SCORE),
+                                match(lastNames[doc], term, NAME_PREFIX_SCORE)),
+                        Math.max(match(codes[doc], term, CODE_PREFIX_SCORE),
+                                match(emails[doc], term, EMAIL_PREFIX_SCORE)));
+                if (best == 0) {
+                    return 0;
+                }
+                total += best;
+            }
+            return total;
+        }
+
+        private static int match(String value, String term, int prefixScore) {
+            if (value == null || !value.regionMatches(true, 0, term, 0, term.length())) {
+                return 0;
+            }
+            return value.length() == term.length() ? EXACT_MATCH_SCORE : prefixScore;
+        }
+
+        private static String key(String value) {
+            if (value == null || value.isEmpty()) {
+                return null;
+            }
+            return value.substring(0, Math.min(KEY_LENGTH, value.length())).toLowerCase(Locale.ROOT);
+        }
+
+        private static int indexOf(String[] keys, String key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (key.equals(keys[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= employeeIds.length) {
+                return;
+            }
+            int newLength = Math.max(capacity, employeeIds.length * 2);
+            employeeIds = Arrays.copyOf(employeeIds, newLength);
+            codes = Arrays.copyOf(codes, newLength);
+            firstNames = Arrays.copyOf(firstNames, newLength);
+            lastNames = Arrays.copyOf(lastNames, newLength);
+            emails = Arrays.copyOf(emails, newLength);
+            deleted = Arrays.copyOf(deleted, newLength);
+        }
+    }
+
+    /**
+     * Growable posting list of document slots, ascending since slots are append-only
+     */
+    private static final class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    /**
+     * Open-addressing long -> int map so the id lookup does not box
+     * Returns -1 for absent keys
+     */
+    private static final class LongIntMap {
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private long[] keys = newKeys(1024);
+        private int[] values = new int[1024];
+        private int size;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+                if (keys[i] == EMPTY) {
+                    return -1;
+                }
+            }
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                if (keys[i] == EMPTY) {
+                    keys[i] = key;
+                    values[i] = value;
+                    size++;
+                    return;
+                }
+            }
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = newKeys(oldKeys.length * 2);
+            values = new int[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static long[] newKeys(int capacity) {
+            long[] keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    /**
+     * Fixed-size top-k by score, ties broken by the older (lower) slot
+     */
+    private static final class TopK {
+        final int[] docs;
+        final int[] scores;
+        int size;
+
+        TopK(int k) {
+            docs = new int[k];
+            scores = new int[k];
+        }
+
+        void offer(int doc, int score) {
+            for (int i = 0; i < size; i++) {
+                if (docs[i] == doc) {
+                    return; // already collected from another posting list
+                }
+            }
+            if (size == docs.length && !better(doc, score, size - 1)) {
+                return;
+            }
+
+            int position = size < docs.length ? size++ : size - 1;
+            while (position > 0 && better(doc, score, position - 1)) {
+                docs[position] = docs[position - 1];
+                scores[position] = scores[position - 1];
+                position--;
+            }
+            docs[position] = doc;
+            scores[position] = score;
+        }
+
+        private boolean better(int doc, int score, int index) {
+            return score > scores[index] || (score == scores[index] && doc < docs[index]);
+        }
+    }
+}
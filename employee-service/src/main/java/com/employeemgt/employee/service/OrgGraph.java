@@ -0,0 +1,865 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.OrgGraphSummary;
+import com.employeemgt.employee.dto.OrgNodeStats;
+import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+/**
+ * Reporting graph of every employee, held in primitive arrays
+ * Nodes are int indexes into columns sorted by employee id, so an id is resolved
+ * with a binary search and no boxed map is needed. Direct reports are stored in
+ * CSR form: the reports of node i are children[childStart[i] .. childStart[i + 1]).
+ *
+ * Subtree sizes, the depth histogram, cycles and the largest spans are computed when
+ * the graph is built, so queries are array reads. Around 45 bytes per employee.
+ *
+ * Changes are patched in place by applyChanges, at a cost proportional to the moved
+ * subtree rather than to the graph: a removed employee leaves a tombstone, a new one is
+ * appended into the spare capacity, and a report that gains a manager after the build is
+ * kept in a small overlay next to the CSR arrays. What cannot be patched (an id below the
+ * largest one, anything touching a cycle) and overlays past their limit are merged by
+ * withChanges, which rebuilds.
+ */
+public final class OrgGraph {
+
+    static final long NO_MANAGER = 0L;
+    static final byte NO_STATUS = -1;
+
+    // Enough for any dashboard; the counts cover the rest
+    static final int MAX_REPORTED_CYCLES = 100;
+    static final int MAX_REPORTED_SPANS = 100;
+
+    // Patched changes allowed before the overlay and tombstones are compacted by a rebuild
+    private static final int MIN_OVERLAY_LIMIT = 1024;
+
+    private static final byte ACTIVE = (byte) EmployeeStatus.ACTIVE.ordinal();
+    private static final byte REMOVED = -2;
+
+    private static final int NOT_ORPHANED = 0;
+    private static final int MANAGER_INACTIVE = 1;
+    private static final int MANAGER_MISSING = 2;
+
+    static final OrgGraph EMPTY = new Columns(0).build();
+
+    // Readers share, applyChanges excludes them while it patches
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Columns, ascending by id; slots past size are spare capacity for appended employees
+    private final long[] ids;
+    private final long[] managerIds;
+    private final long[] departmentIds;
+    private final byte[] statuses;    // REMOVED for a tombstone
+    private int size;                 // slots in use, tombstones included
+    private int employees;
+
+    // Derived
+    private final int[] parent;       // index of the manager, -1 when there is none or it does not exist
+    private final int baseSize;       // nodes covered by the CSR arrays
+    private final int[] childStart;
+    private final int[] children;     // reports at build time; a moved report is skipped by its parent check
+    private final Map<Integer, IntBuffer> addedChildren = new HashMap<>();
+    private final int[] reports;      // current direct reports
+    private final int[] subtreeSize;  // including the employee itself, -1 on a cycle
+    private int[] depthHistogram;     // may end in zeros after a patch
+    private int roots;
+    private final int unrooted;
+    private long[] orphanIds;         // manager missing or not active, ascending
+    private int orphanCount;
+    private int missingManagers;
+    private final List<long[]> cycles;
+    private final int cycleCount;
+    private int[] largestSpans;
+    private int overlayChanges;
+
+    private OrgGraph(Columns columns) {
+        this.ids = columns.ids;
+        this.managerIds = columns.managerIds;
+        this.departmentIds = columns.departmentIds;
+        this.statuses = columns.statuses;
+        this.size = columns.size;
+        this.employees = columns.size;
+        this.baseSize = columns.size;
+
+        int n = size;
+        int capacity = ids.length;
+        parent = new int[capacity];
+        childStart = new int[n + 1];
+        IntBuffer orphanBuffer = new IntBuffer();
+        int missing = 0;
+        for (int i = 0; i < n; i++) {
+            parent[i] = -1;
+            if (managerIds[i] == NO_MANAGER) {
+                continue;
+            }
+            int manager = indexOf(managerIds[i]);
+            if (manager < 0) {
+                missing++;
+                orphanBuffer.add(i);
+                continue;
+            }
+            parent[i] = manager;
+            childStart[manager + 1]++;
+            if (statuses[manager] != ACTIVE) {
+                orphanBuffer.add(i);
+            }
+        }
+        missingManagers = missing;
+        orphanCount = orphanBuffer.size;
+        orphanIds = new long[Math.max(orphanCount, 16)];
+        for (int i = 0; i < orphanCount; i++) {
+            orphanIds[i] = ids[orphanBuffer.values[i]];
+        }
+
+        reports = new int[capacity];
+        for (int i = 0; i < n; i++) {
+            reports[i] = childStart[i + 1];
+            childStart[i + 1] += childStart[i];
+        }
+        children = new int[childStart[n]];
+        int[] cursor = Arrays.copyOf(childStart, n);
+        for (int i = 0; i < n; i++) {
+            if (parent[i] >= 0) {
+                children[cursor[parent[i]]++] = i;
+            }
+        }
+
+        // Peel leaves upwards; whatever never runs out of pending reports sits on a cycle
+        subtreeSize = new int[capacity];
+        int[] pendingReports = cursor;
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            subtreeSize[i] = 1;
+            pendingReports[i] = reports[i];
+            if (pendingReports[i] == 0) {
+                queue[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int node = queue[head++];
+            int manager = parent[node];
+            if (manager >= 0) {
+                subtreeSize[manager] += subtreeSize[node];
+                if (--pendingReports[manager] == 0) {
+                    queue[tail++] = manager;
+                }
+            }
+        }
+
+        List<long[]> foundCycles = new ArrayList<>();
+        int foundCycleCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (pendingReports[i] <= 0) {
+                continue;
+            }
+            // Walk the cycle once, marking its members as done
+            IntBuffer members = new IntBuffer();
+            for (int node = i; pendingReports[node] > 0; node = parent[node]) {
+                pendingReports[node] = 0;
+                subtreeSize[node] = -1;
+                members.add(node);
+            }
+            foundCycleCount++;
+            if (foundCycles.size() < MAX_REPORTED_CYCLES) {
+                long[] memberIds = new long[members.size];
+                for (int m = 0; m < members.size; m++) {
+                    memberIds[m] = ids[members.values[m]];
+                }
+                foundCycles.add(memberIds);
+            }
+        }
+        cycles = List.copyOf(foundCycles);
+        cycleCount = foundCycleCount;
+
+        // Breadth-first from the top of each tree for the depth histogram; nodes below a cycle are never reached
+        head = 0;
+        tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (parent[i] < 0) {
+                queue[tail++] = i;
+            }
+        }
+        roots = tail;
+        int[] depth = pendingReports;
+        IntBuffer histogram = new IntBuffer();
+        while (head < tail) {
+            int node = queue[head++];
+            int nodeDepth = parent[node] < 0 ? 0 : depth[parent[node]] + 1;
+            depth[node] = nodeDepth;
+            histogram.increment(nodeDepth);
+            for (int c = childStart[node]; c < childStart[node + 1]; c++) {
+                queue[tail++] = children[c];
+            }
+        }
+        depthHistogram = histogram.toArray();
+        unrooted = n - tail;
+
+        largestSpans = topSpans();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return employees;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reporting statistics for one employee, or null when it is not in the graph
+     */
+    public OrgNodeStats getNode(long employeeId) {
+        lock.readLock().lock();
+        try {
+            int node = indexOf(employeeId);
+            return node >= 0 ? stats(node) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public OrgGraphSummary getSummary() {
+        lock.readLock().lock();
+        try {
+            int depths = depthHistogram.length;
+            while (depths > 0 && depthHistogram[depths - 1] == 0) {
+                depths--;
+            }
+            return new OrgGraphSummary(employees, roots, Math.max(depths - 1, 0),
+                    Arrays.copyOf(depthHistogram, depths), unrooted, missingManagers,
+                    orphanCount - missingManagers, cycleCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Employees whose manager does not exist or is no longer active, ascending by id
+     */
+    public List<Long> getOrphans(int limit) {
+        lock.readLock().lock();
+        try {
+            int count = Math.min(limit, orphanCount);
+            List<Long> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(orphanIds[i]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reporting cycles as lists of employee ids, each starting at its lowest id
+     */
+    public List<List<Long>> getCycles(int limit) {
+        int count = Math.min(limit, cycles.size());
+        List<List<Long>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<Long> members = new ArrayList<>(cycles.get(i).length);
+            for (long id : cycles.get(i)) {
+                members.add(id);
+            }
+            result.add(members);
+        }
+        return result;
+    }
+
+    /**
+     * Employees with the most direct reports, largest first
+     */
+    public List<OrgNodeStats> getLargestSpans(int limit) {
+        lock.readLock().lock();
+        try {
+            int count = Math.min(limit, largestSpans.length);
+            List<OrgNodeStats> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(stats(largestSpans[i]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Patch changes into this graph, in order, up to the first one that needs a rebuild
+     * Each change is checked before anything is written, so the graph is consistent after every step
+     *
+     * @param changes Upserts and removals, ascending by id
+     * @return How many leading changes were applied; the rest are for withChanges
+     */
+    int applyChanges(Columns changes, boolean[] removed) {
+        lock.writeLock().lock();
+        try {
+            int applied = 0;
+            boolean spansChanged = false;
+            while (applied < changes.size && overlayChanges < overlayLimit()) {
+                Patch patch = new Patch();
+                if (!apply(changes.ids[applied], changes.managerIds[applied], changes.departmentIds[applied],
+                        changes.statuses[applied], removed[applied], patch)) {
+                    break;
+                }
+                spansChanged |= patch.spansChanged;
+                applied++;
+            }
+            if (spansChanged) {
+                largestSpans = topSpans();
+            }
+            return applied;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * True once enough changes were patched that a rebuild should reclaim tombstones and the overlay
+     */
+    boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return overlayChanges >= overlayLimit();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A new graph with the given changes merged in
+     *
+     * @param changes Upserts and removals, ascending by id
+     */
+    OrgGraph withChanges(Columns changes, boolean[] removed) {
+        return withChanges(changes, removed, 0);
+    }
+
+    /**
+     * A new graph with changes[from ..] merged in; tombstones are dropped
+     */
+    OrgGraph withChanges(Columns changes, boolean[] removed, int from) {
+        lock.readLock().lock();
+        try {
+            Columns merged = new Columns(employees + changes.size - from);
+            int i = 0;
+            int c = from;
+            while (i < size || c < changes.size) {
+                if (i < size && statuses[i] == REMOVED) {
+                    i++;
+                    continue;
+                }
+                if (c == changes.size || (i < size && ids[i] < changes.ids[c])) {
+                    merged.add(ids[i], managerIds[i], departmentIds[i], statuses[i]);
+                    i++;
+                    continue;
+                }
+                if (i < size && ids[i] == changes.ids[c]) {
+                    i++;
+                }
+                if (!removed[c]) {
+                    merged.add(changes.ids[c], changes.managerIds[c], changes.departmentIds[c], changes.statuses[c]);
+                }
+                c++;
+            }
+            return merged.build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Compare a full scan with this graph, row by row
+     * Rows must be added in ascending id order; what differs comes back as changes for applyChanges,
+     * so a rescan that finds little news does not hold a second graph
+     */
+    Reconciliation reconcile() {
+        return new Reconciliation();
+    }
+
+    // Helper - false when the change needs a rebuild; nothing has been written then
+    private boolean apply(long id, long managerId, long departmentId, byte status, boolean remove, Patch patch) {
+        int node = indexOf(id);
+        if (remove) {
+            return node < 0 || remove(node, patch);
+        }
+        if (node < 0) {
+            return insert(id, managerId, departmentId, status, patch);
+        }
+        return update(node, managerId, departmentId, status, patch);
+    }
+
+    private boolean insert(long id, long managerId, long departmentId, byte status, Patch patch) {
+        if ((size > 0 && id <= ids[size - 1]) || size == ids.length || managerId == id) {
+            return false;
+        }
+        int manager = managerId != NO_MANAGER ? indexOf(managerId) : -1;
+        if (manager >= 0 && depthOf(manager) == null) {
+            return false;
+        }
+        // Reports that named this id before it existed; attaching one above its own manager would close a cycle
+        IntBuffer waiting = new IntBuffer();
+        for (int i = 0; i < orphanCount; i++) {
+            int orphan = indexOf(orphanIds[i]);
+            if (managerIds[orphan] == id && parent[orphan] < 0) {
+                if (manager >= 0 && isAncestorOrSelf(orphan, manager)) {
+                    return false;
+                }
+                waiting.add(orphan);
+            }
+        }
+
+        int node = size++;
+        ids[node] = id;
+        managerIds[node] = managerId;
+        departmentIds[node] = departmentId;
+        statuses[node] = status;
+        parent[node] = -1;
+        reports[node] = 0;
+        subtreeSize[node] = 1;
+        employees++;
+        roots++;
+        addToHistogram(0, 1);
+        if (manager >= 0) {
+            move(node, manager, patch);
+        }
+        markOrphan(node);
+        for (int i = 0; i < waiting.size; i++) {
+            unmarkOrphan(waiting.values[i]);
+            move(waiting.values[i], node, patch);
+            markOrphan(waiting.values[i]);
+        }
+        overlayChanges++;
+        return true;
+    }
+
+    private boolean update(int node, long managerId, long departmentId, byte status, Patch patch) {
+        if (depthOf(node) == null) {
+            return false;
+        }
+        int newParent = parent[node];
+        boolean managerChanged = managerId != managerIds[node];
+        if (managerChanged) {
+            if (managerId == ids[node]) {
+                return false;
+            }
+            newParent = managerId != NO_MANAGER ? indexOf(managerId) : -1;
+            if (newParent >= 0 && (depthOf(newParent) == null || isAncestorOrSelf(node, newParent))) {
+                return false;
+            }
+        }
+        // A report's orphan state follows its manager's status
+        IntBuffer reportsOf = status != statuses[node] ? childrenOf(node) : null;
+
+        unmarkOrphan(node);
+        forEach(reportsOf, this::unmarkOrphan);
+        managerIds[node] = managerId;
+        departmentIds[node] = departmentId;
+        statuses[node] = status;
+        if (managerChanged) {
+            move(node, newParent, patch);
+            overlayChanges++;
+        }
+        markOrphan(node);
+        forEach(reportsOf, this::markOrphan);
+        return true;
+    }
+
+    private boolean remove(int node, Patch patch) {
+        if (depthOf(node) == null) {
+            return false;
+        }
+        // Reports keep naming the removed manager, as they would after a rescan
+        IntBuffer reportsOf = childrenOf(node);
+        unmarkOrphan(node);
+        forEach(reportsOf, this::unmarkOrphan);
+        for (int i = 0; i < reportsOf.size; i++) {
+            move(reportsOf.values[i], -1, patch);
+        }
+        move(node, -1, patch);
+
+        roots--;
+        addToHistogram(0, -1);
+        statuses[node] = REMOVED;
+        subtreeSize[node] = 0;
+        employees--;
+        forEach(reportsOf, this::markOrphan);
+        overlayChanges++;
+        return true;
+    }
+
+    // Helper - re-parent a subtree outside any cycle; -1 makes it a root
+    private void move(int node, int newParent, Patch patch) {
+        int oldParent = parent[node];
+        if (oldParent == newParent) {
+            return;
+        }
+        int oldDepth = depthOf(node);
+        int moved = subtreeSize[node];
+        if (oldParent >= 0) {
+            reports[oldParent]--;
+            patch.touch(oldParent);
+            for (int a = oldParent; a >= 0; a = parent[a]) {
+                subtreeSize[a] -= moved;
+            }
+            IntBuffer added = addedChildren.get(oldParent);
+            if (added != null && added.remove(node) && added.size == 0) {
+                addedChildren.remove(oldParent);
+            }
+        } else {
+            roots--;
+        }
+
+        int newDepth = 0;
+        if (newParent >= 0) {
+            newDepth = depthOf(newParent) + 1;
+            reports[newParent]++;
+            patch.touch(newParent);
+            for (int a = newParent; a >= 0; a = parent[a]) {
+                subtreeSize[a] += moved;
+            }
+            if (!inCsr(newParent, node)) {
+                addedChildren.computeIfAbsent(newParent, key -> new IntBuffer()).add(node);
+            }
+        } else {
+            roots++;
+        }
+        parent[node] = newParent;
+
+        // Shift the moved subtree in the depth histogram, one level at a time
+        if (newDepth != oldDepth) {
+            IntBuffer level = new IntBuffer();
+            level.add(node);
+            for (int depth = oldDepth; level.size > 0; depth++) {
+                addToHistogram(depth, -level.size);
+                addToHistogram(depth + newDepth - oldDepth, level.size);
+                IntBuffer next = new IntBuffer();
+                for (int i = 0; i < level.size; i++) {
+                    pushChildren(level.values[i], next);
+                }
+                level = next;
+            }
+        }
+    }
+
+    // Helper - current direct reports: the CSR range still pointing here, then the overlay
+    private void pushChildren(int node, IntBuffer out) {
+        if (node < baseSize) {
+            for (int c = childStart[node]; c < childStart[node + 1]; c++) {
+                if (parent[children[c]] == node) {
+                    out.add(children[c]);
+                }
+            }
+        }
+        IntBuffer added = addedChildren.get(node);
+        if (added != null) {
+            for (int i = 0; i < added.size; i++) {
+                out.add(added.values[i]);
+            }
+        }
+    }
+
+    private IntBuffer childrenOf(int node) {
+        IntBuffer result = new IntBuffer();
+        pushChildren(node, result);
+        return result;
+    }
+
+    private boolean inCsr(int node, int child) {
+        return node < baseSize && Arrays.binarySearch(children, childStart[node], childStart[node + 1], child) >= 0;
+    }
+
+    // Only for nodes outside any cycle, so the walk ends
+    private boolean isAncestorOrSelf(int ancestor, int node) {
+        for (int current = node; current >= 0; current = parent[current]) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int orphanState(int node) {
+        if (managerIds[node] == NO_MANAGER) {
+            return NOT_ORPHANED;
+        }
+        if (parent[node] < 0) {
+            return MANAGER_MISSING;
+        }
+        return statuses[parent[node]] != ACTIVE ? MANAGER_INACTIVE : NOT_ORPHANED;
+    }
+
+    // Helper - take a node out of the orphan list before the fields its state depends on change
+    private void unmarkOrphan(int node) {
+        int state = orphanState(node);
+        if (state == NOT_ORPHANED) {
+            return;
+        }
+        int position = Arrays.binarySearch(orphanIds, 0, orphanCount, ids[node]);
+        System.arraycopy(orphanIds, position + 1, orphanIds, position, orphanCount - position - 1);
+        orphanCount--;
+        if (state == MANAGER_MISSING) {
+            missingManagers--;
+        }
+    }
+
+    // Helper - and put it back afterwards, if it still is one
+    private void markOrphan(int node) {
+        int state = orphanState(node);
+        if (state == NOT_ORPHANED) {
+            return;
+        }
+        if (orphanCount == orphanIds.length) {
+            orphanIds = Arrays.copyOf(orphanIds, orphanCount * 2);
+        }
+        int position = -Arrays.binarySearch(orphanIds, 0, orphanCount, ids[node]) - 1;
+        System.arraycopy(orphanIds, position, orphanIds, position + 1, orphanCount - position);
+        orphanIds[position] = ids[node];
+        orphanCount++;
+        if (state == MANAGER_MISSING) {
+            missingManagers++;
+        }
+    }
+
+    private void addToHistogram(int depth, int count) {
+        if (depth >= depthHistogram.length) {
+            depthHistogram = Arrays.copyOf(depthHistogram, Math.max(depth + 1, depthHistogram.length * 2));
+        }
+        depthHistogram[depth] += count;
+    }
+
+    private int overlayLimit() {
+        return Math.max(MIN_OVERLAY_LIMIT, baseSize / 32);
+    }
+
+    private static void forEach(IntBuffer nodes, IntConsumer action) {
+        if (nodes != null) {
+            for (int i = 0; i < nodes.size; i++) {
+                action.accept(nodes.values[i]);
+            }
+        }
+    }
+
+    // Helper
+    private OrgNodeStats stats(int node) {
+        return new OrgNodeStats(
+                ids[node],
+                managerIds[node] != NO_MANAGER ? managerIds[node] : null,
+                departmentIds[node],
+                depthOf(node),
+                reports[node],
+                subtreeSize[node] >= 0 ? subtreeSize[node] : null,
+                subtreeSize[node] < 0);
+    }
+
+    // Walks up to the top of the tree; null when the chain runs into a cycle
+    private Integer depthOf(int node) {
+        int depth = 0;
+        for (int current = node; parent[current] >= 0; current = parent[current]) {
+            if (subtreeSize[current] < 0) {
+                return null;
+            }
+            depth++;
+        }
+        return depth;
+    }
+
+    private int indexOf(long employeeId) {
+        int index = Arrays.binarySearch(ids, 0, size, employeeId);
+        return index >= 0 && statuses[index] != REMOVED ? index : -1;
+    }
+
+    // Helper - the largest spans by direct reports, ties to the lower id
+    private int[] topSpans() {
+        int[] top = new int[Math.min(MAX_REPORTED_SPANS, size)];
+        int count = 0;
+        for (int node = 0; node < size; node++) {
+            int span = reports[node];
+            if (span == 0 || (count == top.length && span <= reports[top[count - 1]])) {
+                continue;
+            }
+            int position = count < top.length ? count++ : count - 1;
+            while (position > 0 && span > reports[top[position - 1]]) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = node;
+        }
+        return Arrays.copyOf(top, count);
+    }
+
+    /**
+     * Effects of one patch the graph settles after the batch
+     */
+    private final class Patch {
+        boolean spansChanged;
+
+        // A manager whose span changed can only reorder the top list if it is on it or could join it
+        void touch(int node) {
+            if (spansChanged) {
+                return;
+            }
+            int[] top = largestSpans;
+            boolean listed = false;
+            for (int member : top) {
+                listed |= member == node;
+            }
+            spansChanged = listed || (reports[node] > 0
+                    && (top.length < MAX_REPORTED_SPANS || reports[node] >= reports[top[top.length - 1]]));
+        }
+    }
+
+    /**
+     * Streaming diff of a full scan against the graph
+     */
+    final class Reconciliation {
+        private final Columns changes = new Columns(16);
+        private boolean[] removed = new boolean[16];
+        private int cursor;
+
+        void add(long id, long managerId, long departmentId, byte status) {
+            removeBefore(id);
+            if (cursor < size && ids[cursor] == id && statuses[cursor] != REMOVED) {
+                boolean same = managerIds[cursor] == managerId && departmentIds[cursor] == departmentId
+                        && statuses[cursor] == status;
+                cursor++;
+                if (same) {
+                    return;
+                }
+            } else if (cursor < size && ids[cursor] == id) {
+                cursor++;
+            }
+            change(id, managerId, departmentId, status, false);
+        }
+
+        /**
+         * Changes for applyChanges, with employees the scan did not return removed
+         */
+        Columns finish() {
+            removeBefore(Long.MAX_VALUE);
+            return changes;
+        }
+
+        boolean[] removed() {
+            return removed;
+        }
+
+        private void removeBefore(long id) {
+            for (; cursor < size && ids[cursor] < id; cursor++) {
+                if (statuses[cursor] != REMOVED) {
+                    change(ids[cursor], NO_MANAGER, 0L, NO_STATUS, true);
+                }
+            }
+        }
+
+        private void change(long id, long managerId, long departmentId, byte status, boolean remove) {
+            if (changes.size == removed.length) {
+                removed = Arrays.copyOf(removed, removed.length * 2);
+            }
+            removed[changes.size] = remove;
+            changes.add(id, managerId, departmentId, status);
+        }
+    }
+
+    /**
+     * Growable column set the graph is built from; rows must be added in ascending id order
+     */
+    static final class Columns {
+        long[] ids;
+        long[] managerIds;
+        long[] departmentIds;
+        byte[] statuses;
+        int size;
+
+        Columns(int capacity) {
+            int length = Math.max(capacity, 16);
+            ids = new long[length];
+            managerIds = new long[length];
+            departmentIds = new long[length];
+            statuses = new byte[length];
+        }
+
+        void add(long id, long managerId, long departmentId, byte status) {
+            if (size > 0 && id <= ids[size - 1]) {
+                throw new IllegalArgumentException("Employee ids must be added in ascending order");
+            }
+            if (size == ids.length) {
+                int length = size * 2;
+                ids = Arrays.copyOf(ids, length);
+                managerIds = Arrays.copyOf(managerIds, length);
+                departmentIds = Arrays.copyOf(departmentIds, length);
+                statuses = Arrays.copyOf(statuses, length);
+            }
+            ids[size] = id;
+            managerIds[size] = managerId;
+            departmentIds[size] = departmentId;
+            statuses[size] = status;
+            size++;
+        }
+
+        OrgGraph build() {
+            // Trim so a large scan does not keep up to twice the memory it needs, leaving room
+            // for the employees applyChanges appends before the next compaction
+            int capacity = size + Math.max(MIN_OVERLAY_LIMIT, size / 32);
+            if (capacity != ids.length) {
+                ids = Arrays.copyOf(ids, capacity);
+                managerIds = Arrays.copyOf(managerIds, capacity);
+                departmentIds = Arrays.copyOf(departmentIds, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+            }
+            return new OrgGraph(this);
+        }
+
+        static byte status(EmployeeStatus status) {
+            return status != null ? (byte) status.ordinal() : NO_STATUS;
+        }
+    }
+
+    /**
+     * Minimal growable int array
+     */
+    private static final class IntBuffer {
+        int[] values = new int[16];
+        int size;
+
+        void add(int value) {
+            ensureCapacity(size + 1);
+            values[size++] = value;
+        }
+
+        boolean remove(int value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    values[i] = values[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void increment(int index) {
+            ensureCapacity(index + 1);
+            values[index]++;
+            size = Math.max(size, index + 1);
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+import com.employeemgt.employee.event.EmployeeChangedEvent;
+import com.employeemgt.employee.event.EmployeeChangedEvent.EmployeeSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the in-process OrgGraph current
+ * Built from a streaming scan of (id, manager_id, department_id, status) at startup.
+ * Employee writes on this instance arrive through EmployeeChangedEvent after commit
+ * and are patched into the graph on the next refresh tick, without touching the
+ * database; a periodic full rescan picks up writes made by other instances and is
+ * patched in the same way. A second graph is only built when a change cannot be
+ * patched or the patches are due for compaction, see OrgGraph.applyChanges.
+ */
+@Service
+public class OrgGraphIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrgGraphIndex.class);
+
+    private static final int FETCH_SIZE = 5000;
+    private static final String SCAN_SQL =
+            "SELECT id, manager_id, department_id, status FROM employees ORDER BY id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Patched in place, so not the shared OrgGraph.EMPTY
+    private volatile OrgGraph graph = new OrgGraph.Columns(0).build();
+
+    // Latest state per employee written since the last refresh, null for a delete; guarded by itself
+    private final Map<Long, EmployeeSnapshot> pendingChanges = new HashMap<>();
+
+    // Serializes rebuilds and refreshes; held across the scan, so not a monitor that would pin a virtual thread
+    private final ReentrantLock graphLock = new ReentrantLock();
+
+    public OrgGraph getGraph() {
+        return graph;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.org-graph.rebuild-interval-ms:600000}",
+               initialDelayString = "${app.org-graph.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        synchronized (pendingChanges) {
+            pendingChanges.put(event.getEmployeeId(), event.getCurrent());
+        }
+    }
+
+    /**
+     * Bring the graph up to date with a streaming scan of the employees table
+     * The first scan builds the graph; later ones patch in what differs from it.
+     * Changes committed during the scan stay pending and are merged afterwards
+     */
+    public void rebuild() {
+        graphLock.lock();
+        try {
+            long started = System.nanoTime();
+            // The scan sees everything committed before it starts
+            synchronized (pendingChanges) {
+                pendingChanges.clear();
+            }
+
+            boolean initial = graph.size() == 0;
+            OrgGraph.Columns columns = initial ? new OrgGraph.Columns(1024) : null;
+            OrgGraph.Reconciliation reconciliation = initial ? null : graph.reconcile();
+            // PostgreSQL only streams with a fetch size inside a transaction. Not read-only, so
+            // replica routing keeps the scan on the primary the pending changes were cleared against
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        SCAN_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, resultSet -> {
+                String status = resultSet.getString(4);
+                byte statusCode = OrgGraph.Columns.status(status != null ? EmployeeStatus.valueOf(status) : null);
+                if (initial) {
+                    columns.add(resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3), statusCode);
+                } else {
+                    reconciliation.add(resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3), statusCode);
+                }
+            }));
+
+            if (initial) {
+                graph = columns.build();
+            } else {
+                apply(reconciliation.finish(), reconciliation.removed());
+            }
+            mergeChanges();
+            logger.info("Org graph {} with {} employees in {} ms", initial ? "built" : "reconciled",
+                    graph.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.error("Failed to build org graph", e);
+        } finally {
+            graphLock.unlock();
+        }
+    }
+
+    /**
+     * Patch the writes seen since the last refresh into the graph
+     */
+    @Scheduled(fixedDelayString = "${app.org-graph.refresh-interval-ms:1000}")
+    public void applyPendingChanges() {
+        graphLock.lock();
+        try {
+            mergeChanges();
+        } finally {
+            graphLock.unlock();
+        }
+    }
+
+    // Helper - caller holds graphLock
+    private void mergeChanges() {
+        Long[] changedIds;
+        EmployeeSnapshot[] changes;
+        synchronized (pendingChanges) {
+            if (pendingChanges.isEmpty()) {
+                return;
+            }
+            changedIds = pendingChanges.keySet().toArray(new Long[0]);
+            Arrays.sort(changedIds);
+            changes = new EmployeeSnapshot[changedIds.length];
+            for (int i = 0; i < changedIds.length; i++) {
+                changes[i] = pendingChanges.get(changedIds[i]);
+            }
+            pendingChanges.clear();
+        }
+
+        OrgGraph.Columns columns = new OrgGraph.Columns(changedIds.length);
+        boolean[] removed = new boolean[changedIds.length];
+        for (int i = 0; i < changedIds.length; i++) {
+            EmployeeSnapshot employee = changes[i];
+            removed[i] = employee == null;
+            columns.add(changedIds[i],
+                    employee != null && employee.getManagerId() != null ? employee.getManagerId() : OrgGraph.NO_MANAGER,
+                    employee != null && employee.getDepartmentId() != null ? employee.getDepartmentId() : 0L,
+                    OrgGraph.Columns.status(employee != null ? employee.getStatus() : null));
+        }
+        apply(columns, removed);
+    }
+
+    // Helper - caller holds graphLock. Patches what it can; the rest, or a graph due for
+    // compaction, is merged into a rebuilt one that replaces it
+    private void apply(OrgGraph.Columns changes, boolean[] removed) {
+        int applied = graph.applyChanges(changes, removed);
+        if (applied < changes.size || graph.needsCompaction()) {
+            graph = graph.withChanges(changes, removed, applied);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.employeemgt.employeeread;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+
+/**
+ * Reactive read path for the employee directory: WebFlux over R2DBC
+ * Serves the read-heavy GET /api/employees, /api/employees/{id} and /api/employees/view
+ * without a request thread per connection, while EmployeeServiceApplication keeps every write.
+ * It runs as its own application, registered as employee-read-service, and only scans this
+ * package; the DTOs, filter conditions, ETags and denial bodies come from the employee service,
+ * so both answer alike. Start it from the employee-service jar with
+ * java -Dloader.main=com.employeemgt.employeeread.EmployeeReadApplication -jar employee-service.jar
+ */
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        FlywayAutoConfiguration.class,
+        KafkaAutoConfiguration.class
+})
+@EnableDiscoveryClient
+public class EmployeeReadApplication {
+
+    public static void main(String[] args) {
+        builder().run(args);
+    }
+
+    /**
+     * Reactive even though Spring MVC is on the classpath, and configured from
+     * employee-read-service.yml rather than the employee service's application.yml
+     */
+    public static SpringApplicationBuilder builder() {
+        return new SpringApplicationBuilder(EmployeeReadApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .properties("spring.config.name=employee-read-service");
+    }
+}
@@ -0,0 +1,28 @@
+package com.employeemgt.employeeread.config;
+
+import com.employeemgt.employee.config.ReadYourWritesCookie;
+import com.employeemgt.employeeread.repository.EmployeeReadRepository;
+import org.springframework.http.HttpCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Honours the ReadYourWritesCookie the employee service sets on writes, so a caller who
+ * just wrote is not served the replica's older rows from here
+ */
+@Component
+public class ReadYourWritesWebFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst(ReadYourWritesCookie.NAME);
+        if (cookie == null || !ReadYourWritesCookie.isFresh(cookie.getValue())) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(EmployeeReadRepository.READ_FROM_PRIMARY, Boolean.TRUE));
+    }
+}
@@ -0,0 +1,238 @@
+package com.employeemgt.employeeread.controller;
+
+import com.employeemgt.employee.dto.ApiResponse;
+import com.employeemgt.employee.dto.CountMode;
+import com.employeemgt.employee.dto.EmployeeCursor;
+import com.employeemgt.employee.dto.EmployeeField;
+import com.employeemgt.employee.dto.EmployeeFilterRequest;
+import com.employeemgt.employee.dto.EmployeeResponse;
+import com.employeemgt.employee.dto.PaginatedApiResponse;
+import com.employeemgt.employee.exception.ResourceNotFoundException;
+import com.employeemgt.employee.security.RoleRequired;
+import com.employeemgt.employee.service.ETags;
+import com.employeemgt.employeeread.repository.EmployeeReadRepository;
+import com.employeemgt.employeeread.repository.EmployeeReadRepository.EmployeeRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The read endpoints of EmployeeController on WebFlux
+ * Same parameters, roles, response shapes and ETags; the list is written as its rows arrive
+ * from the database instead of being collected into a page first
+ */
+@RestController
+@RequestMapping("/api/employees")
+public class EmployeeReadController {
+
+    private static final String LIST_MESSAGE = "Employees retrieved successfully";
+
+    @Autowired
+    private EmployeeReadRepository employeeReadRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Admin listing - the PaginatedApiResponse of GET /api/employees, streamed
+     * The envelope opens before the first row and meta closes it after the last, since
+     * hasNext, nextCursor and the total are only known by then
+     */
+    @GetMapping
+    @RoleRequired({ "ADMIN" })
+    public ResponseEntity<Flux<DataBuffer>> getEmployees(EmployeeFilterRequest filter, ServerWebExchange exchange) {
+        // Reject bad parameters now, while an error can still become a 400
+        Set<EmployeeField> fields = filter.getFieldSet();
+        CountMode countMode = filter.getCountMode();
+        int perPage = filter.getPerPage();
+        if (perPage < 1) {
+            throw new IllegalArgumentException("perPage must be at least 1");
+        }
+        if (!filter.isCursorMode() && filter.getPage() < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        EmployeeCursor cursor = filter.hasCursor() ? EmployeeCursor.decode(filter.getAfter()) : null;
+        String sortBy = cursor != null ? cursor.getSortBy()
+                : filter.isCursorMode() ? EmployeeCursor.resolveSortKey(filter.getSortBy()) : EmployeeCursor.DEFAULT_SORT;
+        long offset = filter.isCursorMode() ? 0 : (long) filter.getPage() * perPage;
+
+        DataBufferFactory buffers = exchange.getResponse().bufferFactory();
+        Flux<DataBuffer> body = Flux.defer(() -> {
+            ListState state = new ListState(perPage);
+
+            // Fetch one extra row to know whether another page exists
+            Flux<DataBuffer> rows = employeeReadRepository.findRows(filter, sortBy, cursor, offset, perPage + 1)
+                    .filter(state::accept)
+                    .map(row -> buffers.wrap(json(state.emitted > 1 ? "," : "",
+                            fields == null ? row.employee() : toFields(row.employee(), fields))));
+
+            Mono<DataBuffer> end = Mono.defer(() -> filter.isCursorMode()
+                            ? Mono.just(PaginatedApiResponse.cursorMeta(perPage, state.hasNext, state.hasNext
+                                    ? EmployeeCursor.after(sortBy, state.last).encode() : null))
+                            : offsetMeta(filter, countMode, offset, state))
+                    .map(meta -> buffers.wrap(json("],\"meta\":", meta, ",\"timestamp\":", LocalDateTime.now(), "}")));
+
+            return Flux.concat(
+                    Mono.fromCallable(() -> buffers.wrap(json("{\"success\":true,\"message\":", LIST_MESSAGE,
+                            ",\"data\":["))),
+                    rows,
+                    end);
+        });
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // Admin endpoint - view any employee by ID
+    @GetMapping("/{id}")
+    @RoleRequired({ "ADMIN" })
+    public Mono<ResponseEntity<ApiResponse<EmployeeResponse>>> getEmployeeByIdForAdmin(@PathVariable Long id,
+                                                                                     ServerWebExchange exchange) {
+        return employeeReadRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Employee not found with id: " + id)))
+                .mapNotNull(row -> {
+                    String eTag = ETags.of("employee", id, row.employee().getUpdatedAt(), row.departmentUpdatedAt());
+                    if (exchange.checkNotModified(eTag)) {
+                        return null;
+                    }
+                    return ResponseEntity.ok().eTag(eTag)
+                            .body(ApiResponse.success("Employee details retrieved successfully", row.employee()));
+                });
+    }
+
+    // User endpoint - view own employee record (via X-Employee-Code from the gateway)
+    @GetMapping("/view")
+    @RoleRequired({ "USER" })
+    public Mono<ResponseEntity<ApiResponse<EmployeeResponse>>> getMyDetails(
+            @RequestHeader(value = "X-Employee-Code") String employeeCode,
+            ServerWebExchange exchange) {
+
+        if (employeeCode == null || employeeCode.trim().isEmpty()) {
+            throw new IllegalArgumentException("Employee record has not been created yet");
+        }
+
+        return employeeReadRepository.findByEmployeeCode(employeeCode)
+                .switchIfEmpty(Mono.error(() ->
+                        new ResourceNotFoundException("Employee not found with employee code: " + employeeCode)))
+                .mapNotNull(row -> {
+                    String eTag = ETags.ofProfile(row.employee());
+                    if (exchange.checkNotModified(eTag)) {
+                        return null;
+                    }
+                    return ResponseEntity.ok().eTag(eTag)
+                            .body(ApiResponse.success("Employee profile retrieved successfully", row.employee()));
+                });
+    }
+
+    // Helper - offset meta under the requested count mode, as EmployeeService.findSlice reports it
+    private Mono<Map<String, Object>> offsetMeta(EmployeeFilterRequest filter, CountMode countMode, long offset,
+                                                 ListState state) {
+        int page = filter.getPage();
+        int perPage = filter.getPerPage();
+        if (countMode == CountMode.NONE) {
+            return Mono.just(PaginatedApiResponse.offsetMeta(page, perPage, state.hasNext, null, false));
+        }
+
+        Mono<Map<String, Object>> exact = Mono.defer(() -> {
+            // The last page, if it has rows, already tells the total
+            if (!state.hasNext && (offset == 0 || state.emitted > 0)) {
+                return Mono.just(offset + state.emitted);
+            }
+            return employeeReadRepository.count(filter);
+        }).map(total -> PaginatedApiResponse.offsetMeta(page, perPage, state.hasNext, total, true));
+        if (countMode == CountMode.EXACT) {
+            return exact;
+        }
+
+        // Never report fewer rows than this page has already proven to exist
+        long seen = offset + state.emitted + (state.hasNext ? 1 : 0);
+        return employeeReadRepository.estimateCount(filter)
+                .map(estimate -> PaginatedApiResponse.offsetMeta(page, perPage, state.hasNext,
+                        Math.max(estimate, seen), false))
+                // No statistics available - fall back to an exact count
+                .switchIfEmpty(exact);
+    }
+
+    // Helper - EmployeeResponse narrowed to the requested properties, in EmployeeField order
+    private static Map<String, Object> toFields(EmployeeResponse employee, Set<EmployeeField> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (EmployeeField field : fields) {
+            Object value = switch (field) {
+                case ID -> employee.getId();
+                case EMPLOYEE_CODE -> employee.getEmployeeCode();
+                case FIRST_NAME -> employee.getFirstName();
+                case LAST_NAME -> employee.getLastName();
+                case FULL_NAME -> employee.getFullName();
+                case EMAIL -> employee.getEmail();
+                case PHONE_NUMBER -> employee.getPhoneNumber();
+                case HIRE_DATE -> employee.getHireDate();
+                case JOB_TITLE -> employee.getJobTitle();
+                case SALARY -> employee.getSalary();
+                case STATUS -> employee.getStatus();
+                case DEPARTMENT -> employee.getDepartment();
+                case MANAGER_ID -> employee.getManagerId();
+                case NOTES -> employee.getNotes();
+                case CREATED_AT -> employee.getCreatedAt();
+                case UPDATED_AT -> employee.getUpdatedAt();
+            };
+            values.put(field.getProperty(), value);
+        }
+        return values;
+    }
+
+    // Helper - literal JSON fragments (String) interleaved with values serialized by the shared mapper
+    private byte[] json(Object... parts) {
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            try {
+                json.append(i % 2 == 0 ? parts[i] : objectMapper.writeValueAsString(parts[i]));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * What a listing has emitted so far; one per subscription
+     */
+    private static final class ListState {
+        private final int perPage;
+        private int emitted;
+        private boolean hasNext;
+        private EmployeeResponse last;
+
+        ListState(int perPage) {
+            this.perPage = perPage;
+        }
+
+        // The row after the page only proves there is a next page
+        boolean accept(EmployeeRow row) {
+            if (emitted == perPage) {
+                hasNext = true;
+                return false;
+            }
+            emitted++;
+            last = row.employee();
+            return true;
+        }
+    }
+}
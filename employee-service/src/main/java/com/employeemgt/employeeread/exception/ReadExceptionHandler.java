@@ -0,0 +1,67 @@
+package com.employeemgt.employeeread.exception;
+
+import com.employeemgt.employee.dto.ErrorResponse;
+import com.employeemgt.employee.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.UUID;
+
+/**
+ * The employee service's error responses for the failures a read can run into
+ * Same statuses and bodies as GlobalExceptionHandler, so clients need not know which stack answered
+ */
+@RestControllerAdvice
+public class ReadExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadExceptionHandler.class);
+    private static final String SERVICE_NAME = "EMPLOYEE-READ-SERVICE";
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+            ResourceNotFoundException ex, ServerHttpRequest request) {
+
+        String requestId = generateRequestId();
+        logger.warn("[{}] Resource not found - RequestId: {}, Path: {}",
+                SERVICE_NAME, requestId, request.getPath());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.NOT_FOUND.value(),
+            "Resource Not Found",
+            "The requested resource was not found",
+            request.getPath().value()
+        );
+        errorResponse.setRequestId(requestId);
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler({ IllegalArgumentException.class, ServerWebInputException.class })
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(Exception ex, ServerHttpRequest request) {
+
+        String requestId = generateRequestId();
+        logger.warn("[{}] Invalid argument - RequestId: {}, Path: {}",
+                SERVICE_NAME, requestId, request.getPath());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            "Invalid Request Data",
+            "The provided data is invalid",
+            request.getPath().value()
+        );
+        errorResponse.setRequestId(requestId);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    // Helper
+    private String generateRequestId() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,285 @@
+package com.employeemgt.employeeread.repository;
+
+import com.employeemgt.employee.dto.EmployeeCursor;
+import com.employeemgt.employee.dto.EmployeeFilterRequest;
+import com.employeemgt.employee.dto.EmployeeResponse;
+import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+import com.employeemgt.employee.service.EmployeeService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Employee reads over R2DBC
+ * Filters come from EmployeeService.estimateConditions, so a filter means the same here as on
+ * the JPA Specifications; rows are mapped straight into EmployeeResponse and emitted as the
+ * driver decodes them
+ *
+ * spring.r2dbc.url may point at a read replica. Requests inside a read-your-writes window
+ * (READ_FROM_PRIMARY in the Reactor context) then read from app.r2dbc.primary.url instead;
+ * without it every read uses the one connection factory
+ */
+@Repository
+public class EmployeeReadRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeReadRepository.class);
+
+    // Filter conditions name employees columns unqualified; none of them exists on departments
+    private static final String SELECT_ROWS = "SELECT e.id, e.employee_code, e.first_name, e.last_name, e.email, "
+            + "e.phone_number, e.hire_date, e.job_title, e.salary, e.status, e.manager_id, e.notes, "
+            + "e.created_at, e.updated_at, d.id AS dept_id, d.name AS dept_name, "
+            + "d.code AS dept_code, d.updated_at AS dept_updated_at "
+            + "FROM employees e LEFT JOIN departments d ON d.id = e.department_id";
+
+    /**
+     * Reactor context key a request sets to keep its reads on the primary
+     */
+    public static final String READ_FROM_PRIMARY = EmployeeReadRepository.class.getName() + ".readFromPrimary";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.r2dbc.primary.url:}")
+    private String primaryUrl;
+
+    @Value("${app.r2dbc.primary.username:${spring.r2dbc.username:}}")
+    private String primaryUsername;
+
+    @Value("${app.r2dbc.primary.password:${spring.r2dbc.password:}}")
+    private String primaryPassword;
+
+    private ConnectionFactory primaryConnectionFactory;
+    private DatabaseClient primaryClient;
+
+    @PostConstruct
+    void connectPrimary() {
+        if (primaryUrl.isEmpty()) {
+            primaryClient = databaseClient;
+            return;
+        }
+        // An r2dbc:pool: url gets a pool of its own
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(primaryUrl).mutate();
+        if (!primaryUsername.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, primaryUsername);
+        }
+        if (!primaryPassword.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, primaryPassword);
+        }
+        primaryConnectionFactory = ConnectionFactories.get(options.build());
+        primaryClient = DatabaseClient.create(primaryConnectionFactory);
+    }
+
+    @PreDestroy
+    void disconnectPrimary() {
+        if (primaryConnectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+
+    /**
+     * Filtered rows in (sort key, id) order, starting after the cursor when one is given
+     *
+     * @param sortBy A sort key accepted by EmployeeCursor.resolveSortKey
+     * @param cursor Row to continue after, or null
+     * @param offset Rows to skip (0 in cursor mode)
+     * @param limit  Maximum rows to emit
+     */
+    public Flux<EmployeeRow> findRows(EmployeeFilterRequest filter, String sortBy, EmployeeCursor cursor,
+                                      long offset, int limit) {
+        List<Object> params = new ArrayList<>();
+        List<String> conditions = EmployeeService.estimateConditions(filter, params);
+        if (cursor != null) {
+            conditions.add(keysetCondition(cursor, params));
+        }
+
+        String orderBy = switch (sortBy) {
+            case "hireDate" -> "e.hire_date, e.id";
+            case "lastName" -> "e.last_name, e.id";
+            default -> "e.id";
+        };
+        String sql = SELECT_ROWS + where(conditions) + " ORDER BY " + orderBy
+                + " LIMIT " + limit + (offset > 0 ? " OFFSET " + offset : "");
+        return select(sql, params, EmployeeReadRepository::toRow);
+    }
+
+    /**
+     * A single employee by id, with the department version the ETag needs
+     */
+    public Mono<EmployeeRow> findById(Long id) {
+        return select(SELECT_ROWS + " WHERE e.id = ?", List.of(id), EmployeeReadRepository::toRow).singleOrEmpty();
+    }
+
+    /**
+     * A single employee by the code the auth service links users with
+     */
+    public Mono<EmployeeRow> findByEmployeeCode(String employeeCode) {
+        return select(SELECT_ROWS + " WHERE e.employee_code = ?", List.of(employeeCode), EmployeeReadRepository::toRow)
+                .singleOrEmpty();
+    }
+
+    /**
+     * Exact number of employees matching the filters
+     */
+    public Mono<Long> count(EmployeeFilterRequest filter) {
+        List<Object> params = new ArrayList<>();
+        List<String> conditions = EmployeeService.estimateConditions(filter, params);
+        return select("SELECT count(*) FROM employees" + where(conditions), params, row -> row.get(0, Long.class))
+                .singleOrEmpty();
+    }
+
+    /**
+     * Planner estimate of the filtered count, as RowCountEstimator computes it over JDBC
+     * Empty when statistics are not available (e.g. never analyzed, or a non-PostgreSQL database)
+     */
+    public Mono<Long> estimateCount(EmployeeFilterRequest filter) {
+        List<Object> params = new ArrayList<>();
+        List<String> conditions = EmployeeService.estimateConditions(filter, params);
+
+        Mono<Long> estimate;
+        if (conditions.isEmpty()) {
+            // reltuples is -1 for tables that were never vacuumed or analyzed
+            estimate = select("SELECT reltuples FROM pg_class WHERE oid = to_regclass('employees')", List.of(),
+                    row -> row.get(0, Double.class)).singleOrEmpty()
+                    .filter(reltuples -> reltuples >= 0)
+                    .map(Double::longValue);
+        } else {
+            estimate = select("EXPLAIN (FORMAT JSON) SELECT 1 FROM employees" + where(conditions), params,
+                    row -> row.get(0, String.class)).singleOrEmpty()
+                    .<Long>handle((plan, sink) -> {
+                        try {
+                            JsonNode planRows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+                            if (planRows.isNumber()) {
+                                sink.next(planRows.asLong());
+                            }
+                        } catch (Exception e) {
+                            sink.error(e);
+                        }
+                    });
+        }
+        return estimate.onErrorResume(e -> {
+            logger.debug("Row count estimate unavailable for employees: {}", e.getMessage());
+            return Mono.empty();
+        });
+    }
+
+    // Helper - (sortKey, id) > (cursorValue, cursorId), as buildKeysetSpecification expands it
+    private static String keysetCondition(EmployeeCursor cursor, List<Object> params) {
+        String column = switch (cursor.getSortBy()) {
+            case "hireDate" -> "e.hire_date";
+            case "lastName" -> "e.last_name";
+            default -> null;
+        };
+        if (column == null) {
+            params.add(cursor.getId());
+            return "e.id > ?";
+        }
+        Object value = "hireDate".equals(cursor.getSortBy()) ? LocalDate.parse(cursor.getValue()) : cursor.getValue();
+        params.add(value);
+        params.add(value);
+        params.add(cursor.getId());
+        return "(" + column + " > ? OR (" + column + " = ? AND e.id > ?))";
+    }
+
+    // Helper
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    // Helper - the client is picked per subscription, from the request's context
+    private <T> Flux<T> select(String sql, List<?> params, Function<Readable, T> mapper) {
+        return Flux.deferContextual(context -> {
+            DatabaseClient.GenericExecuteSpec spec = client(context).sql(numberPlaceholders(sql));
+            for (int i = 0; i < params.size(); i++) {
+                spec = spec.bind(i, params.get(i));
+            }
+            return spec.map((row, metadata) -> mapper.apply(row)).all();
+        });
+    }
+
+    // Helper
+    private DatabaseClient client(ContextView context) {
+        return context.getOrDefault(READ_FROM_PRIMARY, Boolean.FALSE) ? primaryClient : databaseClient;
+    }
+
+    /**
+     * The shared conditions use JDBC ? placeholders, the drivers expect $1, $2, ...
+     * A ? inside a string literal is text, not a placeholder; a doubled quote ('') leaves
+     * and re-enters the literal, so it needs no special case
+     */
+    static String numberPlaceholders(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 8);
+        boolean inLiteral = false;
+        int index = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            if (c == '?' && !inLiteral) {
+                numbered.append('$').append(++index);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    // Helper
+    private static EmployeeRow toRow(Readable row) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(row.get("id", Long.class));
+        response.setEmployeeCode(row.get("employee_code", String.class));
+        response.setFirstName(row.get("first_name", String.class));
+        response.setLastName(row.get("last_name", String.class));
+        response.setFullName(response.getFirstName() + " " + response.getLastName());
+        response.setEmail(row.get("email", String.class));
+        response.setPhoneNumber(row.get("phone_number", String.class));
+        response.setHireDate(row.get("hire_date", LocalDate.class));
+        response.setJobTitle(row.get("job_title", String.class));
+        response.setSalary(row.get("salary", BigDecimal.class));
+        String status = row.get("status", String.class);
+        response.setStatus(status != null ? EmployeeStatus.valueOf(status) : null);
+        response.setManagerId(row.get("manager_id", Long.class));
+        response.setNotes(row.get("notes", String.class));
+        response.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        response.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+
+        Long departmentId = row.get("dept_id", Long.class);
+        if (departmentId != null) {
+            response.setDepartment(new EmployeeResponse.DepartmentSummary(departmentId,
+                    row.get("dept_name", String.class), row.get("dept_code", String.class)));
+        }
+        return new EmployeeRow(response, row.get("dept_updated_at", LocalDateTime.class));
+    }
+
+    /**
+     * An employee as the API returns it, plus the department version behind its ETag
+     */
+    public record EmployeeRow(EmployeeResponse employee, LocalDateTime departmentUpdatedAt) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.employeemgt.employeeread.security;
+
+import com.employeemgt.employee.security.RoleGuard;
+import com.employeemgt.employee.security.RoleRequired;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enforces @RoleRequired against the X-User-Role header set by the API Gateway, like RoleGuard
+ * does for the MVC controllers, with the same 403 bodies and decision counters
+ * WebFlux has no handler interceptors, so the filter resolves the handler itself; as in RoleGuard,
+ * each handler method's roles and counters are compiled once into a route policy
+ */
+@Component
+public class ReactiveRoleGuard implements WebFilter {
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private HandlerMapping handlerMapping;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Method, RoutePolicy> policies = new ConcurrentHashMap<>();
+
+    /**
+     * Compile the policy of every mapped handler method before the first request
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void buildPolicies() {
+        if (handlerMapping instanceof RequestMappingHandlerMapping mapping) {
+            mapping.getHandlerMethods().values().forEach(this::policyFor);
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return handlerMapping.getHandler(exchange)
+                .ofType(HandlerMethod.class)
+                .mapNotNull(handlerMethod -> check(exchange, handlerMethod))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(denial -> denial.isPresent()
+                        ? writeForbidden(exchange.getResponse(), denial.get())
+                        : chain.filter(exchange));
+    }
+
+    /**
+     * Decide one request
+     *
+     * @return The 403 body, or null when the request may proceed
+     */
+    private byte[] check(ServerWebExchange exchange, HandlerMethod handlerMethod) {
+        RoutePolicy policy = policyFor(handlerMethod);
+        if (policy == RoutePolicy.UNRESTRICTED) {
+            return null; // No role requirement, allow
+        }
+
+        // Get user role from header (set by API Gateway)
+        String userRole = exchange.getRequest().getHeaders().getFirst("X-User-Role");
+        boolean allowed = userRole != null && policy.allowedRoles().contains(userRole);
+        if (allowed) {
+            policy.allowed().increment();
+            return null;
+        }
+        policy.denied().increment();
+        return RoleGuard.forbiddenBody(policy.requiredRoles(), userRole);
+    }
+
+    // Helper
+    private RoutePolicy policyFor(HandlerMethod handlerMethod) {
+        RoutePolicy policy = policies.get(handlerMethod.getMethod());
+        if (policy == null) {
+            // Only handlers registered after the context refreshed end up here
+            policy = policies.computeIfAbsent(handlerMethod.getMethod(), method -> compile(handlerMethod));
+        }
+        return policy;
+    }
+
+    // Helper
+    private RoutePolicy compile(HandlerMethod handlerMethod) {
+        RoleRequired roleRequired = findRoleRequired(handlerMethod);
+        if (roleRequired == null) {
+            return RoutePolicy.UNRESTRICTED;
+        }
+        String route = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        return new RoutePolicy(
+                Arrays.toString(roleRequired.value()),
+                Set.of(roleRequired.value()),
+                Counter.builder("employee.authz.decisions").tag("route", route).tag("outcome", "allowed")
+                        .register(meterRegistry),
+                Counter.builder("employee.authz.decisions").tag("route", route).tag("outcome", "denied")
+                        .register(meterRegistry));
+    }
+
+    // Helper
+    private static RoleRequired findRoleRequired(HandlerMethod handlerMethod) {
+        // Check for @RoleRequired annotation on method or class
+        RoleRequired roleRequired = handlerMethod.getMethodAnnotation(RoleRequired.class);
+        return roleRequired != null ? roleRequired : handlerMethod.getBeanType().getAnnotation(RoleRequired.class);
+    }
+
+    // Helper
+    private static Mono<Void> writeForbidden(ServerHttpResponse response, byte[] body) {
+        response.setStatusCode(HttpStatus.FORBIDDEN);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * Compiled @RoleRequired of one handler method
+     */
+    private record RoutePolicy(String requiredRoles, Set<String> allowedRoles, Counter allowed, Counter denied) {
+        // Handlers without @RoleRequired
+        private static final RoutePolicy UNRESTRICTED = new RoutePolicy(null, Set.of(), null, null);
+    }
+}
@@ -0,0 +1,21 @@
+-- Employee Service - Transactional outbox for employee events
+-- Migration: V10__Create_employee_outbox_table.sql
+-- Employee writes append their Kafka event here in the same transaction, so an
+-- event exists if and only if the write committed. EmployeeOutboxRelay publishes
+-- unsent rows in id order and stamps sent_at; sent rows are purged after a retention period.
+
+CREATE TABLE employee_outbox (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id VARCHAR(36) NOT NULL,
+    employee_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP
+);
+
+-- The relay only ever scans the unsent tail
+CREATE INDEX idx_employee_outbox_unsent ON employee_outbox(id) WHERE sent_at IS NULL;
+
+-- Retention purge
+CREATE INDEX idx_employee_outbox_sent_at ON employee_outbox(sent_at) WHERE sent_at IS NOT NULL;
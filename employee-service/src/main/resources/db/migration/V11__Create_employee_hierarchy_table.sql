@@ -0,0 +1,34 @@
+-- Employee Service - Reporting-chain closure table
+-- Migration: V11__Create_employee_hierarchy_table.sql
+-- One row per (manager, report) pair at any distance, plus a depth-0 row per employee,
+-- so a whole subtree or management chain is one index range scan instead of a recursive walk.
+-- Maintained by EmployeeService on create, manager change and delete (see EmployeeHierarchyRepository).
+
+CREATE TABLE employee_hierarchy (
+    ancestor_id BIGINT NOT NULL REFERENCES employees(id) ON DELETE CASCADE,
+    descendant_id BIGINT NOT NULL REFERENCES employees(id) ON DELETE CASCADE,
+    depth INTEGER NOT NULL CHECK (depth >= 0),
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+-- Subtree by level: WHERE ancestor_id = ? AND depth BETWEEN 1 AND ?
+CREATE INDEX idx_employee_hierarchy_ancestor_depth ON employee_hierarchy(ancestor_id, depth, descendant_id);
+
+-- Management chain and subtree moves: WHERE descendant_id = ?
+CREATE INDEX idx_employee_hierarchy_descendant ON employee_hierarchy(descendant_id, depth, ancestor_id);
+
+-- Backfill from the existing manager_id links
+-- Nothing used to stop an employee from managing themselves, so the walk is capped at the
+-- longest possible chain and stops on returning to its starting employee
+INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth)
+WITH RECURSIVE chain (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM employees
+    UNION ALL
+    SELECT e.manager_id, c.descendant_id, c.depth + 1
+    FROM chain c
+    JOIN employees e ON e.id = c.ancestor_id
+    WHERE e.manager_id IS NOT NULL
+      AND e.manager_id <> c.descendant_id
+      AND c.depth < (SELECT COUNT(*) FROM employees)
+)
+SELECT ancestor_id, descendant_id, MIN(depth) FROM chain GROUP BY ancestor_id, descendant_id;
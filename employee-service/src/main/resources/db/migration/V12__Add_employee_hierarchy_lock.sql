@@ -0,0 +1,11 @@
+-- Employee Service - Reporting-chain write lock
+-- Migration: V12__Add_employee_hierarchy_lock.sql
+-- Single row locked FOR UPDATE by every employee_hierarchy writer until its transaction ends.
+-- A manager change checks the closure table for cycles and then rewires it; without one lock
+-- around both, two concurrent moves (A under B, B under A) can each pass the check.
+
+CREATE TABLE employee_hierarchy_lock (
+    id SMALLINT PRIMARY KEY CHECK (id = 1)
+);
+
+INSERT INTO employee_hierarchy_lock (id) VALUES (1);
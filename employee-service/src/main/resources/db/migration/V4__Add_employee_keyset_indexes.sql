@@ -0,0 +1,6 @@
+-- Composite indexes backing keyset (cursor) pagination
+-- Migration: V4__Add_employee_keyset_indexes.sql
+
+-- Each index matches an ORDER BY <sort key>, id used by cursor listings
+CREATE INDEX idx_employees_hire_date_id ON employees(hire_date, id);
+CREATE INDEX idx_employees_last_name_id ON employees(last_name, id);
@@ -0,0 +1,10 @@
+-- Persisted department headcount, maintained by the employee write paths
+-- Migration: V5__Add_department_employee_count.sql
+
+ALTER TABLE departments ADD COLUMN employee_count BIGINT NOT NULL DEFAULT 0;
+
+-- Backfill from the current employees
+UPDATE departments d
+SET employee_count = (SELECT COUNT(*) FROM employees e WHERE e.department_id = d.id);
+
+COMMENT ON COLUMN departments.employee_count IS 'Number of employees in the department, kept in sync transactionally by employee-service';
@@ -0,0 +1,14 @@
+-- Trigram indexes for substring name search
+-- Migration: V6__Add_employee_name_trigram_indexes.sql
+
+-- pg_trgm is a trusted extension (PostgreSQL 13+), so the database owner can create it
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- The indexed expressions must match the filter predicate exactly:
+-- lower(first_name) LIKE '%term%' OR lower(last_name) LIKE '%term%'
+-- which the planner serves with a BitmapOr over both GIN indexes
+-- CONCURRENTLY so writes to employees are not blocked while the indexes build; it cannot run
+-- inside a transaction, see V6__Add_employee_name_trigram_indexes.sql.conf. A build that fails
+-- leaves an INVALID index behind: drop it before the migration is retried
+CREATE INDEX CONCURRENTLY idx_employees_first_name_trgm ON employees USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY idx_employees_last_name_trgm ON employees USING gin (lower(last_name) gin_trgm_ops);
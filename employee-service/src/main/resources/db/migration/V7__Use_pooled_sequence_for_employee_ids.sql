@@ -0,0 +1,9 @@
+-- Employee Service - Switch employee ids to a pooled sequence
+-- Migration: V7__Use_pooled_sequence_for_employee_ids.sql
+-- Hibernate's pooled optimizer reserves allocationSize (50) ids per nextval, so the
+-- sequence must step by the same amount. The column default keeps working for manual
+-- inserts: every nextval value is 50 apart, so it never lands inside a reserved block.
+
+ALTER SEQUENCE employees_id_seq INCREMENT BY 50;
+
+SELECT setval('employees_id_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM employees));
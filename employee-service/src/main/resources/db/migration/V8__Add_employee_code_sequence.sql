@@ -0,0 +1,10 @@
+-- Employee Service - Sequence-backed employee code allocation
+-- Migration: V8__Add_employee_code_sequence.sql
+-- Generated codes move from a random 3-digit suffix ({PREFIX}{YYYYMM}{NNN}, 12 chars)
+-- to a sequence-backed suffix of at least 6 digits ({PREFIX}{YYYYMM}{NNNNNN}, 15+ chars).
+-- Each nextval reserves a block of 100 suffixes for one service instance (hi/lo).
+-- The formats differ in length, so new codes can never collide with legacy ones,
+-- and employee_code VARCHAR(20) leaves room for suffixes of up to 11 digits.
+
+CREATE SEQUENCE employee_code_seq START WITH 1 INCREMENT BY 1;
+
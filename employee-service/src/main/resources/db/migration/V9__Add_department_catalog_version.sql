@@ -0,0 +1,12 @@
+-- Employee Service - Department catalog version
+-- Migration: V9__Add_department_catalog_version.sql
+-- Single-row counter bumped in the same transaction as every department insert,
+-- update and delete. Each instance keeps an in-memory department snapshot and
+-- polls this row to find out cheaply whether it has gone stale.
+
+CREATE TABLE department_catalog_version (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL
+);
+
+INSERT INTO department_catalog_version (id, version) VALUES (1, 0);
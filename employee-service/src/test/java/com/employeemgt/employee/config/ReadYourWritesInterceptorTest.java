@@ -0,0 +1,124 @@
+package com.employeemgt.employee.config;
+
+import com.employeemgt.employee.model.EmployeeEvent;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadYourWritesInterceptorTest {
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.unpin();
+    }
+
+    @Test
+    void successfulWrite_ShouldMakeTheCallerSticky() {
+        // Arrange
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ofMinutes(1));
+
+        // Act
+        interceptor.afterCompletion(request("PUT", "ADM001"), new MockHttpServletResponse(), null, null);
+
+        // Assert
+        assertTrue(interceptor.isSticky("ADM001"));
+        assertFalse(interceptor.isSticky("EMP001"));
+    }
+
+    @Test
+    void failedWriteOrRead_ShouldNotMakeTheCallerSticky() {
+        // Arrange
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ofMinutes(1));
+        MockHttpServletResponse badRequest = new MockHttpServletResponse();
+        badRequest.setStatus(400);
+
+        // Act
+        interceptor.afterCompletion(request("PUT", "ADM001"), badRequest, null, null);
+        interceptor.afterCompletion(request("GET", "EMP001"), new MockHttpServletResponse(), null, null);
+
+        // Assert
+        assertFalse(interceptor.isSticky("ADM001"));
+        assertFalse(interceptor.isSticky("EMP001"));
+    }
+
+    @Test
+    void write_AfterTheWindow_ShouldNoLongerBeSticky() {
+        // Arrange
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ZERO);
+
+        // Act
+        interceptor.recordWrite("EMP001");
+        interceptor.purgeExpired();
+
+        // Assert
+        assertFalse(interceptor.isSticky("EMP001"));
+    }
+
+    @Test
+    void writeOnOneInstance_ShouldPinTheCallersNextReadOnAnother() {
+        // Arrange
+        ReadYourWritesInterceptor instanceA = new ReadYourWritesInterceptor(Duration.ofMinutes(1));
+        ReadYourWritesInterceptor instanceB = new ReadYourWritesInterceptor(Duration.ofMinutes(1));
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        instanceA.preHandle(request("PUT", "ADM001"), writeResponse, null);
+        instanceA.afterCompletion(request("PUT", "ADM001"), writeResponse, null, null);
+        ReplicaRoutingDataSource.unpin();
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesCookie.NAME);
+        assertNotNull(cookie, writeResponse.getHeader(HttpHeaders.SET_COOKIE));
+
+        // Act
+        MockHttpServletRequest read = request("GET", "ADM001");
+        read.setCookies(cookie);
+        instanceB.preHandle(read, new MockHttpServletResponse(), null);
+
+        // Assert
+        assertTrue(ReplicaRoutingDataSource.isPinned());
+    }
+
+    @Test
+    void expiredCookie_ShouldNotPinTheRead() {
+        // Arrange
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ofMinutes(1));
+        MockHttpServletRequest read = request("GET", "ADM001");
+        read.setCookies(new Cookie(ReadYourWritesCookie.NAME, Long.toString(System.currentTimeMillis() - 1)));
+
+        // Act
+        interceptor.preHandle(read, new MockHttpServletResponse(), null);
+
+        // Assert
+        assertFalse(ReplicaRoutingDataSource.isPinned());
+    }
+
+    @Test
+    void employeeEventFromAnotherInstance_ShouldMakeTheEmployeeSticky() {
+        // Arrange
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(Duration.ofMinutes(1));
+        EmployeeEvent event = new EmployeeEvent();
+        event.setEmployeeCode("EMP002");
+        event.setPreviousEmployeeCode("EMP001");
+
+        // Act
+        interceptor.onEmployeeEvent(event);
+        interceptor.preHandle(request("GET", "EMP002"), new MockHttpServletResponse(), null);
+
+        // Assert
+        assertTrue(interceptor.isSticky("EMP001"));
+        assertTrue(ReplicaRoutingDataSource.isPinned());
+    }
+
+    // Helper
+    private static MockHttpServletRequest request(String method, String employeeCode) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/employees/1");
+        request.addHeader("X-Employee-Code", employeeCode);
+        return request;
+    }
+}
@@ -0,0 +1,132 @@
+package com.employeemgt.employee.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Two H2 databases stand in for the primary and the replica; each holds its own name
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                database("primary"), database("replica"), replicaAvailable::get));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.unpin();
+        if (entityManagerFactory != null) {
+            entityManagerFactory.close();
+        }
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() {
+        assertEquals("replica", databaseSeenBy(true));
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimary() {
+        assertEquals("primary", databaseSeenBy(false));
+    }
+
+    @Test
+    void withoutTransaction_ShouldUsePrimary() {
+        assertEquals("primary", jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    @Test
+    void readOnlyTransaction_WhenReplicaLags_ShouldFallBackToPrimary() {
+        // Arrange
+        replicaAvailable.set(false);
+
+        // Act & Assert
+        assertEquals("primary", databaseSeenBy(true));
+    }
+
+    @Test
+    void readOnlyTransaction_WhenPinned_ShouldUsePrimary() {
+        // Arrange
+        ReplicaRoutingDataSource.pinToPrimary();
+
+        // Act & Assert
+        assertEquals("primary", databaseSeenBy(true));
+    }
+
+    @Test
+    void jpaTransactions_ReadOnlyThenReadWrite_ShouldEachPickTheirOwnTarget() {
+        // Arrange - the service path: JpaTransactionManager, no open-in-view EntityManager
+        entityManagerFactory = entityManagerFactory(dataSource);
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        TransactionTemplate jpaTransactions = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+
+        // Act
+        jpaTransactions.setReadOnly(true);
+        Object readOnly = jpaTransactions.execute(status ->
+                entityManager.createNativeQuery("SELECT name FROM marker").getSingleResult());
+        jpaTransactions.setReadOnly(false);
+        Object readWrite = jpaTransactions.execute(status ->
+                entityManager.createNativeQuery("SELECT name FROM marker").getSingleResult());
+
+        // Assert
+        assertEquals("replica", readOnly);
+        assertEquals("primary", readWrite);
+    }
+
+    // Helper
+    private String databaseSeenBy(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    // Helper - a persistence unit without entities is enough for native queries
+    private static EntityManagerFactory entityManagerFactory(DataSource dataSource) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setPackagesToScan(ReplicaRoutingDataSourceTest.class.getPackageName());
+        factory.setPersistenceUnitName("routing-test");
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    // Helper
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        template.execute("DELETE FROM marker");
+        template.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,178 @@
+package com.employeemgt.employee.config;
+
+import com.employeemgt.employee.EmployeeServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Platform vs virtual request threads with every database connection taking 200 ms
+ * Half the clients call a database-bound endpoint, the other half the health endpoint,
+ * which never touches the database - with platform threads it queues behind blocked
+ * JDBC calls, with virtual threads it should not.
+ *
+ * Not picked up by the default surefire includes; run it explicitly with
+ * mvn test -Dtest=VirtualThreadLoadBenchmark
+ */
+class VirtualThreadLoadBenchmark {
+
+    private static final Duration DB_LATENCY = Duration.ofMillis(200);
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(20);
+    private static final int CLIENTS_PER_ENDPOINT = 400;
+    private static final int POOL_SIZE = 50;
+
+    @Test
+    void compareThroughputAndTailLatency() throws Exception {
+        // Act
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        // Assert - only correctness; the numbers depend on the machine
+        System.out.printf("%n%-9s %-10s %10s %10s %10s%n", "threads", "endpoint", "req/s", "p50 ms", "p99 ms");
+        for (Result result : List.of(platform, virtual)) {
+            System.out.printf("%-9s %-10s %10.1f %10.1f %10.1f%n", result.mode, "database",
+                    result.database.throughput(), result.database.percentile(50), result.database.percentile(99));
+            System.out.printf("%-9s %-10s %10.1f %10.1f %10.1f%n", result.mode, "health",
+                    result.health.throughput(), result.health.percentile(50), result.health.percentile(99));
+        }
+        assertEquals(0, platform.errors.get());
+        assertEquals(0, virtual.errors.get());
+    }
+
+    // Helper
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeServiceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.springframework.web=INFO",
+                        "logging.level.org.hibernate.SQL=INFO",
+                        "logging.level.com.employeemgt=INFO")
+                // Added directly, so it wraps the pool before the virtual-thread limiter does
+                .initializers(applicationContext -> applicationContext.getBeanFactory()
+                        .addBeanPostProcessor(new LatencyInjector()))
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Result result = new Result(mode);
+            HttpRequest database = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/employees/all"))
+                    .header("X-User-Role", "ADMIN").build();
+            HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/employees/health"))
+                    .build();
+
+            try (HttpClient client = HttpClient.newHttpClient();
+                 ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                long warmUpEnd = System.nanoTime() + WARM_UP.toNanos();
+                long end = warmUpEnd + MEASURE.toNanos();
+                for (int i = 0; i < CLIENTS_PER_ENDPOINT; i++) {
+                    clients.submit(() -> drive(client, database, warmUpEnd, end, result.database, result.errors));
+                    clients.submit(() -> drive(client, health, warmUpEnd, end, result.health, result.errors));
+                }
+            }
+            return result;
+        }
+    }
+
+    // Helper - one closed-loop client; only requests started after the warm-up are recorded
+    private static void drive(HttpClient client, HttpRequest request, long warmUpEnd, long end,
+                              Samples samples, AtomicLong errors) {
+        List<Long> latencies = new ArrayList<>();
+        long started;
+        while ((started = System.nanoTime()) < end) {
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+            if (started >= warmUpEnd) {
+                latencies.add(System.nanoTime() - started);
+            }
+        }
+        samples.addAll(latencies);
+    }
+
+    /**
+     * Holds every pooled connection for DB_LATENCY before handing it out, like a slow database
+     */
+    private static final class LatencyInjector implements BeanPostProcessor {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    Connection connection = super.getConnection();
+                    try {
+                        Thread.sleep(DB_LATENCY.toMillis());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return connection;
+                }
+            };
+        }
+    }
+
+    private static final class Result {
+        private final String mode;
+        private final Samples database = new Samples();
+        private final Samples health = new Samples();
+        private final AtomicLong errors = new AtomicLong();
+
+        Result(String mode) {
+            this.mode = mode;
+        }
+    }
+
+    private static final class Samples {
+        private final List<Long> latencies = new ArrayList<>();
+
+        synchronized void addAll(List<Long> values) {
+            latencies.addAll(values);
+        }
+
+        synchronized double throughput() {
+            return latencies.size() / (double) MEASURE.toSeconds();
+        }
+
+        synchronized double percentile(int percentile) {
+            if (latencies.isEmpty()) {
+                return Double.NaN;
+            }
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+    }
+}
@@ -171,6 +171,44 @@ class DepartmentControllerTest {
                 .andExpect(jsonPath("$.data.code").value("ENG"));
     }
 
+    @Test
+    void getDepartmentById_WithMatchingETag_ShouldReturn304UntilDepartmentChanges() throws Exception {
+        // Create department first
+        mockMvc.perform(post("/api/departments")
+                        .header("X-User-Role", "ADMIN")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(departmentRequest)))
+                .andExpect(status().isCreated());
+        Long departmentId = departmentRepository.findAll().get(0).getId();
+
+        String eTag = mockMvc.perform(get("/api/departments/{id}", departmentId)
+                        .header("X-User-Role", "ADMIN"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Unchanged - no body
+        mockMvc.perform(get("/api/departments/{id}", departmentId)
+                        .header("X-User-Role", "ADMIN")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // Changed - full response again
+        departmentRequest.setName("Software Engineering");
+        mockMvc.perform(put("/api/departments/{id}", departmentId)
+                        .header("X-User-Role", "ADMIN")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(departmentRequest)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/departments/{id}", departmentId)
+                        .header("X-User-Role", "ADMIN")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("Software Engineering"));
+    }
+
     @Test
     void getDepartments_ShouldReturnPagedDepartments() throws Exception {
         // Create department first
@@ -19,6 +19,7 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -449,4 +450,359 @@ class EmployeeControllerTest {
                                 .andExpect(jsonPath("$.data").isArray())
                                 .andExpect(jsonPath("$.data[0].firstName").value("John"));
         }
-}
\ No newline at end of file
+
+        @Test
+        void getEmployees_WithCursor_ShouldSeekPastPreviousPage() throws Exception {
+                // Create two employees
+                mockMvc.perform(post("/api/employees").header("X-User-Role", "ADMIN")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(employeeRequest)))
+                                .andExpect(status().isCreated());
+
+                employeeRequest.setEmployeeCode("EMP002");
+                employeeRequest.setEmail("jane.doe@company.com");
+                employeeRequest.setFirstName("Jane");
+                mockMvc.perform(post("/api/employees").header("X-User-Role", "ADMIN")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(employeeRequest)))
+                                .andExpect(status().isCreated());
+
+                // First cursor page - empty 'after' starts from the beginning
+                String body = mockMvc.perform(get("/api/employees/all")
+                                .header("X-User-Role", "ADMIN")
+                                .param("after", "")
+                                .param("perPage", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.length()").value(1))
+                                .andExpect(jsonPath("$.data[0].firstName").value("John"))
+                                .andExpect(jsonPath("$.meta.hasNext").value(true))
+                                .andExpect(jsonPath("$.meta.total").doesNotExist())
+                                .andReturn().getResponse().getContentAsString();
+
+                String nextCursor = objectMapper.readTree(body).path("meta").path("nextCursor").asText();
+
+                // Second cursor page
+                mockMvc.perform(get("/api/employees/all")
+                                .header("X-User-Role", "ADMIN")
+                                .param("after", nextCursor)
+                                .param("perPage", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.length()").value(1))
+                                .andExpect(jsonPath("$.data[0].firstName").value("Jane"))
+                                .andExpect(jsonPath("$.meta.hasNext").value(false));
+        }
+
+        @Test
+        void getEmployees_WithMalformedCursor_ShouldReturn400() throws Exception {
+                mockMvc.perform(get("/api/employees/all")
+                                .header("X-User-Role", "ADMIN")
+                                .param("after", "not-a-cursor"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void getEmployees_WithCountNone_ShouldSkipTotal() throws Exception {
+                mockMvc.perform(post("/api/employees").header("X-User-Role", "ADMIN")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(employeeRequest)))
+                                .andExpect(status().isCreated());
+
+                mockMvc.perform(get("/api/employees/all")
+                                .header("X-User-Role", "ADMIN")
+                                .param("count", "none")
+                                .param("page", "0")
+                                .param("perPage", "10"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.length()").value(1))
+                                .andExpect(jsonPath("$.meta.hasNext").value(false))
+                                .andExpect(jsonPath("$.meta.totalExact").value(false))
+                                .andExpect(jsonPath("$.meta.total").isEmpty());
+        }
+
+        @Test
+        void getEmployees_WithCountEstimateWithoutStatistics_ShouldFallBackToExactTotal() throws Exception {
+                mockMvc.perform(post("/api/employees").header("X-User-Role", "ADMIN")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(employeeRequest)))
+                                .andExpect(status().isCreated());
+
+                // H2 has no planner statistics, so the estimate falls back to COUNT
+                mockMvc.perform(get("/api/employees/all")
+                                .header("X-User-Role", "ADMIN")
+                                .param("count", "estimate"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.meta.total").value(1))
+                                .andExpect(jsonPath("$.meta.totalExact").value(true));
+        }
+
+        @Test
+        void getEmployees_WithUnknownCountMode_ShouldReturn400() throws Exception {
+                mockMvc.perform(get("/api/employees/all")
+                                .header("X-User-Role", "ADMIN")
+                                .param("count", "sometimes"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void getEmployees_WithWildcardInName_ShouldMatchLiterally() throws Exception {
+                mockMvc.perform(post("/api/employees").header("X-User-Role", "ADMIN")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(employeeRequest)))
+                                .andExpect(status().isCreated());
+
+                // '_' must not act as a single-character wildcard
+                mockMvc.perform(get("/api/employees")
+                                .header("X-User-Role", "ADMIN")
+                                .param("name", "J_hn"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data").isEmpty());
+
+                mockMvc.perform(get("/api/employees")
+                                .header("X-User-Role", "ADMIN")
+                                .param("name", "OH"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.length()").value(1));
+        }
+
+        @Test
+        void typeahead_WithBlankQuery_ShouldReturn400() throws Exception {
+                mockMvc.perform(get("/api/employees/typeahead")
+                                .header("X-User-Role", "ADMIN")
+                                .param("q", "  "))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void typeahead_WithOneCharacterQuery_ShouldReturn400() throws Exception {
+                mockMvc.perform(get("/api/employees/typeahead")
+                                .header("X-User-Role", "ADMIN")
+                                .param("q", " j "))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void exportEmployees_WithUnknownFormat_ShouldReturn400() throws Exception {
+                mockMvc.perform(get("/api/employees/export")
+                                .header("X-User-Role", "ADMIN")
+                                .param("format", "xml"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void createEmployees_ShouldCreateValidRowsAndReportInvalidOnes() throws Exception {
+                EmployeeRequest second = objectMapper.readValue(
+                                objectMapper.writeValueAsString(employeeRequest), EmployeeRequest.class);
+                second.setEmployeeCode("EMP002");
+                second.setEmail("jane.doe@company.com");
+
+                EmployeeRequest duplicateEmail = objectMapper.readValue(
+                                objectMapper.writeValueAsString(employeeRequest), EmployeeRequest.class);
+                duplicateEmail.setEmployeeCode("EMP003");
+
+                EmployeeRequest unknownDepartment = objectMapper.readValue(
+                                objectMapper.writeValueAsString(employeeRequest), EmployeeRequest.class);
+                unknownDepartment.setEmployeeCode("EMP004");
+                unknownDepartment.setEmail("nobody@company.com");
+                unknownDepartment.setDepartmentId(999999L);
+
+                mockMvc.perform(post("/api/employees/bulk").header("X-User-Role", "ADMIN")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                                List.of(employeeRequest, second, duplicateEmail, unknownDepartment))))
+                                .andExpect(status().isMultiStatus())
+                                .andExpect(jsonPath("$.message").value("2 of 4 employees created"))
+                                .andExpect(jsonPath("$.data[0].created").value(true))
+                                .andExpect(jsonPath("$.data[0].employee.employeeCode").value("EMP001"))
+                                .andExpect(jsonPath("$.data[1].created").value(true))
+                                .andExpect(jsonPath("$.data[2].created").value(false))
+                                .andExpect(jsonPath("$.data[2].errors[0]").value(
+                                                "Email 'john.doe@company.com' appears more than once in the batch"))
+                                .andExpect(jsonPath("$.data[3].created").value(false))
+                                .andExpect(jsonPath("$.data[3].errors[0]").value(
+                                                "Department not found with id: 999999"));
+        }
+
+        @Test
+        void createEmployees_WhenNoRowIsValid_ShouldReturn400() throws Exception {
+                EmployeeRequest unknownDepartment = objectMapper.readValue(
+                                objectMapper.writeValueAsString(employeeRequest), EmployeeRequest.class);
+                unknownDepartment.setDepartmentId(999999L);
+
+                mockMvc.perform(post("/api/employees/bulk").header("X-User-Role", "ADMIN")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(List.of(unknownDepartment))))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.success").value(false))
+                                .andExpect(jsonPath("$.message").value("0 of 1 employees created"))
+                                .andExpect(jsonPath("$.data[0].errors[0]").value(
+                                                "Department not found with id: 999999"));
+        }
+
+        @Test
+        void reportingChainEndpoints_ShouldAnswerFromClosureTable() throws Exception {
+                Long ceo = createEmployee("EMP101", "ceo@company.com", null);
+                Long cto = createEmployee("EMP102", "cto@company.com", ceo);
+                Long engineer = createEmployee("EMP103", "engineer@company.com", cto);
+
+                mockMvc.perform(get("/api/employees/{id}/reports", ceo)
+                                .header("X-User-Role", "ADMIN"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.length()").value(2))
+                                .andExpect(jsonPath("$.data[0].id").value(cto.intValue()))
+                                .andExpect(jsonPath("$.data[0].depth").value(1))
+                                .andExpect(jsonPath("$.data[1].id").value(engineer.intValue()))
+                                .andExpect(jsonPath("$.data[1].depth").value(2));
+
+                mockMvc.perform(get("/api/employees/{id}/reports", ceo)
+                                .header("X-User-Role", "ADMIN")
+                                .param("maxDepth", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.length()").value(1));
+
+                mockMvc.perform(get("/api/employees/{id}/managers", engineer)
+                                .header("X-User-Role", "ADMIN"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.length()").value(2))
+                                .andExpect(jsonPath("$.data[0].id").value(cto.intValue()))
+                                .andExpect(jsonPath("$.data[1].id").value(ceo.intValue()));
+
+                mockMvc.perform(get("/api/employees/{id}/span", ceo)
+                                .header("X-User-Role", "ADMIN"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.directReports").value(1))
+                                .andExpect(jsonPath("$.data.totalReports").value(2))
+                                .andExpect(jsonPath("$.data.levels").value(2));
+        }
+
+        @Test
+        void updateEmployee_WithNewManager_ShouldMoveWholeSubtree() throws Exception {
+                Long ceo = createEmployee("EMP101", "ceo@company.com", null);
+                Long cto = createEmployee("EMP102", "cto@company.com", ceo);
+                Long engineer = createEmployee("EMP103", "engineer@company.com", cto);
+                Long cfo = createEmployee("EMP104", "cfo@company.com", null);
+
+                // A manager below the employee would create a cycle
+                EmployeeRequest ceoUpdate = requestFor("EMP101", "ceo@company.com", engineer);
+                mockMvc.perform(put("/api/employees/{id}", ceo)
+                                .header("X-User-Role", "ADMIN")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(ceoUpdate)))
+                                .andExpect(status().isBadRequest());
+
+                EmployeeRequest ctoUpdate = requestFor("EMP102", "cto@company.com", cfo);
+                mockMvc.perform(put("/api/employees/{id}", cto)
+                                .header("X-User-Role", "ADMIN")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(ctoUpdate)))
+                                .andExpect(status().isOk());
+
+                mockMvc.perform(get("/api/employees/{id}/managers", engineer)
+                                .header("X-User-Role", "ADMIN"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.length()").value(2))
+                                .andExpect(jsonPath("$.data[0].id").value(cto.intValue()))
+                                .andExpect(jsonPath("$.data[1].id").value(cfo.intValue()));
+
+                mockMvc.perform(get("/api/employees/{id}/span", ceo)
+                                .header("X-User-Role", "ADMIN"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.totalReports").value(0));
+        }
+
+        @Test
+        void getReports_WithNonExistentId_ShouldReturn404() throws Exception {
+                mockMvc.perform(get("/api/employees/{id}/reports", 999L)
+                                .header("X-User-Role", "ADMIN"))
+                                .andExpect(status().isNotFound());
+        }
+
+        @Test
+        void getEmployeeById_WithMatchingETag_ShouldReturn304UntilEmployeeChanges() throws Exception {
+                Long employeeId = createEmployee("EMP201", "etag@company.com", null);
+
+                String eTag = mockMvc.perform(get("/api/employees/{id}", employeeId)
+                                .header("X-User-Role", "ADMIN"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().exists("ETag"))
+                                .andReturn().getResponse().getHeader("ETag");
+
+                mockMvc.perform(get("/api/employees/{id}", employeeId)
+                                .header("X-User-Role", "ADMIN")
+                                .header("If-None-Match", eTag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", eTag))
+                                .andExpect(content().string(""));
+
+                mockMvc.perform(put("/api/employees/{id}", employeeId).header("X-User-Role", "ADMIN")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                                requestFor("EMP201", "etag.changed@company.com", null))))
+                                .andExpect(status().isOk());
+
+                mockMvc.perform(get("/api/employees/{id}", employeeId)
+                                .header("X-User-Role", "ADMIN")
+                                .header("If-None-Match", eTag))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.email").value("etag.changed@company.com"));
+        }
+
+        @Test
+        void getAllEmployees_WithFields_ShouldReturnOnlyThoseProperties() throws Exception {
+                createEmployee("EMP301", "fields@company.com", null);
+
+                mockMvc.perform(get("/api/employees/all")
+                                .header("X-User-Role", "ADMIN")
+                                .param("fields", "fullName,department"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data[0].fullName").value("John Doe"))
+                                .andExpect(jsonPath("$.data[0].department.code").value("ENG"))
+                                .andExpect(jsonPath("$.data[0].id").doesNotExist())
+                                .andExpect(jsonPath("$.data[0].notes").doesNotExist())
+                                .andExpect(jsonPath("$.meta.total").value(1));
+        }
+
+        @Test
+        void getAllEmployees_WithUnknownField_ShouldReturn400() throws Exception {
+                mockMvc.perform(get("/api/employees/all")
+                                .header("X-User-Role", "ADMIN")
+                                .param("fields", "fullName,password"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void getAllEmployees_WithInsufficientRole_ShouldReturn403() throws Exception {
+                mockMvc.perform(get("/api/employees/all")
+                                .header("X-User-Role", "USER"))
+                                .andExpect(status().isForbidden())
+                                .andExpect(jsonPath("$.error").value("Access denied"))
+                                .andExpect(jsonPath("$.message").value(
+                                                "Insufficient privileges. Required roles: [ADMIN], but user has role: USER"));
+        }
+
+        @Test
+        void getAllEmployees_WithoutRole_ShouldReturn403() throws Exception {
+                mockMvc.perform(get("/api/employees/all"))
+                                .andExpect(status().isForbidden())
+                                .andExpect(jsonPath("$.message").value("User role not found"));
+        }
+
+        // Helper
+        private EmployeeRequest requestFor(String employeeCode, String email, Long managerId) throws Exception {
+                EmployeeRequest request = objectMapper.readValue(
+                                objectMapper.writeValueAsString(employeeRequest), EmployeeRequest.class);
+                request.setEmployeeCode(employeeCode);
+                request.setEmail(email);
+                request.setManagerId(managerId);
+                return request;
+        }
+
+        // Helper
+        private Long createEmployee(String employeeCode, String email, Long managerId) throws Exception {
+                String body = mockMvc.perform(post("/api/employees").header("X-User-Role", "ADMIN")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requestFor(employeeCode, email, managerId))))
+                                .andExpect(status().isCreated())
+                                .andReturn().getResponse().getContentAsString();
+                return objectMapper.readTree(body).path("data").path("id").asLong();
+        }
+}
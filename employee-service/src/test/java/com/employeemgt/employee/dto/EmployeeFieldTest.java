@@ -0,0 +1,54 @@
+package com.employeemgt.employee.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeFieldTest {
+
+    @Test
+    void values_ShouldMirrorEmployeeResponseProperties() {
+        // Arrange
+        List<String> responseProperties = Arrays.stream(EmployeeResponse.class.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(Field::getName)
+                .toList();
+
+        // Act
+        List<String> fieldProperties = Arrays.stream(EmployeeField.values())
+                .map(EmployeeField::getProperty)
+                .toList();
+
+        // Assert - a new response property must be added to the whitelist, in the same order
+        assertEquals(responseProperties, fieldProperties);
+    }
+
+    @Test
+    void parse_ShouldAcceptKnownPropertiesInAnyOrder() {
+        // Act
+        EnumSet<EmployeeField> fields = EmployeeField.parse(" department, id ,fullName,");
+
+        // Assert
+        assertEquals(EnumSet.of(EmployeeField.ID, EmployeeField.FULL_NAME, EmployeeField.DEPARTMENT), fields);
+    }
+
+    @Test
+    void parse_WithoutFields_ShouldReturnNull() {
+        // Act & Assert
+        assertNull(EmployeeField.parse(null));
+        assertNull(EmployeeField.parse("  "));
+    }
+
+    @Test
+    void parse_WithUnknownField_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> EmployeeField.parse("id,password"));
+        assertThrows(IllegalArgumentException.class, () -> EmployeeField.parse(","));
+    }
+}
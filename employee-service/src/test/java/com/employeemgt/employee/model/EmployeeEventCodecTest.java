@@ -0,0 +1,152 @@
+package com.employeemgt.employee.model;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeEventCodecTest {
+
+    @Test
+    void encode_ThenDecode_ShouldRoundTripEveryField() {
+        // Arrange
+        EmployeeEvent event = sampleEvent();
+
+        // Act
+        EmployeeEvent decoded = EmployeeEventCodec.decode(EmployeeEventCodec.encode(event));
+
+        // Assert
+        assertEventEquals(event, decoded);
+    }
+
+    @Test
+    void encode_ThenDecode_ShouldKeepNullFieldsNull() {
+        // Arrange
+        EmployeeEvent event = new EmployeeEvent("event-1", 42L, null, "Zoë", null, null, null, "DELETE");
+
+        // Act
+        EmployeeEvent decoded = EmployeeEventCodec.decode(EmployeeEventCodec.encode(event));
+
+        // Assert
+        assertEventEquals(event, decoded);
+    }
+
+    @Test
+    void encode_ThenDecode_ShouldRoundTripDeltaUpdate() {
+        // Arrange
+        EmployeeEvent event = new EmployeeEvent("event-2", 42L, "EMP000043", null, "Smith", null, null, "UPDATE");
+        event.setChangedFields(List.of(EmployeeEvent.EMPLOYEE_CODE, EmployeeEvent.LAST_NAME));
+        event.setPreviousEmployeeCode("EMP000042");
+
+        // Act
+        byte[] data = EmployeeEventCodec.encode(event);
+        EmployeeEvent decoded = EmployeeEventCodec.decode(data);
+
+        // Assert
+        assertEquals(EmployeeEventCodec.DELTA_VERSION, data[0]);
+        assertEventEquals(event, decoded);
+        assertEquals(event.getChangedFields(), decoded.getChangedFields());
+        assertEquals("EMP000042", decoded.getPreviousEmployeeCode());
+    }
+
+    @Test
+    void encode_FullEvent_ShouldKeepVersionOneLayout() {
+        // Act
+        byte[] data = EmployeeEventCodec.encode(sampleEvent());
+
+        // Assert - consumers that only know version 1 can still read it
+        assertEquals(EmployeeEventCodec.VERSION, data[0]);
+        assertNull(EmployeeEventCodec.decode(data).getChangedFields());
+    }
+
+    @Test
+    void decode_WithUnknownVersion_ShouldThrowException() {
+        // Arrange
+        byte[] data = EmployeeEventCodec.encode(sampleEvent());
+        data[0] = 99;
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> EmployeeEventCodec.decode(data));
+    }
+
+    @Test
+    void decode_WithTruncatedData_ShouldThrowException() {
+        // Arrange
+        byte[] data = EmployeeEventCodec.encode(sampleEvent());
+        byte[] truncated = Arrays.copyOf(data, data.length - 5);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> EmployeeEventCodec.decode(truncated));
+    }
+
+    @Test
+    void binaryFormat_ShouldBeSmallerThanJson() {
+        // Arrange
+        EmployeeEvent event = sampleEvent();
+        EmployeeEventSerializer jsonSerializer = new EmployeeEventSerializer(false);
+        EmployeeEventSerializer binarySerializer = new EmployeeEventSerializer(true);
+
+        // Act
+        byte[] json = jsonSerializer.serialize("employee-events", event);
+        byte[] binary = binarySerializer.serialize("employee-events", event);
+
+        // Assert
+        assertTrue(binary.length < json.length,
+                "binary " + binary.length + " bytes vs json " + json.length + " bytes");
+    }
+
+    @Test
+    void deserializer_ShouldFollowContentTypeHeader() {
+        // Arrange
+        EmployeeEvent event = sampleEvent();
+        EmployeeEventSerializer serializer = new EmployeeEventSerializer();
+        serializer.configure(Map.of(EmployeeEventSerializer.FORMAT_CONFIG, "binary"), false);
+        RecordHeaders headers = new RecordHeaders();
+
+        // Act
+        byte[] data = serializer.serialize("employee-events", headers, event);
+        EmployeeEvent decoded = new EmployeeEventDeserializer().deserialize("employee-events", headers, data);
+
+        // Assert
+        assertEquals(EmployeeEventCodec.BINARY_CONTENT_TYPE, new String(
+                headers.lastHeader(EmployeeEventCodec.CONTENT_TYPE_HEADER).value(), StandardCharsets.UTF_8));
+        assertEventEquals(event, decoded);
+    }
+
+    @Test
+    void deserializer_WithoutHeader_ShouldReadLegacyJson() {
+        // Arrange - records produced before the content-type header existed
+        EmployeeEvent event = sampleEvent();
+        byte[] json = new EmployeeEventSerializer(false).serialize("employee-events", event);
+
+        // Act
+        EmployeeEvent decoded = new EmployeeEventDeserializer()
+                .deserialize("employee-events", new RecordHeaders(), json);
+
+        // Assert
+        assertEventEquals(event, decoded);
+    }
+
+    // Helper
+    private EmployeeEvent sampleEvent() {
+        return new EmployeeEvent("3f1c9a52-7d4e-4b8a-9c21-6e0f5b7a8d13", 1024L, "EMP001024",
+                "John", "Doe", "john.doe@company.com", "Engineering", "UPDATE");
+    }
+
+    // Helper
+    private void assertEventEquals(EmployeeEvent expected, EmployeeEvent actual) {
+        assertEquals(expected.getEventId(), actual.getEventId());
+        assertEquals(expected.getEmployeeId(), actual.getEmployeeId());
+        assertEquals(expected.getEmployeeCode(), actual.getEmployeeCode());
+        assertEquals(expected.getFirstName(), actual.getFirstName());
+        assertEquals(expected.getLastName(), actual.getLastName());
+        assertEquals(expected.getEmail(), actual.getEmail());
+        assertEquals(expected.getDepartment(), actual.getDepartment());
+        assertEquals(expected.getAction(), actual.getAction());
+    }
+}
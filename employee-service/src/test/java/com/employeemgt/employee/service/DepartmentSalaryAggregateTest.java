@@ -0,0 +1,119 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DepartmentSalaryAggregateTest {
+
+    @Test
+    void add_ShouldTrackHeadcountAndSalaryMoments() {
+        // Arrange
+        DepartmentSalaryAggregate aggregate = new DepartmentSalaryAggregate();
+
+        // Act
+        aggregate.add(EmployeeStatus.ACTIVE, 200_000L);
+        aggregate.add(EmployeeStatus.ACTIVE, 400_000L);
+        aggregate.add(EmployeeStatus.ON_LEAVE, 600_000L);
+        aggregate.add(EmployeeStatus.ACTIVE, null);
+
+        // Assert
+        assertEquals(4, aggregate.getHeadcount());
+        assertEquals(3, aggregate.getStatusCount(EmployeeStatus.ACTIVE));
+        assertEquals(1, aggregate.getStatusCount(EmployeeStatus.ON_LEAVE));
+        assertEquals(3, aggregate.getSalaryCount());
+        assertEquals(1_200_000L, aggregate.getSalarySumCents());
+        assertEquals(400_000L, aggregate.getMeanCents());
+        assertEquals(200_000L, aggregate.getMinCents());
+        assertEquals(600_000L, aggregate.getMaxCents());
+        assertEquals(Math.sqrt(80_000_000_000.0 / 3), aggregate.getStdDevCents(), 1e-6);
+    }
+
+    @Test
+    void remove_ShouldReverseAdd() {
+        // Arrange
+        DepartmentSalaryAggregate aggregate = new DepartmentSalaryAggregate();
+        aggregate.add(EmployeeStatus.ACTIVE, 200_000L);
+        aggregate.add(EmployeeStatus.ACTIVE, 400_000L);
+        aggregate.add(EmployeeStatus.ACTIVE, 600_000L);
+
+        // Act
+        aggregate.remove(EmployeeStatus.ACTIVE, 400_000L);
+
+        // Assert
+        assertEquals(2, aggregate.getHeadcount());
+        assertEquals(800_000L, aggregate.getSalarySumCents());
+        assertEquals(400_000L, aggregate.getMeanCents());
+        assertEquals(200_000.0, aggregate.getStdDevCents(), 1e-6);
+        assertFalse(aggregate.isExtremesStale());
+    }
+
+    @Test
+    void remove_CurrentExtreme_ShouldFlagExtremesStale() {
+        // Arrange
+        DepartmentSalaryAggregate aggregate = new DepartmentSalaryAggregate();
+        aggregate.add(EmployeeStatus.ACTIVE, 200_000L);
+        aggregate.add(EmployeeStatus.ACTIVE, 400_000L);
+        aggregate.add(EmployeeStatus.ACTIVE, 600_000L);
+
+        // Act
+        aggregate.remove(EmployeeStatus.ACTIVE, 600_000L);
+        boolean staleAfterRemove = aggregate.isExtremesStale();
+        aggregate.setExtremes(200_000L, 400_000L);
+
+        // Assert
+        assertTrue(staleAfterRemove);
+        assertFalse(aggregate.isExtremesStale());
+        assertEquals(400_000L, aggregate.getMaxCents());
+    }
+
+    @Test
+    void remove_LastSalary_ShouldResetMoments() {
+        // Arrange
+        DepartmentSalaryAggregate aggregate = new DepartmentSalaryAggregate();
+        aggregate.add(EmployeeStatus.ACTIVE, 200_000L);
+
+        // Act
+        aggregate.remove(EmployeeStatus.ACTIVE, 200_000L);
+
+        // Assert
+        assertTrue(aggregate.isEmpty());
+        assertNull(aggregate.getMeanCents());
+        assertNull(aggregate.getMinCents());
+        assertNull(aggregate.getStdDevCents());
+    }
+
+    @Test
+    void merge_ShouldMatchAddingEveryValue() {
+        // Arrange - two status groups as the reconciliation GROUP BY returns them
+        DepartmentSalaryAggregate added = new DepartmentSalaryAggregate();
+        added.add(EmployeeStatus.ACTIVE, 100_000L);
+        added.add(EmployeeStatus.ACTIVE, 300_000L);
+        added.add(EmployeeStatus.INACTIVE, 500_000L);
+        added.add(EmployeeStatus.INACTIVE, 900_000L);
+        DepartmentSalaryAggregate merged = new DepartmentSalaryAggregate();
+
+        // Act
+        merged.merge(EmployeeStatus.ACTIVE, 2, 2, 400_000L, 100_000L, 300_000L, 10_000_000_000.0);
+        merged.merge(EmployeeStatus.INACTIVE, 2, 2, 1_400_000L, 500_000L, 900_000L, 40_000_000_000.0);
+
+        // Assert
+        assertEquals(added.getHeadcount(), merged.getHeadcount());
+        assertEquals(2, merged.getStatusCount(EmployeeStatus.INACTIVE));
+        assertEquals(added.getSalarySumCents(), merged.getSalarySumCents());
+        assertEquals(added.getMinCents(), merged.getMinCents());
+        assertEquals(added.getMaxCents(), merged.getMaxCents());
+        assertEquals(added.getStdDevCents(), merged.getStdDevCents(), 1e-6);
+    }
+
+    @Test
+    void toCents_ShouldConvertBothWays() {
+        // Act & Assert
+        assertEquals(7_550_050L, DepartmentSalaryAggregate.toCents(new BigDecimal("75500.50")));
+        assertEquals(new BigDecimal("75500.50"), DepartmentSalaryAggregate.fromCents(7_550_050L));
+        assertNull(DepartmentSalaryAggregate.toCents(null));
+    }
+}
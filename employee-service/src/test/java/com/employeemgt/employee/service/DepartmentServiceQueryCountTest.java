@@ -0,0 +1,128 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.DepartmentFilterRequest;
+import com.employeemgt.employee.dto.DepartmentResponse;
+import com.employeemgt.employee.entity.Department;
+import com.employeemgt.employee.entity.Employee;
+import com.employeemgt.employee.repository.DepartmentRepository;
+import com.employeemgt.employee.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards against N+1 headcount queries when listing departments
+ * and covers the bulk headcount repair
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DepartmentServiceQueryCountTest {
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentHeadcountRepairJob headcountRepairJob;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        departmentRepository.deleteAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void repair_ShouldReportAndFixDriftedHeadcounts() {
+        // Employees saved directly through the repository bypass the incremental headcount
+        createDepartments(0, 2);
+        entityManager.flush();
+
+        List<DepartmentHeadcountRepairJob.HeadcountDrift> drifts = headcountRepairJob.repair();
+
+        assertEquals(2, drifts.size());
+        drifts.forEach(drift -> {
+            assertEquals(0L, drift.getStoredCount());
+            assertEquals(2L, drift.getActualCount());
+        });
+        departmentRepository.findAll().forEach(department -> assertEquals(2L, department.getEmployeeCount()));
+        assertTrue(headcountRepairJob.repair().isEmpty());
+    }
+
+    @Test
+    void getDepartmentsWithFilters_ShouldRunConstantNumberOfStatements() {
+        createDepartments(0, 3);
+        long smallPageStatements = countStatementsForListing(3);
+
+        createDepartments(3, 25);
+        long largePageStatements = countStatementsForListing(25);
+
+        assertEquals(smallPageStatements, largePageStatements,
+                "Listing departments must not issue one headcount query per department");
+    }
+
+    private long countStatementsForListing(int expectedDepartments) {
+        entityManager.flush();
+        headcountRepairJob.repair();
+        entityManager.clear();
+        statistics.clear();
+
+        DepartmentFilterRequest filter = new DepartmentFilterRequest();
+        filter.setPage(0);
+        filter.setPerPage(100);
+        Page<DepartmentResponse> departments = departmentService.getDepartmentsWithFilters(filter);
+
+        assertEquals(expectedDepartments, departments.getNumberOfElements());
+        departments.forEach(department -> assertEquals(2L, department.getEmployeeCount()));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createDepartments(int from, int to) {
+        for (int i = from; i < to; i++) {
+            Department department = departmentRepository.save(
+                    new Department("Department " + i, "Test department " + i, "D" + i));
+
+            for (int j = 0; j < 2; j++) {
+                employeeRepository.save(new Employee(
+                        "EMP" + i + "X" + j,
+                        "First",
+                        "Last",
+                        "employee" + i + "." + j + "@company.com",
+                        LocalDate.now(),
+                        "Engineer",
+                        new BigDecimal("50000.00"),
+                        department));
+            }
+        }
+    }
+}
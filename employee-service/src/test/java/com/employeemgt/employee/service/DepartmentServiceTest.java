@@ -35,6 +35,12 @@ class DepartmentServiceTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private DepartmentCatalog departmentCatalog;
+
+    @Mock
+    private EmployeeProfileCache profileCache;
+
     @InjectMocks
     private DepartmentService departmentService;
 
@@ -70,9 +76,9 @@ class DepartmentServiceTest {
     @Test
     void createDepartment_WithValidData_ShouldCreateDepartment() {
         // Arrange
-        when(departmentRepository.existsByName(departmentRequest.getName())).thenReturn(false);
-        when(departmentRepository.existsByCode(departmentRequest.getCode())).thenReturn(false);
-        when(departmentRepository.save(any(Department.class))).thenReturn(department);
+        when(departmentCatalog.existsByName(departmentRequest.getName())).thenReturn(false);
+        when(departmentCatalog.existsByCode(departmentRequest.getCode())).thenReturn(false);
+        when(departmentRepository.saveAndFlush(any(Department.class))).thenReturn(department);
 
         // Act
         DepartmentResponse response = departmentService.createDepartment(departmentRequest);
@@ -83,46 +89,49 @@ class DepartmentServiceTest {
         assertEquals("ENG", response.getCode());
         assertEquals("Engineering Department", response.getDescription());
         
-        verify(departmentRepository).existsByName(departmentRequest.getName());
-        verify(departmentRepository).existsByCode(departmentRequest.getCode());
-        verify(departmentRepository).save(any(Department.class));
+        verify(departmentCatalog).existsByName(departmentRequest.getName());
+        verify(departmentCatalog).existsByCode(departmentRequest.getCode());
+        verify(departmentRepository).saveAndFlush(any(Department.class));
+        verify(departmentCatalog).markChanged();
+        verify(profileCache).invalidateDepartment(1L);
     }
 
     @Test
     void createDepartment_WithDuplicateName_ShouldThrowDuplicateResourceException() {
         // Arrange
-        when(departmentRepository.existsByName(departmentRequest.getName())).thenReturn(true);
+        when(departmentCatalog.existsByName(departmentRequest.getName())).thenReturn(true);
 
         // Act & Assert
         assertThrows(DuplicateResourceException.class, () -> {
             departmentService.createDepartment(departmentRequest);
         });
 
-        verify(departmentRepository).existsByName(departmentRequest.getName());
-        verify(departmentRepository, never()).save(any(Department.class));
+        verify(departmentCatalog).existsByName(departmentRequest.getName());
+        verify(departmentRepository, never()).saveAndFlush(any(Department.class));
+        verify(departmentCatalog, never()).markChanged();
     }
 
     @Test
     void createDepartment_WithDuplicateCode_ShouldThrowDuplicateResourceException() {
         // Arrange
-        when(departmentRepository.existsByCode(departmentRequest.getCode())).thenReturn(true);
+        when(departmentCatalog.existsByCode(departmentRequest.getCode())).thenReturn(true);
 
         // Act & Assert
         assertThrows(DuplicateResourceException.class, () -> {
             departmentService.createDepartment(departmentRequest);
         });
 
-        verify(departmentRepository).existsByCode(departmentRequest.getCode());
-        verify(departmentRepository, never()).save(any(Department.class));
+        verify(departmentCatalog).existsByCode(departmentRequest.getCode());
+        verify(departmentRepository, never()).saveAndFlush(any(Department.class));
     }
 
     @Test
     void updateDepartment_WithValidData_ShouldUpdateDepartment() {
         // Arrange
         when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
-        when(departmentRepository.existsByName(departmentRequest.getName())).thenReturn(false);
-        when(departmentRepository.existsByCode(departmentRequest.getCode())).thenReturn(false);
-        when(departmentRepository.save(any(Department.class))).thenReturn(department);
+        when(departmentCatalog.existsByName(departmentRequest.getName())).thenReturn(false);
+        when(departmentCatalog.existsByCode(departmentRequest.getCode())).thenReturn(false);
+        when(departmentRepository.saveAndFlush(any(Department.class))).thenReturn(department);
 
         // Act
         DepartmentResponse response = departmentService.updateDepartment(1L, departmentRequest);
@@ -133,7 +142,8 @@ class DepartmentServiceTest {
         assertEquals("ENG", response.getCode());
         
         verify(departmentRepository).findById(1L);
-        verify(departmentRepository).save(any(Department.class));
+        verify(departmentRepository).saveAndFlush(any(Department.class));
+        verify(departmentCatalog).markChanged();
     }
 
     @Test
@@ -147,7 +157,7 @@ class DepartmentServiceTest {
         });
 
         verify(departmentRepository).findById(999L);
-        verify(departmentRepository, never()).save(any(Department.class));
+        verify(departmentRepository, never()).saveAndFlush(any(Department.class));
     }
 
     @Test
@@ -202,11 +212,29 @@ class DepartmentServiceTest {
         verify(departmentRepository).findAll(any(Specification.class), any(Pageable.class));
     }
 
+    @Test
+    void getDepartmentsWithFilters_ShouldUseStoredEmployeeCount() {
+        // Arrange
+        department.setEmployeeCount(7L);
+        Page<Department> departmentPage = new PageImpl<>(Arrays.asList(department));
+        DepartmentFilterRequest filter = new DepartmentFilterRequest();
+
+        when(departmentRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(departmentPage);
+
+        // Act
+        Page<DepartmentResponse> response = departmentService.getDepartmentsWithFilters(filter);
+
+        // Assert
+        assertEquals(7L, response.getContent().get(0).getEmployeeCount());
+        verify(departmentRepository).findAll(any(Specification.class), any(Pageable.class));
+        verifyNoMoreInteractions(departmentRepository);
+    }
+
     @Test
     void deleteDepartment_WithValidId_ShouldDeleteDepartment() {
         // Arrange
+        department.setEmployeeCount(0L);
         when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
-        when(departmentRepository.countEmployeesByDepartmentId(1L)).thenReturn(0L);
         doNothing().when(departmentRepository).delete(department);
 
         // Act
@@ -214,8 +242,9 @@ class DepartmentServiceTest {
 
         // Assert
         verify(departmentRepository).findById(1L);
-        verify(departmentRepository).countEmployeesByDepartmentId(1L);
         verify(departmentRepository).delete(department);
+        verify(departmentCatalog).markChanged();
+        verify(profileCache).invalidateDepartment(1L);
     }
 
     @Test
@@ -235,8 +264,8 @@ class DepartmentServiceTest {
     @Test
     void deleteDepartment_WithEmployees_ShouldThrowBusinessRuleViolationException() {
         // Arrange
+        department.setEmployeeCount(5L);
         when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
-        when(departmentRepository.countEmployeesByDepartmentId(1L)).thenReturn(5L);
 
         // Act & Assert
         assertThrows(BusinessRuleViolationException.class, () -> {
@@ -244,7 +273,6 @@ class DepartmentServiceTest {
         });
 
         verify(departmentRepository).findById(1L);
-        verify(departmentRepository).countEmployeesByDepartmentId(1L);
         verify(departmentRepository, never()).delete(any(Department.class));
     }
 }
\ No newline at end of file
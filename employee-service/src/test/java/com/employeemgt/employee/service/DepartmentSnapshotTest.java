@@ -0,0 +1,43 @@
+package com.employeemgt.employee.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DepartmentSnapshotTest {
+
+    @Test
+    void get_ShouldFindDenseAndSparseIds() {
+        // Arrange
+        DepartmentSnapshot snapshot = DepartmentSnapshot.of(3, List.of(
+                new DepartmentSnapshot.Entry(1L, "Engineering", "ENG", null),
+                new DepartmentSnapshot.Entry(5L, "Finance", "FIN", null),
+                new DepartmentSnapshot.Entry(1_000_000L, "Legal", "LEG", null)));
+
+        // Act & Assert
+        assertEquals(3, snapshot.getVersion());
+        assertEquals("Engineering", snapshot.get(1L).getName());
+        assertEquals("FIN", snapshot.get(5L).getCode());
+        assertEquals("Legal", snapshot.get(1_000_000L).getName());
+        assertNull(snapshot.get(2L));
+        assertNull(snapshot.get(6L));
+        assertNull(snapshot.get(-1L));
+        assertNull(snapshot.get(null));
+    }
+
+    @Test
+    void hasCodeAndName_ShouldMatchExactValues() {
+        // Arrange
+        DepartmentSnapshot snapshot = DepartmentSnapshot.of(0, List.of(
+                new DepartmentSnapshot.Entry(1L, "Engineering", "ENG", null)));
+
+        // Act & Assert
+        assertTrue(snapshot.hasCode("ENG"));
+        assertTrue(snapshot.hasName("Engineering"));
+        assertFalse(snapshot.hasCode("eng"));
+        assertFalse(snapshot.hasName("Finance"));
+        assertFalse(snapshot.hasCode(null));
+    }
+}
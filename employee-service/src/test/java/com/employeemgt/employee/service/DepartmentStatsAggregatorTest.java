@@ -0,0 +1,156 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.DepartmentStats;
+import com.employeemgt.employee.entity.Department;
+import com.employeemgt.employee.entity.Employee;
+import com.employeemgt.employee.event.EmployeeChangedEvent;
+import com.employeemgt.employee.model.EmployeeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentStatsAggregatorTest {
+
+    private static final long DEPARTMENT_ID = 10L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DepartmentCatalog departmentCatalog;
+
+    @InjectMocks
+    private DepartmentStatsAggregator aggregator;
+
+    // Headcount the mocked GROUP BY returns for the department
+    private long tableHeadcount;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(departmentCatalog.getSnapshot()).thenReturn(DepartmentSnapshot.EMPTY);
+        lenient().doAnswer(invocation -> {
+            if (tableHeadcount > 0) {
+                invocation.<RowCallbackHandler>getArgument(1).processRow(groupByRow(tableHeadcount));
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void reconcile_WithACommittedChangeNotYetApplied_ShouldKeepTheAggregatesSoItIsNotCountedTwice() {
+        // Arrange - one employee in memory and in the table
+        tableHeadcount = 1;
+        assertTrue(aggregator.reconcile());
+        EmployeeChangedEvent hire = EmployeeChangedEvent.created(employee(2L));
+        aggregator.onEmployeeCommitting(hire);
+        tableHeadcount = 2; // committed, so the GROUP BY already counts it
+
+        // Act
+        boolean replaced = aggregator.reconcile();
+        aggregator.onEmployeeChanged(hire);
+
+        // Assert
+        assertFalse(replaced);
+        assertEquals(2, headcount());
+    }
+
+    @Test
+    void reconcile_AfterARolledBackChange_ShouldReplaceTheAggregates() {
+        // Arrange
+        EmployeeChangedEvent hire = EmployeeChangedEvent.created(employee(2L));
+        aggregator.onEmployeeCommitting(hire);
+        aggregator.onEmployeeRolledBack(hire);
+        tableHeadcount = 3;
+
+        // Act
+        boolean replaced = aggregator.reconcile();
+
+        // Assert
+        assertTrue(replaced);
+        assertEquals(3, headcount());
+    }
+
+    @Test
+    void onEmployeeEvent_FromAnotherInstance_ShouldTriggerAReconcile() {
+        // Arrange - the table has an employee this instance never saw a change for
+        tableHeadcount = 1;
+
+        // Act
+        aggregator.onEmployeeEvent(event(7L));
+        aggregator.reconcileRemoteChanges();
+
+        // Assert
+        assertEquals(1, headcount());
+    }
+
+    @Test
+    void onEmployeeEvent_EchoingALocalChange_ShouldNotReconcile() {
+        // Arrange
+        EmployeeChangedEvent hire = EmployeeChangedEvent.created(employee(2L));
+        aggregator.onEmployeeCommitting(hire);
+        aggregator.onEmployeeChanged(hire);
+
+        // Act
+        aggregator.onEmployeeEvent(event(2L));
+        aggregator.reconcileRemoteChanges();
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+        assertEquals(1, headcount());
+    }
+
+    // Helper
+    private long headcount() {
+        List<DepartmentStats> stats = aggregator.getStats();
+        return stats.isEmpty() ? 0 : stats.get(0).getHeadcount();
+    }
+
+    // Helper
+    private Employee employee(Long id) {
+        Department department = new Department("Engineering", "Engineering Department", "ENG");
+        department.setId(DEPARTMENT_ID);
+        Employee employee = new Employee("EMP00" + id, "First", "Last", "emp" + id + "@company.com",
+                LocalDate.of(2020, 1, 1), "Engineer", new BigDecimal("50000.00"), department);
+        employee.setId(id);
+        return employee;
+    }
+
+    // Helper
+    private EmployeeEvent event(Long employeeId) {
+        EmployeeEvent event = new EmployeeEvent();
+        event.setEmployeeId(employeeId);
+        event.setAction("UPDATE");
+        return event;
+    }
+
+    // Helper - one (department, status) group of the GROUP BY, every salary 50000.00
+    private ResultSet groupByRow(long headcount) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(DEPARTMENT_ID);
+        when(resultSet.getString(2)).thenReturn("ACTIVE");
+        when(resultSet.getLong(3)).thenReturn(headcount);
+        when(resultSet.getLong(4)).thenReturn(headcount);
+        when(resultSet.getBigDecimal(5)).thenReturn(new BigDecimal("50000.00").multiply(BigDecimal.valueOf(headcount)));
+        when(resultSet.getBigDecimal(6)).thenReturn(new BigDecimal("50000.00"));
+        when(resultSet.getBigDecimal(7)).thenReturn(new BigDecimal("50000.00"));
+        when(resultSet.getDouble(8)).thenReturn(0.0);
+        return resultSet;
+    }
+}
@@ -0,0 +1,69 @@
+package com.employeemgt.employee.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeCodeGeneratorTest {
+
+    private static final int THREADS = 64;
+    private static final int CODES_PER_THREAD = 500;
+
+    @Autowired
+    private EmployeeCodeGenerator codeGenerator;
+
+    @Test
+    void generateEmployeeCode_ShouldUsePrefixPeriodAndWideSuffix() {
+        String employeeCode = codeGenerator.generateEmployeeCode("EMPLOYEE");
+        String managerCode = codeGenerator.generateEmployeeCode("MANAGER");
+        String adminCode = codeGenerator.generateEmployeeCode("ADMIN");
+
+        assertTrue(employeeCode.matches("EMP\\d{6}\\d{6,}"), employeeCode);
+        assertTrue(managerCode.matches("MGR\\d{6}\\d{6,}"), managerCode);
+        assertTrue(adminCode.matches("ADM\\d{6}\\d{6,}"), adminCode);
+        assertTrue(employeeCode.length() <= 20);
+    }
+
+    @Test
+    void generateEmployeeCode_With64ConcurrentThreads_ShouldNeverRepeatACode() throws Exception {
+        // Arrange
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act - every thread crosses many block boundaries at the same time
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < CODES_PER_THREAD; i++) {
+                    assertTrue(codes.add(codeGenerator.generateEmployeeCode("EMPLOYEE")), "Duplicate code generated");
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(THREADS * CODES_PER_THREAD, codes.size());
+    }
+}
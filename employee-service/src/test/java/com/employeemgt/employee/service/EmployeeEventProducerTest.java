@@ -0,0 +1,139 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.EmployeeResponse;
+import com.employeemgt.employee.entity.Employee;
+import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+import com.employeemgt.employee.event.EmployeeChangedEvent.EmployeeSnapshot;
+import com.employeemgt.employee.model.EmployeeEvent;
+import com.employeemgt.employee.repository.EmployeeOutboxRepository;
+import com.employeemgt.employee.repository.EmployeeOutboxRepository.OutboxEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeEventProducerTest {
+
+    @Mock
+    private EmployeeOutboxRepository outboxRepository;
+
+    @Mock
+    private DepartmentCatalog departmentCatalog;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private EmployeeEventProducer employeeEventProducer;
+
+    private Employee employee;
+    private EmployeeSnapshot previous;
+
+    @BeforeEach
+    void setUp() {
+        employee = new Employee();
+        employee.setId(1L);
+        employee.setEmployeeCode("EMP001");
+        employee.setFirstName("John");
+        employee.setLastName("Doe");
+        employee.setEmail("john.doe@company.com");
+        employee.setStatus(EmployeeStatus.ACTIVE);
+        employee.setSalary(new BigDecimal("75000.00"));
+
+        previous = EmployeeSnapshot.of(employee);
+    }
+
+    @Test
+    void sendEmployeeUpdatedEvent_WithOnlyHrFieldsChanged_ShouldRecordEmptyDelta() throws Exception {
+        // Arrange
+        employee.setSalary(new BigDecimal("80000.00"));
+        employee.setNotes("Promoted");
+
+        // Act
+        employeeEventProducer.sendEmployeeUpdatedEvent(previous, employee);
+
+        // Assert - identifies the employee for cache invalidation, carries no HR fields
+        EmployeeEvent event = capturedEvent();
+        assertEquals("UPDATE", event.getAction());
+        assertEquals(List.of(), event.getChangedFields());
+        assertEquals(1L, event.getEmployeeId());
+        assertEquals("EMP001", event.getEmployeeCode());
+        assertNull(event.getFirstName());
+        assertNull(event.getPreviousEmployeeCode());
+    }
+
+    @Test
+    void sendEmployeeUpdatedEvent_WithOnlyHrFieldsChanged_ShouldEvictTheProfileOnAnotherNode() throws Exception {
+        // Arrange
+        EmployeeProfileCache otherNode = new EmployeeProfileCache(new SimpleMeterRegistry(), 10, Duration.ofMinutes(5));
+        EmployeeResponse cached = new EmployeeResponse();
+        cached.setId(1L);
+        cached.setEmployeeCode("EMP001");
+        otherNode.get("EMP001", code -> cached);
+        employee.setStatus(EmployeeStatus.ON_LEAVE);
+
+        // Act
+        employeeEventProducer.sendEmployeeUpdatedEvent(previous, employee);
+        otherNode.onEmployeeEvent(capturedEvent());
+
+        // Assert
+        assertEquals(0, otherNode.size());
+    }
+
+    @Test
+    void sendEmployeeUpdatedEvent_WithNameChanged_ShouldRecordOnlyChangedFields() throws Exception {
+        // Arrange
+        employee.setLastName("Smith");
+        employee.setSalary(new BigDecimal("80000.00"));
+
+        // Act
+        employeeEventProducer.sendEmployeeUpdatedEvent(previous, employee);
+
+        // Assert
+        EmployeeEvent event = capturedEvent();
+        assertEquals("UPDATE", event.getAction());
+        assertEquals(List.of(EmployeeEvent.LAST_NAME), event.getChangedFields());
+        assertEquals("Smith", event.getLastName());
+        assertEquals("EMP001", event.getEmployeeCode());
+        assertNull(event.getFirstName());
+        assertNull(event.getEmail());
+        assertNull(event.getPreviousEmployeeCode());
+    }
+
+    @Test
+    void sendEmployeeUpdatedEvent_WithCodeChanged_ShouldCarryPreviousCode() throws Exception {
+        // Arrange
+        employee.setEmployeeCode("EMP999");
+
+        // Act
+        employeeEventProducer.sendEmployeeUpdatedEvent(previous, employee);
+
+        // Assert
+        EmployeeEvent event = capturedEvent();
+        assertEquals(List.of(EmployeeEvent.EMPLOYEE_CODE), event.getChangedFields());
+        assertEquals("EMP999", event.getEmployeeCode());
+        assertEquals("EMP001", event.getPreviousEmployeeCode());
+    }
+
+    // Helper
+    private EmployeeEvent capturedEvent() throws Exception {
+        ArgumentCaptor<OutboxEntry> captor = ArgumentCaptor.forClass(OutboxEntry.class);
+        verify(outboxRepository).append(captor.capture());
+        return objectMapper.readValue(captor.getValue().getPayload(), EmployeeEvent.class);
+    }
+}
@@ -0,0 +1,143 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.EmployeeRequest;
+import com.employeemgt.employee.dto.EmployeeResponse;
+import com.employeemgt.employee.entity.Department;
+import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+import com.employeemgt.employee.exception.BusinessRuleViolationException;
+import com.employeemgt.employee.repository.DepartmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Manager changes racing each other in separate, committed transactions
+ * Not @Transactional, so the rows are removed again after each test
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeHierarchyConcurrencyTest {
+
+    private static final String PATHS_SQL =
+            "SELECT COUNT(*) FROM employee_hierarchy WHERE ancestor_id = ? AND descendant_id = ?";
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Department department;
+    private EmployeeResponse alice;
+    private EmployeeResponse bob;
+
+    @BeforeEach
+    void setUp() {
+        department = departmentRepository.save(new Department("Hierarchy", "Hierarchy Department", "HIER"));
+        alice = employeeService.createEmployee(request("alice"));
+        bob = employeeService.createEmployee(request("bob"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM employee_hierarchy WHERE ancestor_id IN (?, ?) OR descendant_id IN (?, ?)",
+                alice.getId(), bob.getId(), alice.getId(), bob.getId());
+        jdbcTemplate.update("DELETE FROM employee_outbox WHERE employee_id IN (?, ?)", alice.getId(), bob.getId());
+        jdbcTemplate.update("DELETE FROM employees WHERE id IN (?, ?)", alice.getId(), bob.getId());
+        departmentRepository.deleteById(department.getId());
+    }
+
+    @Test
+    void updateEmployee_WithCrossedConcurrentManagerChanges_ShouldRejectTheSecondInsteadOfFormingACycle()
+            throws Exception {
+        // Arrange
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch aliceMoved = new CountDownLatch(1);
+        CountDownLatch commitAlice = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act - Alice goes under Bob and holds her transaction open...
+            Future<?> first = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                employeeService.updateEmployee(alice.getId(), moveUnder(alice, bob));
+                aliceMoved.countDown();
+                try {
+                    commitAlice.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(aliceMoved.await(10, TimeUnit.SECONDS));
+
+            // ...while Bob is moved under Alice
+            Future<?> second = executor.submit(() ->
+                    employeeService.updateEmployee(bob.getId(), moveUnder(bob, alice)));
+
+            // Assert - the second move waits for the first instead of checking against stale rows
+            Thread.sleep(300);
+            assertFalse(second.isDone());
+
+            commitAlice.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            ExecutionException rejected = assertThrows(ExecutionException.class,
+                    () -> second.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(BusinessRuleViolationException.class, rejected.getCause());
+        } finally {
+            commitAlice.countDown();
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, paths(bob.getId(), alice.getId()));
+        assertEquals(0, paths(alice.getId(), bob.getId()));
+    }
+
+    // Helper
+    private int paths(Long ancestorId, Long descendantId) {
+        return jdbcTemplate.queryForObject(PATHS_SQL, Integer.class, ancestorId, descendantId);
+    }
+
+    // Helper
+    private EmployeeRequest moveUnder(EmployeeResponse employee, EmployeeResponse manager) {
+        EmployeeRequest request = request(employee.getFirstName());
+        request.setEmployeeCode(employee.getEmployeeCode());
+        request.setManagerId(manager.getId());
+        return request;
+    }
+
+    // Helper
+    private EmployeeRequest request(String name) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setFirstName(name);
+        request.setLastName("Hierarchy");
+        request.setEmail(name + ".hierarchy@company.com");
+        request.setHireDate(LocalDate.of(2020, 1, 1));
+        request.setJobTitle("Engineer");
+        request.setSalary(new BigDecimal("60000.00"));
+        request.setStatus(EmployeeStatus.ACTIVE);
+        request.setDepartmentId(department.getId());
+        return request;
+    }
+}
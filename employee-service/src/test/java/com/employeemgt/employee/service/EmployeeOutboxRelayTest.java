@@ -0,0 +1,97 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.model.EmployeeEvent;
+import com.employeemgt.employee.repository.EmployeeOutboxRepository;
+import com.employeemgt.employee.repository.EmployeeOutboxRepository.OutboxEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeOutboxRelayTest {
+
+    @Mock
+    private EmployeeOutboxRepository outboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, EmployeeEvent> kafkaTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new EmployeeOutboxRelay(outboxRepository, kafkaTemplate, transactionManager, objectMapper, meterRegistry);
+    }
+
+    @Test
+    void relayPending_ShouldPublishInIdOrderAndMarkRowsSent() throws Exception {
+        // Arrange
+        when(outboxRepository.lockPending(anyInt())).thenReturn(List.of(entry(1L, 10L), entry(2L, 11L)));
+        when(kafkaTemplate.send(anyString(), anyString(), any(EmployeeEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(outboxRepository.getBacklog()).thenReturn(new EmployeeOutboxRepository.Backlog(0, Duration.ZERO));
+
+        // Act
+        int published = relay.relayPending();
+
+        // Assert
+        assertEquals(2, published);
+        InOrder inOrder = inOrder(kafkaTemplate);
+        inOrder.verify(kafkaTemplate).send(eq("employee-events"), eq("10"), any(EmployeeEvent.class));
+        inOrder.verify(kafkaTemplate).send(eq("employee-events"), eq("11"), any(EmployeeEvent.class));
+        verify(outboxRepository).markSent(List.of(1L, 2L));
+        assertEquals(2.0, meterRegistry.get("employee.outbox.published").counter().count());
+    }
+
+    @Test
+    void relayPending_WhenASendFails_ShouldStopAtTheFailedRow() throws Exception {
+        // Arrange
+        when(outboxRepository.lockPending(anyInt()))
+                .thenReturn(List.of(entry(1L, 10L), entry(2L, 11L), entry(3L, 12L)));
+        when(kafkaTemplate.send(anyString(), anyString(), any(EmployeeEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(outboxRepository.getBacklog())
+                .thenReturn(new EmployeeOutboxRepository.Backlog(2, Duration.ofSeconds(3)));
+
+        // Act
+        int published = relay.relayPending();
+
+        // Assert - the rows from the failure onwards stay pending
+        assertEquals(1, published);
+        verify(outboxRepository).markSent(List.of(1L));
+        verify(outboxRepository, times(1)).lockPending(anyInt());
+        assertEquals(1.0, meterRegistry.get("employee.outbox.publish.failures").counter().count());
+        assertEquals(2.0, meterRegistry.get("employee.outbox.pending").gauge().value());
+        assertEquals(3.0, meterRegistry.get("employee.outbox.lag.seconds").gauge().value());
+    }
+
+    // Helper
+    private OutboxEntry entry(Long id, Long employeeId) throws Exception {
+        EmployeeEvent event = new EmployeeEvent("event-" + id, employeeId, "EMP" + employeeId,
+                "John", "Doe", "john" + employeeId + "@company.com", "Engineering", "CREATE");
+        return new OutboxEntry(id, event.getEventId(), employeeId, "CREATE", objectMapper.writeValueAsString(event));
+    }
+}
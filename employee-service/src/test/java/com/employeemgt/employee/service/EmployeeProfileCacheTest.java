@@ -0,0 +1,133 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.EmployeeResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeProfileCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeProfileCache cache;
+    private AtomicInteger loads;
+    private Function<String, EmployeeResponse> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new EmployeeProfileCache(meterRegistry, 2, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+        loader = code -> profile((long) loads.incrementAndGet(), code);
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndServeRepeatsFromCache() {
+        // Act
+        EmployeeResponse first = cache.get("EMP001", loader);
+        EmployeeResponse second = cache.get("EMP001", loader);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("employee.profile.cache.gets").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("employee.profile.cache.gets").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void get_WhenFull_ShouldEvictLeastRecentlyUsed() {
+        // Arrange
+        cache.get("EMP001", loader);
+        cache.get("EMP002", loader);
+        cache.get("EMP001", loader); // EMP002 is now the least recently used
+
+        // Act
+        cache.get("EMP003", loader);
+        cache.get("EMP001", loader);
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertEquals(3, loads.get());
+        assertEquals(1.0, meterRegistry.get("employee.profile.cache.evictions").tag("cause", "size").counter().count());
+    }
+
+    @Test
+    void get_AfterTtl_ShouldReload() {
+        // Arrange
+        cache = new EmployeeProfileCache(meterRegistry, 10, Duration.ZERO);
+
+        // Act
+        cache.get("EMP001", loader);
+        cache.get("EMP001", loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(1.0, meterRegistry.get("employee.profile.cache.evictions").tag("cause", "expired").counter().count());
+    }
+
+    @Test
+    void invalidate_ShouldDropEntryByCodeOrEmployeeId() {
+        // Arrange
+        cache.get("EMP001", loader); // id 1
+        cache.get("EMP002", loader); // id 2
+
+        // Act
+        cache.invalidate("EMP001");
+        cache.invalidateEmployee(2L);
+
+        // Assert
+        assertEquals(0, cache.size());
+        assertEquals(2.0, meterRegistry.get("employee.profile.cache.invalidations").counter().count());
+    }
+
+    @Test
+    void invalidateDepartment_ShouldDropOnlyProfilesOfThatDepartment() {
+        // Arrange
+        cache = new EmployeeProfileCache(meterRegistry, 10, Duration.ofMinutes(5));
+        cache.get("EMP001", code -> profile(1L, code, 10L));
+        cache.get("EMP002", code -> profile(2L, code, 20L));
+        cache.get("EMP003", code -> profile(3L, code, 10L));
+        cache.get("EMP004", loader); // no department
+
+        // Act - department 10 was renamed
+        cache.invalidateDepartment(10L);
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertEquals(2.0, meterRegistry.get("employee.profile.cache.invalidations").counter().count());
+        assertEquals(20L, cache.get("EMP002", loader).getDepartment().getId());
+    }
+
+    @Test
+    void get_WhenInvalidatedWhileLoading_ShouldNotCacheTheLoadedValue() {
+        // Act - the write commits while the read is still loading the old row
+        cache.get("EMP001", code -> {
+            cache.invalidate(code);
+            return profile(1L, code);
+        });
+
+        // Assert
+        assertEquals(0, cache.size());
+    }
+
+    // Helper
+    private EmployeeResponse profile(Long id, String employeeCode, Long departmentId) {
+        EmployeeResponse response = profile(id, employeeCode);
+        response.setDepartment(new EmployeeResponse.DepartmentSummary(departmentId, "Department " + departmentId,
+                "D" + departmentId));
+        return response;
+    }
+
+    // Helper
+    private EmployeeResponse profile(Long id, String employeeCode) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(id);
+        response.setEmployeeCode(employeeCode);
+        return response;
+    }
+}
@@ -0,0 +1,216 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.CursorPage;
+import com.employeemgt.employee.dto.EmployeeCursor;
+import com.employeemgt.employee.dto.EmployeeFilterRequest;
+import com.employeemgt.employee.dto.EmployeeResponse;
+import com.employeemgt.employee.dto.ExportFormat;
+import com.employeemgt.employee.entity.Department;
+import com.employeemgt.employee.entity.Employee;
+import com.employeemgt.employee.repository.DepartmentRepository;
+import com.employeemgt.employee.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the projection read path: list pages must not hydrate Employee entities
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EmployeeServiceProjectionTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        departmentRepository.deleteAll();
+
+        Department department = departmentRepository.save(new Department("Engineering", "Engineering Department", "ENG"));
+        for (int i = 0; i < 5; i++) {
+            employeeRepository.save(new Employee(
+                    "EMP00" + i,
+                    "First" + i,
+                    "Last" + i,
+                    "employee" + i + "@company.com",
+                    LocalDate.now().minusDays(i),
+                    "Engineer",
+                    new BigDecimal("50000.00"),
+                    department));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void getEmployeesWithFilters_ShouldNotLoadEntities() {
+        // Arrange
+        EmployeeFilterRequest filter = new EmployeeFilterRequest();
+        filter.setPerPage(3);
+
+        // Act
+        Page<EmployeeResponse> employees = employeeService.getEmployeesWithFilters(filter);
+
+        // Assert
+        assertEquals(5, employees.getTotalElements());
+        assertEquals(3, employees.getNumberOfElements());
+        EmployeeResponse first = employees.getContent().get(0);
+        assertEquals(first.getFirstName() + " " + first.getLastName(), first.getFullName());
+        assertEquals("ENG", first.getDepartment().getCode());
+        assertEquals("Engineering", first.getDepartment().getName());
+        assertNoEntitiesLoaded();
+    }
+
+    @Test
+    void getEmployeesAfterCursor_ShouldNotLoadEntities() {
+        // Arrange
+        EmployeeFilterRequest filter = new EmployeeFilterRequest();
+        filter.setPerPage(2);
+        filter.setSortBy("hireDate");
+
+        // Act
+        CursorPage<EmployeeResponse> employees = employeeService.getEmployeesAfterCursor(filter);
+
+        // Assert
+        assertEquals(2, employees.getContent().size());
+        assertTrue(employees.hasNext());
+        assertEquals("EMP004", employees.getContent().get(0).getEmployeeCode());
+        assertNoEntitiesLoaded();
+    }
+
+    @Test
+    void exportEmployees_AsCsv_ShouldStreamEveryRowWithoutLoadingEntities() throws Exception {
+        // Arrange
+        EmployeeFilterRequest filter = new EmployeeFilterRequest();
+        filter.setPerPage(1); // ignored by the export
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        employeeService.exportEmployees(filter, ExportFormat.CSV, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(6, lines.length);
+        assertTrue(lines[0].startsWith("id,employeeCode,firstName"));
+        assertTrue(lines[1].contains(",EMP000,First0,Last0,employee0@company.com,"));
+        assertTrue(lines[1].contains(",ENG,Engineering,"));
+        assertNoEntitiesLoaded();
+    }
+
+    @Test
+    void exportEmployees_AsNdjson_ShouldWriteOneObjectPerLine() throws Exception {
+        // Arrange
+        EmployeeFilterRequest filter = new EmployeeFilterRequest();
+        filter.setName("first3");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        employeeService.exportEmployees(filter, ExportFormat.NDJSON, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("\"employeeCode\":\"EMP003\""));
+    }
+
+    @Test
+    void getEmployeeFieldsWithCountMode_ShouldReturnOnlyRequestedFields() {
+        // Arrange
+        EmployeeFilterRequest filter = new EmployeeFilterRequest();
+        filter.setPerPage(3);
+        filter.setFields("fullName,department,email");
+
+        // Act
+        Slice<Map<String, Object>> employees = employeeService.getEmployeeFieldsWithCountMode(filter, filter.getFieldSet());
+
+        // Assert
+        assertEquals(3, employees.getNumberOfElements());
+        Map<String, Object> first = employees.getContent().get(0);
+        assertEquals(List.of("fullName", "email", "department"), List.copyOf(first.keySet()));
+        assertTrue(((String) first.get("fullName")).startsWith("First"));
+        assertEquals("ENG", ((EmployeeResponse.DepartmentSummary) first.get("department")).getCode());
+        assertNoEntitiesLoaded();
+    }
+
+    @Test
+    void getEmployeeFieldsAfterCursor_ShouldDropKeyColumnsThatWereNotRequested() {
+        // Arrange
+        EmployeeFilterRequest filter = new EmployeeFilterRequest();
+        filter.setPerPage(2);
+        filter.setSortBy("hireDate");
+        filter.setFields("employeeCode");
+
+        // Act
+        CursorPage<Map<String, Object>> employees = employeeService.getEmployeeFieldsAfterCursor(filter, filter.getFieldSet());
+
+        // Assert
+        assertEquals(List.of(Map.of("employeeCode", "EMP004"), Map.of("employeeCode", "EMP003")), employees.getContent());
+        assertTrue(employees.hasNext());
+        assertEquals("hireDate", EmployeeCursor.decode(employees.getNextCursor()).getSortBy());
+        assertNoEntitiesLoaded();
+    }
+
+    @Test
+    void exportEmployees_WithFields_ShouldWriteOnlyThoseColumns() throws Exception {
+        // Arrange
+        EmployeeFilterRequest filter = new EmployeeFilterRequest();
+        filter.setFields("employeeCode,department");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        employeeService.exportEmployees(filter, ExportFormat.CSV, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(6, lines.length);
+        assertEquals("employeeCode,departmentId,departmentCode,departmentName", lines[0]);
+        assertTrue(lines[1].startsWith("EMP000,") && lines[1].endsWith(",ENG,Engineering"));
+        assertNoEntitiesLoaded();
+    }
+
+    // Helper
+    private void assertNoEntitiesLoaded() {
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+}
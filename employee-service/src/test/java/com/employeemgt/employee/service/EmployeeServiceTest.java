@@ -1,24 +1,39 @@
 package com.employeemgt.employee.service;
 
+import com.employeemgt.employee.dto.BulkEmployeeResult;
 import com.employeemgt.employee.dto.EmployeeRequest;
 import com.employeemgt.employee.dto.EmployeeResponse;
 import com.employeemgt.employee.entity.Department;
 import com.employeemgt.employee.entity.Employee;
 import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+import com.employeemgt.employee.event.EmployeeChangedEvent.EmployeeSnapshot;
+import com.employeemgt.employee.exception.BusinessRuleViolationException;
 import com.employeemgt.employee.exception.DuplicateResourceException;
 import com.employeemgt.employee.exception.ResourceNotFoundException;
 import com.employeemgt.employee.repository.DepartmentRepository;
+import com.employeemgt.employee.repository.EmployeeHierarchyRepository;
 import com.employeemgt.employee.repository.EmployeeRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import jakarta.validation.Validator;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,12 +49,27 @@ class EmployeeServiceTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private DepartmentCatalog departmentCatalog;
+
     @Mock
     private EmployeeEventProducer employeeEventProducer;
 
     @Mock
     private EmployeeCodeGenerator codeGenerator;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmployeeProfileCache profileCache;
+
+    @Mock
+    private EmployeeHierarchyRepository hierarchyRepository;
+
+    @Mock
+    private Validator validator;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -87,10 +117,9 @@ class EmployeeServiceTest {
     @Test
     void createEmployee_WithValidData_ShouldReturnEmployeeResponse() {
         // Arrange
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
-        when(employeeRepository.existsByEmployeeCode("EMP001")).thenReturn(false);
-        when(employeeRepository.existsByEmail("john.doe@company.com")).thenReturn(false);
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+        when(departmentCatalog.find(1L)).thenReturn(Optional.of(catalogEntry(department)));
+        when(departmentRepository.getReferenceById(1L)).thenReturn(department);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(employee);
         doNothing().when(employeeEventProducer).sendEmployeeCreatedEvent(any(Employee.class));
 
         // Act
@@ -102,7 +131,9 @@ class EmployeeServiceTest {
         assertEquals("Doe", response.getLastName());
         assertEquals("john.doe@company.com", response.getEmail());
         assertEquals("EMP001", response.getEmployeeCode());
-        verify(employeeRepository).save(any(Employee.class));
+        verify(employeeRepository).saveAndFlush(any(Employee.class));
+        verify(employeeRepository, never()).checkWriteConflicts(any(), any(), anyLong(), anyLong());
+        verify(departmentRepository).adjustEmployeeCount(1L, 1);
         verify(employeeEventProducer).sendEmployeeCreatedEvent(any(Employee.class));
     }
 
@@ -111,9 +142,9 @@ class EmployeeServiceTest {
         // Arrange
         employeeRequest.setEmployeeCode(null); // No code provided
         when(codeGenerator.generateEmployeeCode("EMPLOYEE")).thenReturn("AUTO001");
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
-        when(employeeRepository.existsByEmail("john.doe@company.com")).thenReturn(false);
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+        when(departmentCatalog.find(1L)).thenReturn(Optional.of(catalogEntry(department)));
+        when(departmentRepository.getReferenceById(1L)).thenReturn(department);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(employee);
         doNothing().when(employeeEventProducer).sendEmployeeCreatedEvent(any(Employee.class));
 
         // Act
@@ -122,48 +153,69 @@ class EmployeeServiceTest {
         // Assert
         assertNotNull(response);
         verify(codeGenerator).generateEmployeeCode("EMPLOYEE");
-        verify(employeeRepository).save(any(Employee.class));
+        verify(employeeRepository).saveAndFlush(any(Employee.class));
     }
 
     @Test
     void createEmployee_WithDuplicateEmployeeCode_ShouldThrowDuplicateResourceException() {
         // Arrange
-        when(employeeRepository.existsByEmployeeCode("EMP001")).thenReturn(true);
+        when(departmentCatalog.find(1L)).thenReturn(Optional.of(catalogEntry(department)));
+        when(departmentRepository.getReferenceById(1L)).thenReturn(department);
+        when(employeeRepository.saveAndFlush(any(Employee.class)))
+                .thenThrow(uniqueViolation("employees_employee_code_key"));
 
         // Act & Assert
-        assertThrows(DuplicateResourceException.class, 
+        DuplicateResourceException exception = assertThrows(DuplicateResourceException.class, 
             () -> employeeService.createEmployee(employeeRequest));
         
-        verify(employeeRepository, never()).save(any(Employee.class));
+        assertTrue(exception.getMessage().contains("employee code 'EMP001'"));
+        verify(departmentRepository, never()).adjustEmployeeCount(anyLong(), anyLong());
         verify(employeeEventProducer, never()).sendEmployeeCreatedEvent(any(Employee.class));
     }
 
     @Test
     void createEmployee_WithDuplicateEmail_ShouldThrowDuplicateResourceException() {
         // Arrange
-        when(employeeRepository.existsByEmployeeCode("EMP001")).thenReturn(false);
-        when(employeeRepository.existsByEmail("john.doe@company.com")).thenReturn(true);
+        when(departmentCatalog.find(1L)).thenReturn(Optional.of(catalogEntry(department)));
+        when(departmentRepository.getReferenceById(1L)).thenReturn(department);
+        when(employeeRepository.saveAndFlush(any(Employee.class)))
+                .thenThrow(uniqueViolation("employees_email_key"));
 
         // Act & Assert
-        assertThrows(DuplicateResourceException.class, 
+        DuplicateResourceException exception = assertThrows(DuplicateResourceException.class, 
             () -> employeeService.createEmployee(employeeRequest));
         
-        verify(employeeRepository, never()).save(any(Employee.class));
+        assertTrue(exception.getMessage().contains("email 'john.doe@company.com'"));
+        verify(departmentRepository, never()).adjustEmployeeCount(anyLong(), anyLong());
         verify(employeeEventProducer, never()).sendEmployeeCreatedEvent(any(Employee.class));
     }
 
+    @Test
+    void createEmployee_WithUnknownManager_ShouldThrowResourceNotFoundException() {
+        // Arrange
+        employeeRequest.setManagerId(42L);
+        when(departmentCatalog.find(1L)).thenReturn(Optional.of(catalogEntry(department)));
+        when(departmentRepository.getReferenceById(1L)).thenReturn(department);
+        when(employeeRepository.checkWriteConflicts("EMP001", "john.doe@company.com", 42L, 0L))
+                .thenReturn(mock(EmployeeRepository.WriteConflicts.class));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, 
+            () -> employeeService.createEmployee(employeeRequest));
+        
+        verify(employeeRepository, never()).saveAndFlush(any(Employee.class));
+    }
+
     @Test
     void createEmployee_WithInvalidDepartment_ShouldThrowResourceNotFoundException() {
         // Arrange
-        when(employeeRepository.existsByEmployeeCode("EMP001")).thenReturn(false);
-        when(employeeRepository.existsByEmail("john.doe@company.com")).thenReturn(false);
-        when(departmentRepository.findById(1L)).thenReturn(Optional.empty());
+        when(departmentCatalog.find(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, 
             () -> employeeService.createEmployee(employeeRequest));
         
-        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(employeeRepository, never()).saveAndFlush(any(Employee.class));
         verify(employeeEventProducer, never()).sendEmployeeCreatedEvent(any(Employee.class));
     }
 
@@ -172,11 +224,9 @@ class EmployeeServiceTest {
         // Arrange
         Long employeeId = 1L;
         when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(employee));
-        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
-        when(employeeRepository.existsByEmployeeCode("EMP001")).thenReturn(true); // Same employee
-        when(employeeRepository.existsByEmail("john.doe@company.com")).thenReturn(true); // Same employee
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
-        doNothing().when(employeeEventProducer).sendEmployeeUpdatedEvent(any(Employee.class));
+        when(departmentCatalog.find(1L)).thenReturn(Optional.of(catalogEntry(department)));
+        when(departmentRepository.getReferenceById(1L)).thenReturn(department);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(employee);
 
         // Act
         EmployeeResponse response = employeeService.updateEmployee(employeeId, employeeRequest);
@@ -185,8 +235,69 @@ class EmployeeServiceTest {
         assertNotNull(response);
         assertEquals("John", response.getFirstName());
         assertEquals("Doe", response.getLastName());
-        verify(employeeRepository).save(any(Employee.class));
-        verify(employeeEventProducer).sendEmployeeUpdatedEvent(any(Employee.class));
+        verify(employeeRepository).saveAndFlush(any(Employee.class));
+        verify(employeeEventProducer).sendEmployeeUpdatedEvent(any(EmployeeSnapshot.class), any(Employee.class));
+    }
+
+    @Test
+    void updateEmployee_WithDepartmentChange_ShouldMoveHeadcount() {
+        // Arrange
+        Department otherDepartment = new Department();
+        otherDepartment.setId(2L);
+        otherDepartment.setName("Finance");
+        otherDepartment.setCode("FIN");
+        employeeRequest.setDepartmentId(2L);
+
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(departmentCatalog.find(2L)).thenReturn(Optional.of(catalogEntry(otherDepartment)));
+        when(departmentRepository.getReferenceById(2L)).thenReturn(otherDepartment);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(employee);
+
+        // Act
+        employeeService.updateEmployee(1L, employeeRequest);
+
+        // Assert
+        verify(departmentRepository).adjustEmployeeCount(1L, -1);
+        verify(departmentRepository).adjustEmployeeCount(2L, 1);
+    }
+
+    @Test
+    void updateEmployee_WithManagerInOwnReportingChain_ShouldThrowBusinessRuleViolationException() {
+        // Arrange
+        employeeRequest.setManagerId(5L);
+        EmployeeRepository.WriteConflicts conflicts = mock(EmployeeRepository.WriteConflicts.class);
+        when(conflicts.getManagerExists()).thenReturn(true);
+        when(conflicts.getManagerInReportingChain()).thenReturn(true);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(departmentCatalog.find(1L)).thenReturn(Optional.of(catalogEntry(department)));
+        when(departmentRepository.getReferenceById(1L)).thenReturn(department);
+        when(employeeRepository.checkWriteConflicts("EMP001", "john.doe@company.com", 5L, 1L)).thenReturn(conflicts);
+
+        // Act & Assert
+        assertThrows(BusinessRuleViolationException.class,
+            () -> employeeService.updateEmployee(1L, employeeRequest));
+
+        verify(employeeRepository, never()).saveAndFlush(any(Employee.class));
+        verify(hierarchyRepository, never()).moveSubtree(any(), any());
+    }
+
+    @Test
+    void updateEmployee_WithNewManager_ShouldMoveSubtree() {
+        // Arrange
+        employeeRequest.setManagerId(5L);
+        EmployeeRepository.WriteConflicts conflicts = mock(EmployeeRepository.WriteConflicts.class);
+        when(conflicts.getManagerExists()).thenReturn(true);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+        when(departmentCatalog.find(1L)).thenReturn(Optional.of(catalogEntry(department)));
+        when(departmentRepository.getReferenceById(1L)).thenReturn(department);
+        when(employeeRepository.checkWriteConflicts("EMP001", "john.doe@company.com", 5L, 1L)).thenReturn(conflicts);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        employeeService.updateEmployee(1L, employeeRequest);
+
+        // Assert
+        verify(hierarchyRepository).moveSubtree(1L, 5L);
     }
 
     @Test
@@ -199,8 +310,9 @@ class EmployeeServiceTest {
         assertThrows(ResourceNotFoundException.class, 
             () -> employeeService.updateEmployee(employeeId, employeeRequest));
         
-        verify(employeeRepository, never()).save(any(Employee.class));
-        verify(employeeEventProducer, never()).sendEmployeeUpdatedEvent(any(Employee.class));
+        verify(employeeRepository, never()).saveAndFlush(any(Employee.class));
+        verify(employeeEventProducer, never())
+                .sendEmployeeUpdatedEvent(any(EmployeeSnapshot.class), any(Employee.class));
     }
 
     @Test
@@ -217,6 +329,23 @@ class EmployeeServiceTest {
         // Assert
         verify(employeeRepository).delete(employee);
         verify(employeeEventProducer).sendEmployeeDeletedEvent(employee);
+        verify(departmentRepository).adjustEmployeeCount(1L, -1);
+        verify(profileCache).invalidate("EMP001");
+    }
+
+    @Test
+    void deleteEmployee_ShouldLockTheRowBeforeAppendingTheEvent() {
+        // Arrange
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+
+        // Act
+        employeeService.deleteEmployee(1L);
+
+        // Assert - the flushed DELETE holds the row lock, so a concurrent update's event cannot follow it
+        InOrder inOrder = inOrder(employeeRepository, employeeEventProducer);
+        inOrder.verify(employeeRepository).delete(employee);
+        inOrder.verify(employeeRepository).flush();
+        inOrder.verify(employeeEventProducer).sendEmployeeDeletedEvent(employee);
     }
 
     @Test
@@ -286,4 +415,55 @@ class EmployeeServiceTest {
         assertThrows(ResourceNotFoundException.class, 
             () -> employeeService.getEmployeeByEmployeeCode(employeeCode));
     }
-}
\ No newline at end of file
+
+    @Test
+    void createEmployees_WhenTheBatchFlushHitsAConcurrentDuplicate_ShouldBlameThatRowAndRollBack() {
+        // Arrange - the email was free when checked, then taken before the flush
+        EmployeeRequest second = new EmployeeRequest();
+        second.setEmployeeCode("EMP002");
+        second.setFirstName("Jane");
+        second.setLastName("Doe");
+        second.setEmail("jane.doe@company.com");
+        second.setHireDate(LocalDate.now());
+        second.setSalary(new BigDecimal("75000.00"));
+        second.setDepartmentId(1L);
+        when(departmentCatalog.find(1L)).thenReturn(Optional.of(catalogEntry(department)));
+        when(departmentRepository.getReferenceById(1L)).thenReturn(department);
+        SQLException sqlException = new SQLException(
+                "duplicate key value violates unique constraint \"uk_employees_email\"\n"
+                        + "  Detail: Key (email)=(jane.doe@company.com) already exists.", "23505");
+        doThrow(new DataIntegrityViolationException("could not execute batch", sqlException))
+                .when(employeeRepository).flush();
+        TransactionStatus transaction = mock(TransactionStatus.class);
+
+        // Act
+        List<BulkEmployeeResult> results;
+        try (MockedStatic<TransactionAspectSupport> transactions = mockStatic(TransactionAspectSupport.class)) {
+            transactions.when(TransactionAspectSupport::currentTransactionStatus).thenReturn(transaction);
+            results = employeeService.createEmployees(List.of(employeeRequest, second));
+        }
+
+        // Assert
+        verify(transaction).setRollbackOnly();
+        assertFalse(results.get(0).isCreated());
+        assertEquals(List.of("Not created: the batch was rolled back because rows [1] failed"),
+                results.get(0).getErrors());
+        assertFalse(results.get(1).isCreated());
+        assertEquals(List.of("Employee with email 'jane.doe@company.com' already exists"),
+                results.get(1).getErrors());
+        verifyNoInteractions(hierarchyRepository, employeeEventProducer);
+    }
+
+    // Helper
+    private static DepartmentSnapshot.Entry catalogEntry(Department department) {
+        return new DepartmentSnapshot.Entry(department.getId(), department.getName(), department.getCode(),
+                department.getDescription());
+    }
+
+    // Helper - what the repository throws when a unique constraint rejects the flush
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        SQLException sqlException = new SQLException("duplicate key value violates unique constraint", "23505");
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+    }
+}
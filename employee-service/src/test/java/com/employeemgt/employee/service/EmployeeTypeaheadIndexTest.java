@@ -0,0 +1,127 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.EmployeeSuggestion;
+import com.employeemgt.employee.entity.Employee;
+import com.employeemgt.employee.event.EmployeeChangedEvent;
+import com.employeemgt.employee.event.EmployeeChangedEvent.EmployeeSnapshot;
+import com.employeemgt.employee.model.EmployeeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeTypeaheadIndexTest {
+
+    private EmployeeTypeaheadIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeTypeaheadIndex();
+        index.onEmployeeChanged(EmployeeChangedEvent.created(employee(1L, "EMP001", "John", "Doe", "john.doe@company.com")));
+        index.onEmployeeChanged(EmployeeChangedEvent.created(employee(2L, "EMP002", "Johnny", "Smith", "jsmith@company.com")));
+        index.onEmployeeChanged(EmployeeChangedEvent.created(employee(3L, "EMP003", "Jane", "Johnson", "jane.j@company.com")));
+    }
+
+    @Test
+    void search_ShouldRankExactMatchesFirst() {
+        // Act
+        List<EmployeeSuggestion> suggestions = index.search("john", 10);
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), suggestions.stream().map(EmployeeSuggestion::getId).toList());
+        assertEquals("John Doe", suggestions.get(0).getFullName());
+    }
+
+    @Test
+    void search_WithSeveralTerms_ShouldRequireEveryTerm() {
+        // Act
+        List<EmployeeSuggestion> suggestions = index.search("jo SM", 10);
+
+        // Assert
+        assertEquals(1, suggestions.size());
+        assertEquals(2L, suggestions.get(0).getId());
+    }
+
+    @Test
+    void search_ShouldMatchCodeAndEmailPrefixesAndHonourLimit() {
+        assertEquals(3, index.search("emp00", 10).size());
+        assertEquals(2, index.search("emp", 2).size());
+        assertEquals(2L, index.search("jsm", 10).get(0).getId());
+    }
+
+    @Test
+    void onEmployeeChanged_ShouldReflectUpdatesAndDeletes() {
+        // Arrange
+        Employee renamed = employee(1L, "EMP001", "Jonathan", "Doe", "john.doe@company.com");
+        EmployeeSnapshot previous = EmployeeSnapshot.of(employee(1L, "EMP001", "John", "Doe", "john.doe@company.com"));
+
+        // Act
+        index.onEmployeeChanged(EmployeeChangedEvent.updated(previous, renamed));
+        index.onEmployeeChanged(EmployeeChangedEvent.deleted(employee(2L, "EMP002", "Johnny", "Smith", "jsmith@company.com")));
+
+        // Assert
+        assertEquals("Jonathan Doe", index.search("jonathan", 10).get(0).getFullName());
+        assertTrue(index.search("smith", 10).isEmpty());
+        assertEquals(Set.of(1L, 3L),
+                index.search("jo", 10).stream().map(EmployeeSuggestion::getId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void search_WithOneCharacterTerms_ShouldNotScanTheIndex() {
+        assertTrue(index.search("j", 10).isEmpty());
+        assertTrue(index.search("j s", 10).isEmpty());
+        assertEquals(1, index.search("j smith", 10).size());
+    }
+
+    @Test
+    void onEmployeeEvent_FromAnotherInstance_ShouldApplyDeltasAndDeletes() {
+        // Arrange - only the last name changed, so the event carries no first name or email
+        EmployeeEvent renamed = new EmployeeEvent("event-1", 3L, "EMP003", null, "Jackson", null, null, "UPDATE");
+        renamed.setChangedFields(List.of(EmployeeEvent.LAST_NAME));
+        EmployeeEvent created = new EmployeeEvent("event-2", 4L, "EMP004", "Ada", "Lovelace",
+                "ada@company.com", "Engineering", "CREATE");
+        EmployeeEvent deleted = new EmployeeEvent("event-3", 2L, "EMP002", null, null, null, null, "DELETE");
+
+        // Act
+        index.onEmployeeEvent(renamed);
+        index.onEmployeeEvent(created);
+        index.onEmployeeEvent(deleted);
+
+        // Assert
+        List<EmployeeSuggestion> jackson = index.search("jackson", 10);
+        assertEquals(1, jackson.size());
+        assertEquals("Jane Jackson", jackson.get(0).getFullName());
+        assertEquals("jane.j@company.com", jackson.get(0).getEmail());
+        assertTrue(index.search("johnson", 10).isEmpty());
+        assertEquals(4L, index.search("ada", 10).get(0).getId());
+        assertTrue(index.search("smith", 10).isEmpty());
+    }
+
+    @Test
+    void onEmployeeEvent_EchoingALocalWrite_ShouldLeaveTheIndexAlone() {
+        // Arrange - the employee-events record of the write setUp already indexed
+        EmployeeEvent echo = new EmployeeEvent("event-1", 2L, "EMP002", "Johnny", "Smith",
+                "jsmith@company.com", null, "CREATE");
+
+        // Act
+        index.onEmployeeEvent(echo);
+
+        // Assert - still in its original slot, so still ahead of the equally ranked Jane Johnson
+        assertEquals(List.of(1L, 2L, 3L), index.search("john", 10).stream().map(EmployeeSuggestion::getId).toList());
+    }
+
+    // Helper
+    private Employee employee(Long id, String code, String firstName, String lastName, String email) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployeeCode(code);
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmail(email);
+        return employee;
+    }
+}
@@ -0,0 +1,166 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.DepartmentFilterRequest;
+import com.employeemgt.employee.dto.EmployeeFilterRequest;
+import com.employeemgt.employee.entity.Department;
+import com.employeemgt.employee.entity.Employee;
+import com.employeemgt.employee.repository.DepartmentRepository;
+import com.employeemgt.employee.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.beans.PropertyDescriptor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Keeps the SQL behind count=estimate in step with the Specifications the list pages use:
+ * every filter property needs a sample here, and each sample must count the same rows both ways
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class EstimateConditionsTest {
+
+    // Paging, sorting and shaping properties - everything else on a filter request is a filter
+    private static final Set<String> NON_FILTER_PROPERTIES = Set.of(
+            "page", "perPage", "after", "sortBy", "count", "fields");
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Department engineering;
+    private Employee manager;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        departmentRepository.deleteAll();
+
+        engineering = departmentRepository.save(new Department("Engineering", "Engineering Department", "ENG"));
+        Department sales = departmentRepository.save(new Department("Sales", "Sales Department", "SAL"));
+
+        manager = employeeRepository.save(employee("EMP000", "Ada", "Lovelace", LocalDate.of(2015, 1, 1), engineering));
+        employeeRepository.save(employee("EMP001", "Grace", "Hopper", LocalDate.of(2018, 6, 1), engineering));
+        employeeRepository.save(employee("EMP002", "Alan", "O_Neil", LocalDate.of(2020, 3, 15), sales));
+        employeeRepository.save(employee("EMP003", "Linus", "Torvalds", LocalDate.of(2022, 9, 30), sales));
+
+        Employee onLeave = employeeRepository.findByEmployeeCode("EMP001").orElseThrow();
+        onLeave.setStatus(Employee.EmployeeStatus.ON_LEAVE);
+        onLeave.setManagerId(manager.getId());
+        employeeRepository.save(onLeave);
+
+        entityManager.flush();
+    }
+
+    @Test
+    void employeeEstimateConditions_ShouldMatchTheSpecificationForEveryFilter() {
+        Map<String, List<Object>> samples = new LinkedHashMap<>();
+        samples.put("employeeNumber", List.of("EMP001"));
+        samples.put("departmentId", List.of(engineering.getId()));
+        samples.put("status", List.of("on_leave", "ACTIVE", "not-a-status"));
+        samples.put("managerId", List.of(manager.getId()));
+        samples.put("name", List.of("ov", "O_N", "%"));
+        samples.put("hireDateFrom", List.of(LocalDate.of(2018, 6, 1)));
+        samples.put("hireDateTo", List.of(LocalDate.of(2020, 3, 15)));
+
+        for (String property : filterProperties(EmployeeFilterRequest.class)) {
+            assertTrue(samples.containsKey(property),
+                    "New filter '" + property + "': add it to EmployeeService.estimateConditions and a sample here");
+            for (Object value : samples.get(property)) {
+                // Arrange
+                EmployeeFilterRequest filter = new EmployeeFilterRequest();
+                new BeanWrapperImpl(filter).setPropertyValue(property, value);
+                List<Object> params = new ArrayList<>();
+
+                // Act
+                long exact = employeeService.getEmployeesWithFilters(filter).getTotalElements();
+                long estimated = countWhere("employees", EmployeeService.estimateConditions(filter, params), params);
+
+                // Assert
+                assertEquals(exact, estimated, property + "=" + value);
+            }
+        }
+    }
+
+    @Test
+    void departmentEstimateConditions_ShouldMatchTheSpecificationForEveryFilter() {
+        Map<String, List<Object>> samples = new LinkedHashMap<>();
+        samples.put("id", List.of(engineering.getId()));
+        samples.put("code", List.of("SAL"));
+        samples.put("name", List.of("GINE", "sales"));
+
+        for (String property : filterProperties(DepartmentFilterRequest.class)) {
+            assertTrue(samples.containsKey(property),
+                    "New filter '" + property + "': add it to DepartmentService.estimateConditions and a sample here");
+            for (Object value : samples.get(property)) {
+                // Arrange
+                DepartmentFilterRequest filter = new DepartmentFilterRequest();
+                new BeanWrapperImpl(filter).setPropertyValue(property, value);
+                List<Object> params = new ArrayList<>();
+
+                // Act
+                long exact = departmentService.getDepartmentsWithFilters(filter).getTotalElements();
+                long estimated = countWhere("departments", DepartmentService.estimateConditions(filter, params), params);
+
+                // Assert
+                assertEquals(exact, estimated, property + "=" + value);
+            }
+        }
+    }
+
+    // Helper
+    private long countWhere(String table, List<String> conditions, List<Object> params) {
+        String sql = "SELECT count(*) FROM " + table
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions));
+        return jdbcTemplate.queryForObject(sql, Long.class, params.toArray());
+    }
+
+    // Helper
+    private static List<String> filterProperties(Class<?> filterClass) {
+        List<String> properties = new ArrayList<>();
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(filterClass)) {
+            if (descriptor.getWriteMethod() != null && !NON_FILTER_PROPERTIES.contains(descriptor.getName())) {
+                properties.add(descriptor.getName());
+            }
+        }
+        return properties;
+    }
+
+    // Helper
+    private static Employee employee(String code, String firstName, String lastName, LocalDate hireDate,
+                                     Department department) {
+        return new Employee(code, firstName, lastName, code.toLowerCase() + "@company.com", hireDate,
+                "Engineer", new BigDecimal("50000.00"), department);
+    }
+}
@@ -0,0 +1,310 @@
+package com.employeemgt.employee.service;
+
+import com.employeemgt.employee.dto.OrgGraphSummary;
+import com.employeemgt.employee.dto.OrgNodeStats;
+import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrgGraphTest {
+
+    private static final byte ACTIVE = OrgGraph.Columns.status(EmployeeStatus.ACTIVE);
+    private static final byte TERMINATED = OrgGraph.Columns.status(EmployeeStatus.TERMINATED);
+
+    @Test
+    void getNode_ShouldReportSubtreeSizeAndDepth() {
+        // Arrange - 1 manages 2 and 3, 2 manages 4 and 5
+        OrgGraph graph = sampleTree();
+
+        // Act
+        OrgNodeStats root = graph.getNode(1L);
+        OrgNodeStats middle = graph.getNode(2L);
+        OrgNodeStats leaf = graph.getNode(5L);
+
+        // Assert
+        assertEquals(5, root.getSubtreeSize());
+        assertEquals(2, root.getDirectReports());
+        assertEquals(0, root.getDepth());
+        assertNull(root.getManagerId());
+        assertEquals(3, middle.getSubtreeSize());
+        assertEquals(1, middle.getDepth());
+        assertEquals(1, leaf.getSubtreeSize());
+        assertEquals(2, leaf.getDepth());
+        assertFalse(leaf.isInCycle());
+        assertNull(graph.getNode(6L));
+    }
+
+    @Test
+    void getSummary_ShouldBuildDepthHistogram() {
+        // Act
+        OrgGraphSummary summary = sampleTree().getSummary();
+
+        // Assert
+        assertEquals(5, summary.getEmployees());
+        assertEquals(1, summary.getRoots());
+        assertEquals(2, summary.getMaxDepth());
+        assertArrayEquals(new int[]{1, 2, 2}, summary.getDepthHistogram());
+        assertEquals(0, summary.getCycles());
+        assertEquals(0, summary.getUnrooted());
+    }
+
+    @Test
+    void build_ShouldDetectCyclesAndTheirDependents() {
+        // Arrange - 2 -> 3 -> 4 -> 2 is a cycle, 5 reports into it
+        OrgGraph.Columns columns = new OrgGraph.Columns(5);
+        columns.add(1L, OrgGraph.NO_MANAGER, 10L, ACTIVE);
+        columns.add(2L, 4L, 10L, ACTIVE);
+        columns.add(3L, 2L, 10L, ACTIVE);
+        columns.add(4L, 3L, 10L, ACTIVE);
+        columns.add(5L, 3L, 10L, ACTIVE);
+
+        // Act
+        OrgGraph graph = columns.build();
+
+        // Assert
+        assertEquals(List.of(List.of(2L, 4L, 3L)), graph.getCycles(10));
+        assertEquals(1, graph.getSummary().getCycles());
+        assertEquals(4, graph.getSummary().getUnrooted());
+        assertTrue(graph.getNode(3L).isInCycle());
+        assertNull(graph.getNode(3L).getSubtreeSize());
+        assertNull(graph.getNode(5L).getDepth());
+        assertEquals(1, graph.getNode(5L).getSubtreeSize());
+        assertEquals(1, graph.getNode(1L).getSubtreeSize());
+    }
+
+    @Test
+    void getOrphans_ShouldListMissingAndInactiveManagers() {
+        // Arrange - 2 reports to a terminated manager, 3 to one that does not exist
+        OrgGraph.Columns columns = new OrgGraph.Columns(3);
+        columns.add(1L, OrgGraph.NO_MANAGER, 10L, TERMINATED);
+        columns.add(2L, 1L, 10L, ACTIVE);
+        columns.add(3L, 99L, 10L, ACTIVE);
+
+        // Act
+        OrgGraph graph = columns.build();
+
+        // Assert
+        assertEquals(List.of(2L, 3L), graph.getOrphans(10));
+        assertEquals(List.of(2L), graph.getOrphans(1));
+        assertEquals(1, graph.getSummary().getMissingManagers());
+        assertEquals(1, graph.getSummary().getInactiveManagers());
+    }
+
+    @Test
+    void getLargestSpans_ShouldOrderByDirectReports() {
+        // Act
+        List<OrgNodeStats> spans = sampleTree().getLargestSpans(10);
+
+        // Assert - ties go to the lower id, employees without reports are left out
+        assertEquals(2, spans.size());
+        assertEquals(1L, spans.get(0).getEmployeeId());
+        assertEquals(2L, spans.get(1).getEmployeeId());
+    }
+
+    @Test
+    void withChanges_ShouldUpsertAndRemove() {
+        // Arrange - move 4 under 3, remove 5, add 6 under 4
+        OrgGraph.Columns changes = new OrgGraph.Columns(3);
+        changes.add(4L, 3L, 10L, ACTIVE);
+        changes.add(5L, OrgGraph.NO_MANAGER, 0L, OrgGraph.NO_STATUS);
+        changes.add(6L, 4L, 10L, ACTIVE);
+
+        // Act
+        OrgGraph graph = sampleTree().withChanges(changes, new boolean[]{false, true, false});
+
+        // Assert
+        assertEquals(5, graph.size());
+        assertNull(graph.getNode(5L));
+        assertEquals(3, graph.getNode(3L).getSubtreeSize());
+        assertEquals(1, graph.getNode(2L).getSubtreeSize());
+        assertEquals(3, graph.getNode(6L).getDepth());
+        assertArrayEquals(new int[]{1, 2, 1, 1}, graph.getSummary().getDepthHistogram());
+    }
+
+    @Test
+    void applyChanges_ShouldPatchInPlaceLikeARebuild() {
+        // Arrange - move 4 under 3, remove 5, add 6 under 4, terminate 3
+        OrgGraph graph = sampleTree();
+        OrgGraph.Columns changes = new OrgGraph.Columns(4);
+        changes.add(3L, 1L, 20L, TERMINATED);
+        changes.add(4L, 3L, 10L, ACTIVE);
+        changes.add(5L, OrgGraph.NO_MANAGER, 0L, OrgGraph.NO_STATUS);
+        changes.add(6L, 4L, 10L, ACTIVE);
+        boolean[] removed = {false, false, true, false};
+        OrgGraph rebuilt = sampleTree().withChanges(changes, removed);
+
+        // Act
+        int applied = graph.applyChanges(changes, removed);
+
+        // Assert
+        assertEquals(4, applied);
+        assertSameGraph(rebuilt, graph, 1L, 2L, 3L, 4L, 6L);
+        assertNull(graph.getNode(5L));
+        assertEquals(List.of(4L), graph.getOrphans(10));
+    }
+
+    @Test
+    void applyChanges_ShouldMatchARebuildAfterRandomWrites() {
+        // Arrange - a random forest, then batches of moves, inserts, removals and status changes
+        Random random = new Random(7);
+        TreeMap<Long, long[]> employees = new TreeMap<>();
+        for (long id = 1; id <= 200; id++) {
+            employees.put(id, new long[]{id == 1 ? OrgGraph.NO_MANAGER : 1 + random.nextInt((int) id - 1), ACTIVE});
+        }
+        OrgGraph graph = build(employees);
+        long nextId = 201;
+
+        for (int batch = 0; batch < 200; batch++) {
+            OrgGraph.Columns changes = new OrgGraph.Columns(4);
+            boolean[] removed = new boolean[4];
+            TreeMap<Long, long[]> written = new TreeMap<>();
+            long target = 1 + random.nextInt((int) nextId - 1);
+            long manager = random.nextInt(5) == 0 ? OrgGraph.NO_MANAGER : 1 + random.nextInt((int) nextId - 1);
+            written.put(target, random.nextInt(8) == 0 ? null
+                    : new long[]{manager, random.nextInt(4) == 0 ? TERMINATED : ACTIVE});
+            written.put(nextId, new long[]{1 + random.nextInt((int) nextId - 1), ACTIVE});
+            nextId++;
+            int i = 0;
+            for (var write : written.entrySet()) {
+                long[] employee = write.getValue();
+                removed[i++] = employee == null;
+                changes.add(write.getKey(), employee != null ? employee[0] : OrgGraph.NO_MANAGER, 10L,
+                        employee != null ? (byte) employee[1] : OrgGraph.NO_STATUS);
+            }
+
+            // Act - whatever cannot be patched (a write that would close a cycle) is merged by a rebuild
+            int applied = graph.applyChanges(changes, removed);
+            if (applied < changes.size) {
+                graph = graph.withChanges(changes, removed, applied);
+            }
+            for (int c = 0; c < changes.size; c++) {
+                if (removed[c]) {
+                    employees.remove(changes.ids[c]);
+                } else {
+                    employees.put(changes.ids[c], new long[]{changes.managerIds[c], changes.statuses[c]});
+                }
+            }
+
+            // Assert
+            assertSameGraph(build(employees), graph,
+                    employees.keySet().stream().mapToLong(Long::longValue).toArray());
+        }
+    }
+
+    @Test
+    void applyChanges_WithAnIdBelowTheLargest_ShouldStopForARebuild() {
+        // Arrange - 4 was removed, so re-adding it has no slot to go into
+        OrgGraph graph = sampleTree();
+        OrgGraph.Columns removal = new OrgGraph.Columns(1);
+        removal.add(4L, OrgGraph.NO_MANAGER, 0L, OrgGraph.NO_STATUS);
+        graph.applyChanges(removal, new boolean[]{true});
+        OrgGraph.Columns changes = new OrgGraph.Columns(2);
+        changes.add(4L, 3L, 10L, ACTIVE);
+        changes.add(6L, 1L, 10L, ACTIVE);
+
+        // Act
+        int applied = graph.applyChanges(changes, new boolean[2]);
+        OrgGraph merged = graph.withChanges(changes, new boolean[2], applied);
+
+        // Assert
+        assertEquals(0, applied);
+        assertEquals(6, merged.size());
+        assertEquals(3L, merged.getNode(4L).getManagerId());
+    }
+
+    @Test
+    void reconcile_ShouldReturnOnlyTheRowsThatDiffer() {
+        // Arrange - the scan moved 4, dropped 5 and found 6
+        OrgGraph graph = sampleTree();
+        OrgGraph.Reconciliation reconciliation = graph.reconcile();
+        reconciliation.add(1L, OrgGraph.NO_MANAGER, 10L, ACTIVE);
+        reconciliation.add(2L, 1L, 10L, ACTIVE);
+        reconciliation.add(3L, 1L, 20L, ACTIVE);
+        reconciliation.add(4L, 3L, 10L, ACTIVE);
+        reconciliation.add(6L, 4L, 10L, ACTIVE);
+
+        // Act
+        OrgGraph.Columns changes = reconciliation.finish();
+
+        // Assert
+        assertEquals(3, changes.size);
+        assertArrayEquals(new long[]{4L, 5L, 6L}, Arrays.copyOf(changes.ids, 3));
+        assertArrayEquals(new boolean[]{false, true, false}, Arrays.copyOf(reconciliation.removed(), 3));
+    }
+
+    @Test
+    void add_OutOfOrder_ShouldThrowException() {
+        // Arrange
+        OrgGraph.Columns columns = new OrgGraph.Columns(2);
+        columns.add(2L, OrgGraph.NO_MANAGER, 10L, ACTIVE);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> columns.add(1L, OrgGraph.NO_MANAGER, 10L, ACTIVE));
+    }
+
+    @Test
+    void empty_ShouldAnswerEveryQuery() {
+        // Act
+        OrgGraphSummary summary = OrgGraph.EMPTY.getSummary();
+
+        // Assert
+        assertEquals(0, summary.getEmployees());
+        assertEquals(0, summary.getMaxDepth());
+        assertTrue(OrgGraph.EMPTY.getCycles(10).isEmpty());
+        assertTrue(OrgGraph.EMPTY.getLargestSpans(10).isEmpty());
+        assertNull(OrgGraph.EMPTY.getNode(1L));
+    }
+
+    // Helper - employee id -> {manager id, status}
+    private OrgGraph build(TreeMap<Long, long[]> employees) {
+        OrgGraph.Columns columns = new OrgGraph.Columns(employees.size());
+        employees.forEach((id, employee) -> columns.add(id, employee[0], 10L, (byte) employee[1]));
+        return columns.build();
+    }
+
+    // Helper
+    private void assertSameGraph(OrgGraph expected, OrgGraph actual, long... employeeIds) {
+        OrgGraphSummary want = expected.getSummary();
+        OrgGraphSummary got = actual.getSummary();
+        assertEquals(want.getEmployees(), got.getEmployees());
+        assertEquals(want.getRoots(), got.getRoots());
+        assertEquals(want.getMaxDepth(), got.getMaxDepth());
+        assertArrayEquals(want.getDepthHistogram(), got.getDepthHistogram());
+        assertEquals(want.getUnrooted(), got.getUnrooted());
+        assertEquals(want.getMissingManagers(), got.getMissingManagers());
+        assertEquals(want.getInactiveManagers(), got.getInactiveManagers());
+        assertEquals(want.getCycles(), got.getCycles());
+        assertEquals(expected.getOrphans(Integer.MAX_VALUE), actual.getOrphans(Integer.MAX_VALUE));
+        assertEquals(spanIds(expected), spanIds(actual));
+        for (long id : employeeIds) {
+            OrgNodeStats wantNode = expected.getNode(id);
+            OrgNodeStats gotNode = actual.getNode(id);
+            assertEquals(wantNode.getManagerId(), gotNode.getManagerId(), "manager of " + id);
+            assertEquals(wantNode.getDepth(), gotNode.getDepth(), "depth of " + id);
+            assertEquals(wantNode.getDirectReports(), gotNode.getDirectReports(), "reports of " + id);
+            assertEquals(wantNode.getSubtreeSize(), gotNode.getSubtreeSize(), "subtree of " + id);
+        }
+    }
+
+    // Helper
+    private List<Long> spanIds(OrgGraph graph) {
+        return graph.getLargestSpans(OrgGraph.MAX_REPORTED_SPANS).stream().map(OrgNodeStats::getEmployeeId).toList();
+    }
+
+    // Helper
+    private OrgGraph sampleTree() {
+        OrgGraph.Columns columns = new OrgGraph.Columns(5);
+        columns.add(1L, OrgGraph.NO_MANAGER, 10L, ACTIVE);
+        columns.add(2L, 1L, 10L, ACTIVE);
+        columns.add(3L, 1L, 20L, ACTIVE);
+        columns.add(4L, 2L, 10L, ACTIVE);
+        columns.add(5L, 2L, 10L, ACTIVE);
+        return columns.build();
+    }
+}
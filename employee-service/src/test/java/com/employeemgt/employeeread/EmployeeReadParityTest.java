@@ -0,0 +1,257 @@
+package com.employeemgt.employeeread;
+
+import com.employeemgt.employee.EmployeeServiceApplication;
+import com.employeemgt.employee.entity.Department;
+import com.employeemgt.employee.entity.Employee;
+import com.employeemgt.employee.entity.Employee.EmployeeStatus;
+import com.employeemgt.employee.repository.DepartmentRepository;
+import com.employeemgt.employee.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sends the same reads to EmployeeController (MVC + JPA) and EmployeeReadController (WebFlux + R2DBC)
+ * over one in-memory database and expects the same status, ETag and body from both
+ * Only the per-response timestamp and request id may differ
+ */
+class EmployeeReadParityTest {
+
+        private static final String DATABASE = "employee-read-parity";
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+
+        private static final WebTestClient CLIENT = WebTestClient.bindToServer().build();
+
+        private static ConfigurableApplicationContext mvcContext;
+        private static ConfigurableApplicationContext reactiveContext;
+        private static String mvc;
+        private static String reactive;
+
+        @BeforeAll
+        static void startBothApplications() {
+                // The MVC application creates the schema, so it starts first
+                mvcContext = new SpringApplicationBuilder(EmployeeServiceApplication.class)
+                                .profiles("test")
+                                .properties(
+                                                "server.port=0",
+                                                "spring.datasource.url=jdbc:h2:mem:" + DATABASE + ";DB_CLOSE_DELAY=-1")
+                                .run();
+                seed(mvcContext);
+
+                reactiveContext = new SpringApplicationBuilder(EmployeeReadApplication.class)
+                                .web(WebApplicationType.REACTIVE)
+                                .profiles("test")
+                                .properties(
+                                                "server.port=0",
+                                                "spring.application.name=employee-read-service",
+                                                "spring.r2dbc.url=r2dbc:h2:mem:///" + DATABASE + ";DB_CLOSE_DELAY=-1")
+                                .run();
+
+                mvc = baseUrl(mvcContext);
+                reactive = baseUrl(reactiveContext);
+        }
+
+        @AfterAll
+        static void stopBothApplications() {
+                if (reactiveContext != null) {
+                        reactiveContext.close();
+                }
+                if (mvcContext != null) {
+                        mvcContext.close();
+                }
+        }
+
+        @Test
+        void offsetPages_ShouldMatchUnderEveryCountMode() {
+                for (String count : List.of("exact", "estimate", "none")) {
+                        // First page has a look-ahead row, the last one does not, the one after it is empty
+                        for (int page = 0; page <= 3; page++) {
+                                assertSameResponse("/api/employees?perPage=2&page=" + page + "&count=" + count, "ADMIN");
+                        }
+                }
+                // Exactly one full page - the look-ahead row is the only proof there is no next page
+                assertSameResponse("/api/employees?perPage=5", "ADMIN");
+        }
+
+        @Test
+        void cursorPages_ShouldMatchAndLeadToTheSameNextPage() {
+                for (String sortBy : List.of("id", "lastName", "hireDate")) {
+                        String after = "";
+                        int pages = 0;
+                        while (after != null) {
+                                JsonNode body = assertSameResponse(
+                                                "/api/employees?perPage=2&sortBy=" + sortBy + "&after=" + after, "ADMIN");
+                                JsonNode nextCursor = body.path("meta").path("nextCursor");
+                                after = nextCursor.isTextual() ? nextCursor.asText() : null;
+                                assertTrue(++pages <= 3, "cursor listing by " + sortBy + " does not end");
+                        }
+                        assertEquals(3, pages);
+                }
+        }
+
+        @Test
+        void filtersAndFields_ShouldSelectTheSameRows() {
+                // Names hold a quote and LIKE wildcards; the ESCAPE '\' literal sits between two placeholders
+                assertSameResponse("/api/employees?name=o'b", "ADMIN");
+                assertSameResponse("/api/employees?name=100%25", "ADMIN");
+                assertSameResponse("/api/employees?name=n_a", "ADMIN");
+                assertSameResponse("/api/employees?status=on_leave&count=none", "ADMIN");
+                assertSameResponse("/api/employees?status=active&hireDateFrom=2016-01-01&hireDateTo=2021-12-31",
+                                "ADMIN");
+                assertSameResponse("/api/employees?fields=id,fullName,department&perPage=3", "ADMIN");
+                assertSameResponse("/api/employees?fields=lastName&sortBy=lastName&after=&perPage=3", "ADMIN");
+        }
+
+        @Test
+        void invalidParameters_ShouldBeRejectedAlike() {
+                assertSameResponse("/api/employees?fields=id,password", "ADMIN");
+                assertSameResponse("/api/employees?after=not-a-cursor", "ADMIN");
+        }
+
+        @Test
+        void roleChecks_ShouldDenyWithTheSameBodies() {
+                assertSameResponse("/api/employees", "USER");
+                assertSameResponse("/api/employees", "AUDITOR");
+                assertSameResponse("/api/employees", null);
+                assertSameResponse("/api/employees/1", "USER");
+        }
+
+        @Test
+        void employeeById_ShouldCarryTheSameETagAndAnswer304Alike() {
+                Long id = mvcContext.getBean(EmployeeRepository.class).findByEmployeeCode("EMP002").orElseThrow().getId();
+
+                // Act
+                String eTag = get(mvc, "/api/employees/" + id, "ADMIN").getResponseHeaders().getETag();
+                assertSameResponse("/api/employees/" + id, "ADMIN");
+
+                // Assert - a tag from either stack is honoured by the other
+                assertNotNull(eTag);
+                for (String baseUrl : List.of(mvc, reactive)) {
+                        CLIENT.get().uri(baseUrl + "/api/employees/" + id)
+                                        .header("X-User-Role", "ADMIN")
+                                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                        .exchange()
+                                        .expectStatus().isNotModified();
+                }
+                assertSameResponse("/api/employees/999999", "ADMIN");
+        }
+
+        @Test
+        void ownProfile_ShouldCarryTheSameETagAndAnswer304Alike() {
+                // Act
+                String eTag = view(reactive, "EMP003").getResponseHeaders().getETag();
+
+                // Assert
+                assertNotNull(eTag);
+                for (String baseUrl : List.of(mvc, reactive)) {
+                        CLIENT.get().uri(baseUrl + "/api/employees/view")
+                                        .header("X-User-Role", "USER")
+                                        .header("X-Employee-Code", "EMP003")
+                                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                        .exchange()
+                                        .expectStatus().isNotModified();
+                }
+                EntityExchangeResult<byte[]> fromMvc = view(mvc, "EMP003");
+                EntityExchangeResult<byte[]> fromReactive = view(reactive, "EMP003");
+                assertEquals(fromMvc.getResponseHeaders().getETag(), fromReactive.getResponseHeaders().getETag());
+                assertEquals(comparable(fromMvc), comparable(fromReactive));
+
+                assertEquals(comparable(view(mvc, "EMP404")), comparable(view(reactive, "EMP404")));
+        }
+
+        // Helper - same status, ETag and body (minus timestamp and request id) from both stacks
+        private static JsonNode assertSameResponse(String uri, String role) {
+                EntityExchangeResult<byte[]> fromMvc = get(mvc, uri, role);
+                EntityExchangeResult<byte[]> fromReactive = get(reactive, uri, role);
+
+                assertEquals(fromMvc.getStatus(), fromReactive.getStatus(), uri);
+                assertEquals(fromMvc.getResponseHeaders().getETag(), fromReactive.getResponseHeaders().getETag(), uri);
+                JsonNode body = comparable(fromMvc);
+                assertEquals(body, comparable(fromReactive), uri);
+                return body;
+        }
+
+        // Helper - the URI is sent as written, so tests choose the percent-encoding
+        private static EntityExchangeResult<byte[]> get(String baseUrl, String uri, String role) {
+                return CLIENT.get().uri(URI.create(baseUrl + uri))
+                                .headers(headers -> {
+                                        if (role != null) {
+                                                headers.set("X-User-Role", role);
+                                        }
+                                })
+                                .exchange()
+                                .expectBody().returnResult();
+        }
+
+        // Helper
+        private static EntityExchangeResult<byte[]> view(String baseUrl, String employeeCode) {
+                return CLIENT.get().uri(baseUrl + "/api/employees/view")
+                                .header("X-User-Role", "USER")
+                                .header("X-Employee-Code", employeeCode)
+                                .exchange()
+                                .expectBody().returnResult();
+        }
+
+        // Helper
+        private static JsonNode comparable(EntityExchangeResult<byte[]> result) {
+                try {
+                        JsonNode body = MAPPER.readTree(result.getResponseBodyContent());
+                        if (body instanceof ObjectNode object) {
+                                object.remove(List.of("timestamp", "requestId"));
+                        }
+                        return body;
+                } catch (Exception e) {
+                        throw new AssertionError("Response is not JSON", e);
+                }
+        }
+
+        // Helper
+        private static String baseUrl(ConfigurableApplicationContext context) {
+                return "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+
+        // Helper - five employees; two share a last name so keyset paging has to break the tie on id
+        private static void seed(ConfigurableApplicationContext context) {
+                DepartmentRepository departmentRepository = context.getBean(DepartmentRepository.class);
+                EmployeeRepository employeeRepository = context.getBean(EmployeeRepository.class);
+                Department engineering = departmentRepository.save(
+                                new Department("Engineering", "Engineering Department", "ENG"));
+                Department research = departmentRepository.save(new Department("Research", "Research Department", "RND"));
+
+                Employee ada = employee("EMP001", "Ada", "Lovelace", "2015-01-01", engineering);
+                Employee grace = employee("EMP002", "Grace", "Hopper", "2018-06-01", engineering);
+                grace.setStatus(EmployeeStatus.ON_LEAVE);
+                Employee conor = employee("EMP003", "Conor", "O'Brien", "2020-03-15", research);
+                Employee percent = employee("EMP004", "Per", "Cent100%", "2019-09-09", research);
+                Employee underscore = employee("EMP005", "Ann_a", "Hopper", "2021-12-31", engineering);
+                underscore.setNotes("Why? Because 'quoted' text");
+                employeeRepository.saveAll(List.of(ada, grace, conor, percent, underscore));
+
+                conor.setManagerId(ada.getId());
+                employeeRepository.save(conor);
+        }
+
+        // Helper
+        private static Employee employee(String code, String firstName, String lastName, String hireDate,
+                                         Department department) {
+                return new Employee(code, firstName, lastName, code.toLowerCase() + "@company.com",
+                                LocalDate.parse(hireDate), "Engineer", new BigDecimal("50000.00"), department);
+        }
+}
@@ -0,0 +1,272 @@
+package com.employeemgt.employeeread;
+
+import com.employeemgt.employee.EmployeeServiceApplication;
+import com.employeemgt.employee.entity.Department;
+import com.employeemgt.employee.entity.Employee;
+import com.employeemgt.employee.repository.DepartmentRepository;
+import com.employeemgt.employee.repository.EmployeeRepository;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import reactor.core.publisher.Mono;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Spring MVC (EmployeeServiceApplication) vs WebFlux + R2DBC (EmployeeReadApplication) on the
+ * employee list, with every database connection taking 200 ms to hand out
+ * Both read the same in-memory database through pools of the same size; the MVC side blocks a
+ * request thread for those 200 ms, the reactive side only delays the connection's publisher.
+ * The MVC run uses platform request threads unless -Dbenchmark.virtual-threads=true.
+ *
+ * Not picked up by the default surefire includes; run it explicitly with
+ * mvn test -Dtest=ReactiveReadLoadBenchmark
+ * It opens 5k concurrent connections by default (-Dbenchmark.connections), so the open-files
+ * limit must allow about twice that for client and server sockets in the one JVM
+ */
+class ReactiveReadLoadBenchmark {
+
+    private static final Duration DB_LATENCY = Duration.ofMillis(200);
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(20);
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 5000);
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("benchmark.virtual-threads");
+    private static final int POOL_SIZE = 50;
+    private static final int EMPLOYEES = 1000;
+    private static final String DATABASE = "reactive-benchmark";
+    private static final String LIST = "/api/employees?perPage=20&count=none";
+
+    @Test
+    void compareThroughputAndTailLatency() throws Exception {
+        Result mvc;
+        Result reactive;
+        // The MVC application creates and seeds the schema, so it stays up while the reactive one runs
+        try (ConfigurableApplicationContext mvcContext = startMvc()) {
+            seed(mvcContext);
+            mvc = drive("mvc", port(mvcContext));
+            try (ConfigurableApplicationContext reactiveContext = startReactive()) {
+                reactive = drive("reactive", port(reactiveContext));
+            }
+        }
+
+        // Assert - only correctness; the numbers depend on the machine
+        System.out.printf("%n%-9s %12s %10s %10s %10s %8s%n", "stack", "connections", "req/s", "p50 ms", "p99 ms",
+                "errors");
+        for (Result result : List.of(mvc, reactive)) {
+            System.out.printf("%-9s %12d %10.1f %10.1f %10.1f %8d%n", result.stack, CONNECTIONS,
+                    result.samples.throughput(), result.samples.percentile(50), result.samples.percentile(99),
+                    result.errors.get());
+        }
+        assertEquals(0, mvc.errors.get());
+        assertEquals(0, reactive.errors.get());
+    }
+
+    // Helper
+    private ConfigurableApplicationContext startMvc() {
+        return new SpringApplicationBuilder(EmployeeServiceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.max-connections=" + (CONNECTIONS + 1000),
+                        "spring.threads.virtual.enabled=" + VIRTUAL_THREADS,
+                        "spring.datasource.url=jdbc:h2:mem:" + DATABASE + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.springframework.web=INFO",
+                        "logging.level.org.hibernate.SQL=INFO",
+                        "logging.level.com.employeemgt=INFO")
+                // Added directly, so it wraps the pool before the virtual-thread limiter does
+                .initializers(applicationContext -> applicationContext.getBeanFactory()
+                        .addBeanPostProcessor(new LatencyInjector()))
+                .run();
+    }
+
+    // Helper
+    private ConfigurableApplicationContext startReactive() {
+        return new SpringApplicationBuilder(EmployeeReadApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.application.name=employee-read-service",
+                        "spring.r2dbc.url=r2dbc:h2:mem:///" + DATABASE + ";DB_CLOSE_DELAY=-1",
+                        "spring.r2dbc.pool.initial-size=" + POOL_SIZE,
+                        "spring.r2dbc.pool.max-size=" + POOL_SIZE,
+                        "logging.level.org.springframework.web=INFO",
+                        "logging.level.com.employeemgt=INFO")
+                .initializers(applicationContext -> applicationContext.getBeanFactory()
+                        .addBeanPostProcessor(new LatencyInjector()))
+                .run();
+    }
+
+    // Helper - one transaction, so the injected latency is paid once
+    private static void seed(ConfigurableApplicationContext context) {
+        DepartmentRepository departmentRepository = context.getBean(DepartmentRepository.class);
+        EmployeeRepository employeeRepository = context.getBean(EmployeeRepository.class);
+        Department department = departmentRepository.save(new Department("Engineering", "Engineering Department", "ENG"));
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            String code = String.format("EMP%05d", i);
+            employees.add(new Employee(code, "First" + i, "Last" + i, code.toLowerCase() + "@company.com",
+                    LocalDate.of(2015, 1, 1).plusDays(i), "Engineer", new BigDecimal("50000.00"), department));
+        }
+        employeeRepository.saveAll(employees);
+    }
+
+    // Helper
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    // Helper - CONNECTIONS closed-loop clients, each on its own connection
+    private static Result drive(String stack, int port) throws Exception {
+        Result result = new Result(stack);
+        HttpRequest list = HttpRequest.newBuilder(URI.create("http://localhost:" + port + LIST))
+                .header("X-User-Role", "ADMIN").build();
+
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            long warmUpEnd = System.nanoTime() + WARM_UP.toNanos();
+            long end = warmUpEnd + MEASURE.toNanos();
+            for (int i = 0; i < CONNECTIONS; i++) {
+                clients.submit(() -> drive(client, list, warmUpEnd, end, result.samples, result.errors));
+            }
+        }
+        return result;
+    }
+
+    // Helper - one closed-loop client; only requests started after the warm-up are recorded
+    private static void drive(HttpClient client, HttpRequest request, long warmUpEnd, long end,
+                              Samples samples, AtomicLong errors) {
+        List<Long> latencies = new ArrayList<>();
+        long started;
+        while ((started = System.nanoTime()) < end) {
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+            if (started >= warmUpEnd) {
+                latencies.add(System.nanoTime() - started);
+            }
+        }
+        samples.addAll(latencies);
+    }
+
+    /**
+     * Holds every connection for DB_LATENCY before handing it out, like a slow database
+     * JDBC connections block the calling thread; R2DBC connections arrive on a timer
+     */
+    private static final class LatencyInjector implements BeanPostProcessor {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public java.sql.Connection getConnection() throws SQLException {
+                        java.sql.Connection connection = super.getConnection();
+                        try {
+                            Thread.sleep(DB_LATENCY.toMillis());
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return connection;
+                    }
+                };
+            }
+            if (bean instanceof ConnectionFactory connectionFactory) {
+                return new DelayedConnectionFactory(connectionFactory);
+            }
+            return bean;
+        }
+    }
+
+    /**
+     * Closeable so the context still shuts the wrapped pool down
+     */
+    private static final class DelayedConnectionFactory implements ConnectionFactory, Closeable {
+        private final ConnectionFactory delegate;
+
+        DelayedConnectionFactory(ConnectionFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Publisher<? extends Connection> create() {
+            return Mono.delay(DB_LATENCY).then(Mono.from(delegate.create()));
+        }
+
+        @Override
+        public ConnectionFactoryMetadata getMetadata() {
+            return delegate.getMetadata();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (delegate instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Result {
+        private final String stack;
+        private final Samples samples = new Samples();
+        private final AtomicLong errors = new AtomicLong();
+
+        Result(String stack) {
+            this.stack = stack;
+        }
+    }
+
+    private static final class Samples {
+        private final List<Long> latencies = new ArrayList<>();
+
+        synchronized void addAll(List<Long> values) {
+            latencies.addAll(values);
+        }
+
+        synchronized double throughput() {
+            return latencies.size() / (double) MEASURE.toSeconds();
+        }
+
+        synchronized double percentile(int percentile) {
+            if (latencies.isEmpty()) {
+                return Double.NaN;
+            }
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+    }
+}
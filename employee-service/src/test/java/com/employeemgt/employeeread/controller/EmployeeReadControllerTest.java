@@ -0,0 +1,326 @@
+package com.employeemgt.employeeread.controller;
+
+import com.employeemgt.employee.config.ReadYourWritesCookie;
+import com.employeemgt.employee.service.ETags;
+import com.employeemgt.employeeread.EmployeeReadApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = EmployeeReadApplication.class,
+    properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.application.name=employee-read-service",
+        "spring.r2dbc.url=r2dbc:h2:mem:///employee-read-test;DB_CLOSE_DELAY=-1",
+        EmployeeReadControllerTest.PRIMARY_URL_PROPERTY
+    }
+)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class EmployeeReadControllerTest {
+
+        private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 5, 1, 9, 30, 15, 123456000);
+        private static final LocalDateTime DEPARTMENT_UPDATED_AT = LocalDateTime.of(2024, 4, 1, 8, 0);
+
+        // spring.r2dbc.url plays the replica; the primary is a second database with the same rows
+        private static final String PRIMARY_URL = "r2dbc:h2:mem:///employee-read-primary;DB_CLOSE_DELAY=-1";
+        static final String PRIMARY_URL_PROPERTY = "app.r2dbc.primary.url=" + PRIMARY_URL;
+        private static final DatabaseClient PRIMARY = DatabaseClient.create(ConnectionFactories.get(PRIMARY_URL));
+
+        @Autowired
+        private WebTestClient webTestClient;
+
+        @Autowired
+        private DatabaseClient databaseClient;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @BeforeEach
+        void setUp() {
+                seed(databaseClient);
+                seed(PRIMARY);
+        }
+
+        // Helper
+        private void seed(DatabaseClient client) {
+                execute(client, "DROP TABLE IF EXISTS employees");
+                execute(client, "DROP TABLE IF EXISTS departments");
+                execute(client, "CREATE TABLE departments (id BIGINT PRIMARY KEY, name VARCHAR(100) NOT NULL, "
+                                + "description VARCHAR(500), code VARCHAR(10) NOT NULL, "
+                                + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+                execute(client, "CREATE TABLE employees (id BIGINT PRIMARY KEY, employee_code VARCHAR(20) NOT NULL, "
+                                + "first_name VARCHAR(50) NOT NULL, last_name VARCHAR(50) NOT NULL, "
+                                + "email VARCHAR(100) NOT NULL, phone_number VARCHAR(20), hire_date DATE NOT NULL, "
+                                + "job_title VARCHAR(100), salary DECIMAL(12, 2), status VARCHAR(20) NOT NULL, "
+                                + "department_id BIGINT REFERENCES departments(id), manager_id BIGINT, notes TEXT, "
+                                + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL)");
+
+                execute(client, "INSERT INTO departments VALUES (1, 'Engineering', 'Engineering Department', 'ENG', "
+                                + "TIMESTAMP '2024-01-01 08:00:00', TIMESTAMP '2024-04-01 08:00:00')");
+                insertEmployee(client, 1, "EMP001", "Ada", "Lovelace", "2015-01-01", "ACTIVE");
+                insertEmployee(client, 2, "EMP002", "Grace", "Hopper", "2018-06-01", "ON_LEAVE");
+                insertEmployee(client, 3, "EMP003", "Alan", "Turing", "2020-03-15", "ACTIVE");
+        }
+
+        @Test
+        void getEmployees_ShouldStreamThePaginatedResponse() {
+                // Act & Assert
+                webTestClient.get().uri("/api/employees?perPage=2")
+                                .header("X-User-Role", "ADMIN")
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectBody()
+                                .jsonPath("$.success").isEqualTo(true)
+                                .jsonPath("$.message").isEqualTo("Employees retrieved successfully")
+                                .jsonPath("$.data.length()").isEqualTo(2)
+                                .jsonPath("$.data[0].employeeCode").isEqualTo("EMP001")
+                                .jsonPath("$.data[0].fullName").isEqualTo("Ada Lovelace")
+                                .jsonPath("$.data[0].department.code").isEqualTo("ENG")
+                                .jsonPath("$.meta.page").isEqualTo(1)
+                                .jsonPath("$.meta.perPage").isEqualTo(2)
+                                .jsonPath("$.meta.hasNext").isEqualTo(true)
+                                .jsonPath("$.meta.total").isEqualTo(3)
+                                .jsonPath("$.meta.totalPages").isEqualTo(2)
+                                .jsonPath("$.meta.totalExact").isEqualTo(true)
+                                .jsonPath("$.timestamp").exists();
+        }
+
+        @Test
+        void getEmployees_LastPage_ShouldReportNoNextPage() {
+                // Act & Assert
+                webTestClient.get().uri("/api/employees?perPage=2&page=1&count=estimate")
+                                .header("X-User-Role", "ADMIN")
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectBody()
+                                .jsonPath("$.data.length()").isEqualTo(1)
+                                .jsonPath("$.data[0].employeeCode").isEqualTo("EMP003")
+                                .jsonPath("$.meta.page").isEqualTo(2)
+                                .jsonPath("$.meta.hasNext").isEqualTo(false)
+                                .jsonPath("$.meta.hasPrevious").isEqualTo(true)
+                                // No planner statistics on H2 - falls back to the exact count
+                                .jsonPath("$.meta.total").isEqualTo(3)
+                                .jsonPath("$.meta.totalExact").isEqualTo(true);
+        }
+
+        @Test
+        void getEmployees_WithFiltersAndFields_ShouldNarrowRowsAndProperties() {
+                // Act & Assert
+                webTestClient.get().uri("/api/employees?status=active&name=TUR&fields=id,fullName")
+                                .header("X-User-Role", "ADMIN")
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectBody()
+                                .jsonPath("$.data.length()").isEqualTo(1)
+                                .jsonPath("$.data[0].id").isEqualTo(3)
+                                .jsonPath("$.data[0].fullName").isEqualTo("Alan Turing")
+                                .jsonPath("$.data[0].email").doesNotExist()
+                                .jsonPath("$.meta.total").isEqualTo(1);
+        }
+
+        @Test
+        void getEmployees_InCursorMode_ShouldFollowTheNextCursor() {
+                // Act
+                Map<?, ?> first = webTestClient.get().uri("/api/employees?after=&sortBy=lastName&perPage=2")
+                                .header("X-User-Role", "ADMIN")
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectBody(Map.class)
+                                .returnResult().getResponseBody();
+
+                // Assert
+                Map<?, ?> meta = (Map<?, ?>) first.get("meta");
+                assertEquals(true, meta.get("hasNext"));
+                assertEquals(2, ((List<?>) first.get("data")).size());
+
+                webTestClient.get().uri("/api/employees?after={after}&perPage=2", meta.get("nextCursor"))
+                                .header("X-User-Role", "ADMIN")
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectBody()
+                                .jsonPath("$.data.length()").isEqualTo(1)
+                                .jsonPath("$.data[0].lastName").isEqualTo("Turing")
+                                .jsonPath("$.meta.hasNext").isEqualTo(false)
+                                .jsonPath("$.meta.page").doesNotExist();
+        }
+
+        @Test
+        void getEmployees_WithUnknownField_ShouldReturn400() {
+                // Act & Assert
+                webTestClient.get().uri("/api/employees?fields=id,password")
+                                .header("X-User-Role", "ADMIN")
+                                .exchange()
+                                .expectStatus().isBadRequest()
+                                .expectBody()
+                                .jsonPath("$.error").isEqualTo("Invalid Request Data");
+        }
+
+        @Test
+        void getEmployees_AsUser_ShouldBeDeniedLikeTheMvcService() {
+                // Act & Assert
+                webTestClient.get().uri("/api/employees")
+                                .header("X-User-Role", "USER")
+                                .exchange()
+                                .expectStatus().isForbidden()
+                                .expectBody()
+                                .jsonPath("$.error").isEqualTo("Access denied")
+                                .jsonPath("$.message").isEqualTo(
+                                                "Insufficient privileges. Required roles: [ADMIN], but user has role: USER");
+
+                webTestClient.get().uri("/api/employees")
+                                .exchange()
+                                .expectStatus().isForbidden()
+                                .expectBody()
+                                .jsonPath("$.message").isEqualTo("User role not found");
+        }
+
+        @Test
+        void roleGuard_ShouldCountDecisionsOnCountersRegisteredAtStartup() {
+                // Arrange - compiled before the first request
+                double denied = meterRegistry.get("employee.authz.decisions")
+                                .tags("route", "EmployeeReadController.getEmployees", "outcome", "denied").counter().count();
+                double allowed = meterRegistry.get("employee.authz.decisions")
+                                .tags("route", "EmployeeReadController.getEmployees", "outcome", "allowed").counter().count();
+
+                // Act
+                webTestClient.get().uri("/api/employees").header("X-User-Role", "USER").exchange()
+                                .expectStatus().isForbidden();
+                webTestClient.get().uri("/api/employees").header("X-User-Role", "ADMIN").exchange()
+                                .expectStatus().isOk();
+
+                // Assert
+                assertEquals(denied + 1, meterRegistry.get("employee.authz.decisions")
+                                .tags("route", "EmployeeReadController.getEmployees", "outcome", "denied").counter().count());
+                assertEquals(allowed + 1, meterRegistry.get("employee.authz.decisions")
+                                .tags("route", "EmployeeReadController.getEmployees", "outcome", "allowed").counter().count());
+        }
+
+        @Test
+        void getEmployeeById_ShouldTagLikeTheMvcServiceAndAnswer304() {
+                // Arrange
+                String eTag = "\"" + ETags.of("employee", 1L, UPDATED_AT, DEPARTMENT_UPDATED_AT) + "\"";
+
+                // Act & Assert
+                webTestClient.get().uri("/api/employees/1")
+                                .header("X-User-Role", "ADMIN")
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+                                .expectBody()
+                                .jsonPath("$.data.employeeCode").isEqualTo("EMP001");
+
+                webTestClient.get().uri("/api/employees/1")
+                                .header("X-User-Role", "ADMIN")
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                .exchange()
+                                .expectStatus().isNotModified();
+        }
+
+        @Test
+        void getEmployeeById_WithAFreshReadYourWritesCookie_ShouldReadThePrimary() {
+                // Arrange - a write the replica has not caught up with yet
+                execute(PRIMARY, "UPDATE employees SET first_name = 'Augusta' WHERE id = 1");
+                String until = Long.toString(System.currentTimeMillis() + 60_000);
+
+                // Act & Assert
+                webTestClient.get().uri("/api/employees/1")
+                                .header("X-User-Role", "ADMIN")
+                                .cookie(ReadYourWritesCookie.NAME, until)
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectBody()
+                                .jsonPath("$.data.firstName").isEqualTo("Augusta");
+
+                webTestClient.get().uri("/api/employees/1")
+                                .header("X-User-Role", "ADMIN")
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectBody()
+                                .jsonPath("$.data.firstName").isEqualTo("Ada");
+        }
+
+        @Test
+        void getEmployeeById_WhenMissing_ShouldReturn404() {
+                // Act & Assert
+                webTestClient.get().uri("/api/employees/99")
+                                .header("X-User-Role", "ADMIN")
+                                .exchange()
+                                .expectStatus().isNotFound()
+                                .expectBody()
+                                .jsonPath("$.error").isEqualTo("Resource Not Found");
+        }
+
+        @Test
+        void getMyDetails_ShouldReturnTheCallersProfileWithETag() {
+                // Act
+                String eTag = webTestClient.get().uri("/api/employees/view")
+                                .header("X-User-Role", "USER")
+                                .header("X-Employee-Code", "EMP002")
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectBody()
+                                .jsonPath("$.message").isEqualTo("Employee profile retrieved successfully")
+                                .jsonPath("$.data.fullName").isEqualTo("Grace Hopper")
+                                .jsonPath("$.data.status").isEqualTo("ON_LEAVE")
+                                .returnResult().getResponseHeaders().getETag();
+
+                // Assert
+                assertNotNull(eTag);
+                webTestClient.get().uri("/api/employees/view")
+                                .header("X-User-Role", "USER")
+                                .header("X-Employee-Code", "EMP002")
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                .exchange()
+                                .expectStatus().isNotModified();
+        }
+
+        @Test
+        void getMyDetails_AsAdmin_ShouldBeDenied() {
+                // Act & Assert
+                webTestClient.get().uri("/api/employees/view")
+                                .header("X-User-Role", "ADMIN")
+                                .header("X-Employee-Code", "EMP001")
+                                .exchange()
+                                .expectStatus().isForbidden();
+        }
+
+        // Helper
+        private void execute(DatabaseClient client, String sql) {
+                client.sql(sql).then().block();
+        }
+
+        // Helper
+        private void insertEmployee(DatabaseClient client, long id, String code, String firstName, String lastName,
+                                    String hireDate, String status) {
+                client.sql("INSERT INTO employees (id, employee_code, first_name, last_name, email, hire_date, "
+                                + "job_title, salary, status, department_id, created_at, updated_at) "
+                                + "VALUES ($1, $2, $3, $4, $5, $6, 'Engineer', 50000.00, $7, 1, $8, $9)")
+                                .bind(0, id)
+                                .bind(1, code)
+                                .bind(2, firstName)
+                                .bind(3, lastName)
+                                .bind(4, code.toLowerCase() + "@company.com")
+                                .bind(5, LocalDate.parse(hireDate))
+                                .bind(6, status)
+                                .bind(7, UPDATED_AT.minusYears(1))
+                                .bind(8, UPDATED_AT)
+                                .then().block();
+        }
+}
@@ -0,0 +1,45 @@
+package com.employeemgt.employeeread.repository;
+
+import com.employeemgt.employee.dto.EmployeeFilterRequest;
+import com.employeemgt.employee.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeReadRepositoryTest {
+
+    @Test
+    void numberPlaceholders_ShouldNumberEachPlaceholderInOrder() {
+        assertEquals("SELECT 1 FROM employees WHERE status = $1 AND manager_id = $2 AND hire_date >= $3",
+                EmployeeReadRepository.numberPlaceholders(
+                        "SELECT 1 FROM employees WHERE status = ? AND manager_id = ? AND hire_date >= ?"));
+    }
+
+    @Test
+    void numberPlaceholders_ShouldLeaveQuestionMarksInLiteralsAlone() {
+        assertEquals("notes = 'why?' AND id = $1 AND note = 'it''s ?' AND name = $2",
+                EmployeeReadRepository.numberPlaceholders(
+                        "notes = 'why?' AND id = ? AND note = 'it''s ?' AND name = ?"));
+    }
+
+    @Test
+    void numberPlaceholders_ShouldNumberAroundTheEscapeLiteralOfTheNameFilter() {
+        // Arrange
+        EmployeeFilterRequest filter = new EmployeeFilterRequest();
+        filter.setStatus("active");
+        filter.setName("a?b");
+        List<Object> params = new ArrayList<>();
+
+        // Act
+        String sql = EmployeeReadRepository.numberPlaceholders(
+                String.join(" AND ", EmployeeService.estimateConditions(filter, params)));
+
+        // Assert
+        assertEquals("status = $1 AND (lower(first_name) LIKE $2 ESCAPE '\\' OR lower(last_name) LIKE $3 ESCAPE '\\')",
+                sql);
+        assertEquals(3, params.size());
+    }
+}
@@ -0,0 +1,9 @@
+-- Objects managed by Flyway in production that Hibernate's create-drop does not generate
+CREATE SEQUENCE IF NOT EXISTS employee_code_seq START WITH 1 INCREMENT BY 1;
+CREATE TABLE IF NOT EXISTS department_catalog_version (id SMALLINT PRIMARY KEY CHECK (id = 1), version BIGINT NOT NULL);
+MERGE INTO department_catalog_version (id, version) KEY (id) VALUES (1, 0);
+CREATE TABLE IF NOT EXISTS employee_outbox (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, event_id VARCHAR(36) NOT NULL, employee_id BIGINT NOT NULL, event_type VARCHAR(20) NOT NULL, payload TEXT NOT NULL, created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL, sent_at TIMESTAMP);
+CREATE TABLE IF NOT EXISTS employee_hierarchy (ancestor_id BIGINT NOT NULL, descendant_id BIGINT NOT NULL, depth INTEGER NOT NULL, PRIMARY KEY (ancestor_id, descendant_id));
+CREATE INDEX IF NOT EXISTS idx_employee_hierarchy_descendant ON employee_hierarchy(descendant_id, depth, ancestor_id);
+CREATE TABLE IF NOT EXISTS employee_hierarchy_lock (id SMALLINT PRIMARY KEY CHECK (id = 1));
+MERGE INTO employee_hierarchy_lock (id) KEY (id) VALUES (1);